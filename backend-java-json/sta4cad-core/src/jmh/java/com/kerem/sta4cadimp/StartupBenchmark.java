@@ -0,0 +1,77 @@
+package com.kerem.sta4cadimp;
+
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CLI'ın uçtan uca duvar saati süresi: her ölçüm yeni bir JVM'de paketlenmiş jar ile küçük bir modeli
+ * dönüştürür. "cds" modu, mvn -Pcds package ile üretilen AppCDS arşivini kullanır. Jar ve arşiv
+ * yolları -Dsta4cad.jar / -Dsta4cad.jsa ile değiştirilebilir (varsayılan: target/ altı).
+ *
+ * <pre>mvn -Pcds package -DskipTests
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="StartupBenchmark"</pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 15)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    @Param({"default", "cds"})
+    public String mode;
+
+    private List<String> command;
+    private Path workDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path jar = Paths.get(System.getProperty("sta4cad.jar", "target/sta4cad-imp.jar")).toAbsolutePath();
+        Path archive = Paths.get(System.getProperty("sta4cad.jsa", "target/sta4cad-imp.jsa")).toAbsolutePath();
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("CLI jar'ı bulunamadı: " + jar + " (önce mvn package çalıştırın)");
+        }
+        if (mode.equals("cds") && !Files.isRegularFile(archive)) {
+            throw new IllegalStateException("CDS arşivi bulunamadı: " + archive + " (önce mvn -Pcds package çalıştırın)");
+        }
+
+        workDir = Files.createTempDirectory("sta4cad-startup");
+        Path input = workDir.resolve("model.st4");
+        new St4ModelGenerator(GeneratorConfig.preset("small")).write(input);
+
+        command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (mode.equals("cds")) command.add("-XX:SharedArchiveFile=" + archive);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add(input.toString());
+        command.add(workDir.resolve("model.json").toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (String name : new String[]{"model.st4", "model.json"}) Files.deleteIfExists(workDir.resolve(name));
+        Files.deleteIfExists(workDir);
+    }
+
+    @Benchmark
+    public int convertInFreshJvm() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectErrorStream(true)
+                .start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) throw new IllegalStateException("CLI çıkış kodu " + exitCode);
+        return exitCode;
+    }
+}
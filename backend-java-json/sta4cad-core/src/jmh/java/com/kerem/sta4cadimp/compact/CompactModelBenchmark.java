@@ -0,0 +1,78 @@
+package com.kerem.sta4cadimp.compact;
+
+import com.kerem.sta4cadimp.entity.Floor;
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.entity.StructuralColumn;
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+import com.kerem.sta4cadimp.service.St4FileParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity grafı ile {@link CompactProject} karşılaştırması. Kurulumda iki modelin JOL ile ölçülen
+ * toplam bellek ayak izi konsola yazılır; benchmark'lar kompakt modelin kurulma ve entity'ye geri
+ * dönüştürülme maliyetini ve tüm kolon koordinatları üzerinden geçen bir döngüyü ölçer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompactModelBenchmark {
+
+    @Param({"medium", "large"})
+    public String size;
+
+    private Project project;
+    private CompactProject compact;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] st4 = new St4ModelGenerator(GeneratorConfig.preset(size)).toBytes();
+        project = new St4FileParser().parse(new ByteArrayInputStream(st4), size + ".st4");
+        compact = CompactProject.of(project);
+        long graphBytes = GraphLayout.parseInstance(project).totalSize();
+        long compactBytes = GraphLayout.parseInstance(compact).totalSize();
+        System.out.printf("%n%s: entity grafı %,d bayt, kompakt %,d bayt (%.1f kat), %d ortak metin%n", size,
+                graphBytes, compactBytes, (double) graphBytes / compactBytes, compact.strings().size());
+    }
+
+    @Benchmark
+    public CompactProject build() {
+        return CompactProject.of(project);
+    }
+
+    @Benchmark
+    public Project materialize() {
+        return compact.toProject();
+    }
+
+    @Benchmark
+    public double sumColumnCoordinatesGraph() {
+        double sum = 0;
+        for (Floor floor : project.getFloors()) {
+            for (StructuralColumn column : floor.getColumns()) {
+                sum += column.getPositionXMetre() + column.getPositionYMetre();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumColumnCoordinatesCompact() {
+        double sum = 0;
+        for (int f = 0; f < compact.floorCount(); f++) {
+            CompactColumns columns = compact.floor(f).columns();
+            for (int i = 0; i < columns.size(); i++) {
+                sum += columns.xMetre(i) + columns.yMetre(i);
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,59 @@
+package com.kerem.sta4cadimp.export;
+
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+import com.kerem.sta4cadimp.service.St4FileParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON ve Smile dışa aktarımının yazma ve (tüketici tarafı) okuma maliyeti. Çıktı boyutları kurulumda
+ * konsola yazılır.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportFormatBenchmark {
+
+    @Param({"medium", "large"})
+    public String size;
+
+    @Param({"JSON", "SMILE"})
+    public ExportFormat format;
+
+    private Project project;
+    private ProjectJsonWriter writer;
+    private ProjectReader reader;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] st4 = new St4ModelGenerator(GeneratorConfig.preset(size)).toBytes();
+        project = new St4FileParser().parse(new ByteArrayInputStream(st4), size + ".st4");
+        writer = new ProjectJsonWriter(format, false);
+        reader = new ProjectReader(format);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(project, out);
+        encoded = out.toByteArray();
+        System.out.printf("%n%s/%s: %d bayt%n", size, format, encoded.length);
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        writer.write(project, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public Project read() throws IOException {
+        return reader.read(new ByteArrayInputStream(encoded));
+    }
+}
@@ -0,0 +1,17 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+
+/**
+ * Benchmark girdileri: St4ModelGenerator'ın sabit tohumlu hazır ayarlarından üretilen .st4 içerikleri.
+ */
+final class BenchmarkInputs {
+
+    private BenchmarkInputs() {
+    }
+
+    static byte[] forSize(String size) {
+        return new St4ModelGenerator(GeneratorConfig.preset(size)).toBytes();
+    }
+}
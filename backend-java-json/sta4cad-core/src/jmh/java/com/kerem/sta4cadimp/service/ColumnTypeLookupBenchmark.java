@@ -0,0 +1,68 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.dtos.ColumnTypeDefinition;
+import com.kerem.sta4cadimp.entity.Floor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kolon tipi çözümlemesi: eski "kat + etiket.substring(1)" String anahtarlı HashMap araması ile
+ * ColumnTypeIndex karşılaştırması. "large" hazır ayarı 9 katlı, kat başına 900 kolon tipli bir modeldir.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnTypeLookupBenchmark {
+
+    @Param({"medium", "large"})
+    public String size;
+
+    private List<ColumnTypeDefinition> definitions;
+    private List<Floor> floors;
+    private int baseCount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        St4FileParser.RawSections sections = new St4FileParser()
+                .readSections(new ByteArrayInputStream(BenchmarkInputs.forSize(size)));
+        definitions = sections.columnTypeDefinitions;
+        floors = sections.floors;
+        baseCount = sections.rawColumns.size();
+    }
+
+    @Benchmark
+    public void stringKeyLookup(Blackhole blackhole) {
+        Map<String, ColumnTypeDefinition> columnTypeMap = new HashMap<>();
+        for (ColumnTypeDefinition typeDef : definitions) columnTypeMap.put(typeDef.typeLabel, typeDef);
+        for (int i = 0; i < baseCount; i++) {
+            ColumnTypeDefinition baseTypeDef = definitions.get(i);
+            for (Floor floor : floors) {
+                if (floor.getOriginalNumber() == 0) continue;
+                blackhole.consume(columnTypeMap.get(floor.getOriginalNumber() + baseTypeDef.typeLabel.substring(1)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void indexedLookup(Blackhole blackhole) {
+        ColumnTypeIndex index = new ColumnTypeIndex(definitions);
+        for (int i = 0; i < baseCount; i++) {
+            ColumnTypeDefinition baseTypeDef = definitions.get(i);
+            long suffix = ColumnTypeIndex.suffixOf(baseTypeDef.typeLabel);
+            for (Floor floor : floors) {
+                if (floor.getOriginalNumber() == 0) continue;
+                blackhole.consume(index.find(floor.getOriginalNumber(), baseTypeDef.typeLabel, suffix));
+            }
+        }
+    }
+}
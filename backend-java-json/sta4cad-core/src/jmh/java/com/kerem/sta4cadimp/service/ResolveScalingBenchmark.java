@@ -0,0 +1,66 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.entity.Project;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ham bölümlerden sonraki çözümleme aşamalarının çekirdek sayısıyla ölçeklenmesi. "sequential" sıralı
+ * yoldur; sayılar paralel yolun o kadar iş parçacıklı bir ForkJoinPool içinde çalıştırılmasıdır.
+ * Tek bir örnek: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ResolveScalingBenchmark"
+ *
+ * <p>Çok çekirdekli sonuçlar henüz kaydedilmedi; tek çekirdekte iş parçacığı sayısı yalnızca ek yükü
+ * gösterir. Ölçeklenme çok çekirdekli bir makinede ölçülmelidir.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResolveScalingBenchmark {
+
+    @Param({"large"})
+    public String size;
+
+    @Param({"sequential", "1", "2", "4", "8"})
+    public String threads;
+
+    private byte[] input;
+    private St4FileParser parser;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = BenchmarkInputs.forSize(size);
+        boolean parallel = !threads.equals("sequential");
+        parser = new St4FileParser().withParallelResolution(parallel);
+        pool = parallel ? new ForkJoinPool(Integer.parseInt(threads)) : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    /** Çözümleme ham bölümleri değiştirdiğinden her çağrıda yeniden okunur. */
+    @State(Scope.Thread)
+    public static class FreshSections {
+        St4FileParser.RawSections sections;
+
+        @Setup(Level.Invocation)
+        public void read(ResolveScalingBenchmark benchmark) throws IOException {
+            sections = benchmark.parser.readSections(new ByteArrayInputStream(benchmark.input));
+        }
+    }
+
+    @Benchmark
+    public Project resolve(FreshSections fresh) {
+        if (pool == null) return parser.buildProject(fresh.sections, "bench.st4");
+        return pool.submit(() -> parser.buildProject(fresh.sections, "bench.st4")).join();
+    }
+}
@@ -0,0 +1,102 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.entity.Axis;
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.export.ProjectJsonWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * St4FileParser'ın sıcak yollarını küçük/orta/çok büyük girdilerde ölçer. Profil ile çalıştırılır:
+ * mvn -Pbenchmark test-compile exec:exec  (varsayılan olarak -prof gc ile GC ayırma hızı da raporlanır)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class St4ParserBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private byte[] input;
+    private String[] axisRefs;
+    private Map<String, Axis> axisMapByLabel;
+    private AxisTable axisTable;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        input = BenchmarkInputs.forSize(size);
+        St4FileParser.RawSections sections = new St4FileParser().readSections(new ByteArrayInputStream(input));
+        axisMapByLabel = new HashMap<>();
+        for (Axis axis : sections.axes) axisMapByLabel.put(axis.getLabel(), axis);
+        axisTable = AxisTable.of(sections.axes);
+        axisRefs = sections.rawBeams.stream()
+                .flatMap(b -> java.util.stream.Stream.of(b.planeAxisRef, b.startSpanAxisRef, b.endSpanAxisRef))
+                .toArray(String[]::new);
+    }
+
+    /** Ham bölüm ayrıştırma: satır okuma + alan ayrıştırma, çözümleme hariç. */
+    @Benchmark
+    public St4FileParser.RawSections sectionParsing() throws IOException {
+        return new St4FileParser().readSections(new ByteArrayInputStream(input));
+    }
+
+    /** Kolon/kiriş/döşeme çözümleme. Ham bölümler her çağrıda tazelenir çünkü çözümleme onları değiştirir. */
+    @State(Scope.Thread)
+    public static class FreshSections {
+        St4FileParser.RawSections sections;
+
+        @Setup(Level.Invocation)
+        public void read(St4ParserBenchmark benchmark) throws IOException {
+            sections = new St4FileParser().readSections(new ByteArrayInputStream(benchmark.input));
+        }
+    }
+
+    @Benchmark
+    public Project resolution(FreshSections fresh) {
+        return new St4FileParser().buildProject(fresh.sections, "bench.st4");
+    }
+
+    @Benchmark
+    public void axisLookup(Blackhole blackhole) {
+        for (String ref : axisRefs) {
+            blackhole.consume(axisTable.resolve(ref));
+        }
+    }
+
+    /** Karşılaştırma için AxisTable öncesindeki etiket haritası tabanlı çözümleme. */
+    @Benchmark
+    public void legacyAxisLookup(Blackhole blackhole) {
+        for (String ref : axisRefs) {
+            blackhole.consume(legacyAxisFromSt4Ref(ref, axisMapByLabel));
+        }
+    }
+
+    private static Axis legacyAxisFromSt4Ref(String st4Ref, Map<String, Axis> axisMapByLabel) {
+        if (st4Ref == null || st4Ref.trim().isEmpty() || st4Ref.length() < 2) { return null; }
+        try {
+            char typeChar = st4Ref.charAt(0);
+            int index = Integer.parseInt(st4Ref.substring(1));
+            String programmaticLabelPrefix = (typeChar == '1') ? "X" : (typeChar == '2') ? "Y" : null;
+            if (programmaticLabelPrefix == null) { return null; }
+            String finalLabel = programmaticLabelPrefix + (index - 1);
+            return axisMapByLabel.get(finalLabel);
+        } catch (Exception e) { return null; }
+    }
+
+    @Benchmark
+    public void parseAndSerialize() throws IOException {
+        Project project = new St4FileParser().parse(new ByteArrayInputStream(input), "bench.st4");
+        new ProjectJsonWriter(false).write(project, OutputStream.nullOutputStream());
+    }
+}
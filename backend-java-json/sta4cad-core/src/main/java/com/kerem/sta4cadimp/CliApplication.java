@@ -0,0 +1,268 @@
+package com.kerem.sta4cadimp;
+
+import com.kerem.sta4cadimp.cache.ConversionCache;
+import com.kerem.sta4cadimp.diagnostics.DiagnosticsJsonWriter;
+import com.kerem.sta4cadimp.diff.ChangeSet;
+import com.kerem.sta4cadimp.diff.ChangeSetJsonWriter;
+import com.kerem.sta4cadimp.diff.ProjectDiff;
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.export.ExportFormat;
+import com.kerem.sta4cadimp.export.ProjectJsonWriter;
+import com.kerem.sta4cadimp.export.ShardedProjectWriter;
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+import com.kerem.sta4cadimp.metrics.ParseMetrics;
+import com.kerem.sta4cadimp.metrics.RunReport;
+import com.kerem.sta4cadimp.server.ConversionServer;
+import com.kerem.sta4cadimp.service.BatchConverter;
+import com.kerem.sta4cadimp.service.St4Converter;
+import com.kerem.sta4cadimp.service.St4FileParser;
+import com.kerem.sta4cadimp.service.St4Watcher;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class CliApplication {
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equalsIgnoreCase("batch")) {
+            System.exit(runBatch(args));
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("generate")) {
+            System.exit(runGenerate(args));
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("diff")) {
+            System.exit(runDiff(args));
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("watch")) {
+            int exitCode = runWatch(args);
+            if (exitCode != 0) System.exit(exitCode);
+            return;
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("serve")) {
+            int exitCode = runServe(args);
+            if (exitCode != 0) System.exit(exitCode);
+            return;
+        }
+
+        CliArguments cli = new CliArguments(args, Set.of("pretty", "mmap", "diagnostics", "sharded", "parallel-resolve"));
+        if (cli.getPositional().size() < 2) {
+            System.err.println("HATA: Gerekli argümanlar sağlanmadı.");
+            System.err.println("Kullanım: java -jar sta4cad-imp.jar <girdi.st4> <çıktı.json> [--pretty] [--format json|smile] [--sharded] [--mmap] [--parallel-resolve] [--charset auto|utf-8|windows-1254] [--cache-dir DİZİN] [--cache-max-mb N] [--report rapor.json] [--diagnostics]");
+            System.err.println("          java -jar sta4cad-imp.jar batch <girdi-dizini|glob> <çıktı-dizini> [--threads N] [--pretty] [--format json|smile] [--sharded] [--mmap] [--parallel-resolve] [--charset auto|utf-8|windows-1254] [--cache-dir DİZİN] [--report rapor.json] [--diagnostics]");
+            System.err.println("          java -jar sta4cad-imp.jar watch <girdi-dizini> [çıktı-dizini] [--debounce-ms 400] [--threads N] [--pretty] [--format json|smile] [--sharded] [--mmap] [--parallel-resolve] [--charset auto|utf-8|windows-1254] [--cache-dir DİZİN] [--diagnostics]");
+            System.err.println("          java -jar sta4cad-imp.jar generate <çıktı.st4> [--preset small|medium|large] [--floors N] ...");
+            System.err.println("          java -jar sta4cad-imp.jar diff <eski.st4> <yeni.st4> <değişiklikler.json> [--pretty] [--tolerance 1e-6] [--charset auto|utf-8|windows-1254]");
+            System.err.println("          java -jar sta4cad-imp.jar serve [--port 8765] [--max-concurrency N] [--max-request-mb 256] [--queue-timeout-ms 30000] [--warmup 3]");
+            System.exit(1);
+        }
+
+        String inputFilePath = cli.positional(0);
+        String outputFilePath = cli.positional(1);
+
+        System.out.println("Girdi dosyası işleniyor: " + inputFilePath);
+        System.out.println("Çıktı dosyası oluşturulacak: " + outputFilePath);
+
+        try {
+            St4Converter converter = new St4Converter(createParser(cli), createWriter(cli), cli.has("mmap"), openCache(cli));
+            if (cli.has("diagnostics")) converter.setDiagnosticsWriter(new DiagnosticsJsonWriter());
+            Path input = Paths.get(inputFilePath);
+            Path output = Paths.get(outputFilePath);
+            ParseMetrics metrics = new ParseMetrics();
+            long start = System.nanoTime();
+            converter.convert(input, output, metrics);
+            if (cli.has("report")) {
+                long elapsed = System.nanoTime() - start;
+                RunReport report = new RunReport("single");
+                report.add(input, output, elapsed, null, metrics);
+                report.write(Paths.get(cli.get("report", null)), elapsed);
+            }
+
+            System.out.println("İşlem başarılı. Çıktı dosyası oluşturuldu: " + outputFilePath);
+            System.exit(0); // Başarılı çıkış kodu
+        } catch (Exception e) {
+            System.err.println("İşlem sırasında kritik bir hata oluştu: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static int runBatch(String[] args) {
+        CliArguments cli = new CliArguments(args, Set.of("pretty", "mmap", "diagnostics", "sharded", "parallel-resolve"));
+        if (cli.getPositional().size() < 3) {
+            System.err.println("Kullanım: java -jar sta4cad-imp.jar batch <girdi-dizini|glob> <çıktı-dizini> [--threads N] [--pretty] [--format json|smile] [--sharded] [--mmap] [--parallel-resolve] [--charset auto|utf-8|windows-1254] [--cache-dir DİZİN] [--report rapor.json] [--diagnostics]");
+            return 1;
+        }
+        try {
+            int threads = cli.getInt("threads", Runtime.getRuntime().availableProcessors());
+            St4Converter converter = new St4Converter(createParser(cli), createWriter(cli), cli.has("mmap"), openCache(cli));
+            if (cli.has("diagnostics")) converter.setDiagnosticsWriter(new DiagnosticsJsonWriter());
+            BatchConverter batch = new BatchConverter(converter, threads, System.out);
+            BatchConverter.Summary summary = batch.run(cli.positional(1), Paths.get(cli.positional(2)));
+            if (cli.has("report")) {
+                RunReport report = new RunReport("batch");
+                for (BatchConverter.FileResult result : summary.results) {
+                    report.add(result.input, result.output, result.nanos, result.error, result.metrics);
+                }
+                report.write(Paths.get(cli.get("report", null)), summary.wallNanos);
+                System.out.println("Çalışma raporu yazıldı: " + cli.get("report", null));
+            }
+            return summary.failureCount() == 0 ? 0 : 2;
+        } catch (Exception e) {
+            System.err.println("Batch işlemi sırasında kritik bir hata oluştu: " + e.getMessage());
+            e.printStackTrace();
+            return 1;
+        }
+    }
+
+    /**
+     * --charset auto|utf-8|windows-1254 (varsayılan auto): metin alanlarının karakter kümesi.
+     * --parallel-resolve: ham bölümlerden sonraki eleman çözümleme aşamaları paralel yürür.
+     */
+    private static St4FileParser createParser(CliArguments cli) {
+        return new St4FileParser(St4FileParser.charsetFromName(cli.get("charset", "auto")))
+                .withParallelResolution(cli.has("parallel-resolve"));
+    }
+
+    /**
+     * Dizini izler ve kaydedilen .st4 dosyalarını aynı JVM'de yeniden dönüştürür; Ctrl+C ile durur.
+     * Çıktı dizini verilmezse JSON'lar girdilerin yanına yazılır ve Revit eklentisi bunları doğrudan okur.
+     */
+    private static int runWatch(String[] args) {
+        CliArguments cli = new CliArguments(args, Set.of("pretty", "mmap", "diagnostics", "sharded", "parallel-resolve"));
+        if (cli.getPositional().size() < 2) {
+            System.err.println("Kullanım: java -jar sta4cad-imp.jar watch <girdi-dizini> [çıktı-dizini] [--debounce-ms 400] [--threads N] [--pretty] [--format json|smile] [--sharded] [--mmap] [--parallel-resolve] [--charset auto|utf-8|windows-1254] [--cache-dir DİZİN] [--diagnostics]");
+            return 1;
+        }
+        try {
+            St4Converter converter = new St4Converter(createParser(cli), createWriter(cli), cli.has("mmap"), openCache(cli));
+            if (cli.has("diagnostics")) converter.setDiagnosticsWriter(new DiagnosticsJsonWriter());
+            String outputDir = cli.positional(2);
+            St4Watcher watcher = new St4Watcher(converter, Paths.get(cli.positional(1)),
+                    outputDir != null ? Paths.get(outputDir) : null,
+                    cli.getLong("debounce-ms", 400),
+                    cli.getInt("threads", Runtime.getRuntime().availableProcessors()),
+                    System.out);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    watcher.close();
+                } catch (IOException e) {
+                    // Kapanışta yapılacak başka bir şey yok.
+                }
+            }));
+            watcher.run();
+            return 0;
+        } catch (Exception e) {
+            System.err.println("İzleme başlatılamadı: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /** --sharded ile manifest + kat parçaları ({@link ShardedProjectWriter}), aksi halde tek dosya yazılır. */
+    private static ProjectJsonWriter createWriter(CliArguments cli) {
+        ExportFormat format = ExportFormat.fromName(cli.get("format", "json"));
+        return cli.has("sharded") ? new ShardedProjectWriter(format, cli.has("pretty"))
+                : new ProjectJsonWriter(format, cli.has("pretty"));
+    }
+
+    /** --cache-dir verilmişse dönüşüm önbelleğini açar (varsayılan sınır 1024 MB). */
+    private static ConversionCache openCache(CliArguments cli) throws IOException {
+        if (!cli.has("cache-dir")) return null;
+        if (cli.has("sharded")) {
+            // Önbellek tek bir çıktı dosyası saklar; parça dosyası olan paketler için kullanılamaz.
+            System.err.println("UYARI: --sharded ile --cache-dir birlikte kullanılamaz, önbellek devre dışı.");
+            return null;
+        }
+        long maxBytes = cli.getLong("cache-max-mb", 1024) * 1024 * 1024;
+        return new ConversionCache(Paths.get(cli.get("cache-dir", null)), maxBytes);
+    }
+
+    private static int runDiff(String[] args) {
+        CliArguments cli = new CliArguments(args, Set.of("pretty", "mmap"));
+        if (cli.getPositional().size() < 4) {
+            System.err.println("Kullanım: java -jar sta4cad-imp.jar diff <eski.st4> <yeni.st4> <değişiklikler.json> [--pretty] [--tolerance 1e-6] [--charset auto|utf-8|windows-1254]");
+            return 1;
+        }
+        try {
+            St4Converter converter = new St4Converter(createParser(cli), new ProjectJsonWriter(false), cli.has("mmap"));
+            // Parser durumsuz olduğundan iki revizyon eşzamanlı ayrıştırılabilir.
+            CompletableFuture<Project> oldProject = CompletableFuture.supplyAsync(() -> parseUnchecked(converter, cli.positional(1)));
+            Project newProject = converter.parse(Paths.get(cli.positional(2)));
+
+            ChangeSet changeSet = new ProjectDiff(cli.getDouble("tolerance", ProjectDiff.DEFAULT_TOLERANCE))
+                    .compare(oldProject.join(), newProject);
+            new ChangeSetJsonWriter(cli.has("pretty")).write(changeSet, Paths.get(cli.positional(3)));
+            System.out.printf("Eklenen: %d, silinen: %d, değişen: %d (taşınan: %d), aynı: %d%n",
+                    changeSet.addedCount(), changeSet.removedCount(), changeSet.changedCount(),
+                    changeSet.movedCount(), changeSet.unchangedCount());
+            return 0;
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null && e instanceof java.util.concurrent.CompletionException ? e.getCause() : e;
+            System.err.println("Fark hesaplanamadı: " + cause.getMessage());
+            return 1;
+        }
+    }
+
+    /** Servisi başlatır; JVM, kapanış kancası ile durdurulana kadar HTTP iş parçacıkları sayesinde açık kalır. */
+    private static int runServe(String[] args) {
+        CliArguments cli = new CliArguments(args, Set.of());
+        try {
+            ConversionServer server = new ConversionServer(
+                    cli.getInt("port", 8765),
+                    cli.getInt("max-concurrency", Runtime.getRuntime().availableProcessors()),
+                    cli.getLong("max-request-mb", 256) * 1024 * 1024,
+                    cli.getLong("queue-timeout-ms", 30_000));
+            int warmup = cli.getInt("warmup", 3);
+            if (warmup > 0) {
+                System.out.println("JIT ısınması: " + warmup + " tur");
+                server.warmUp(warmup);
+            }
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1)));
+            System.out.println("Servis hazır: http://127.0.0.1:" + server.getPort() + " (POST /convert, GET /health, GET /metrics)");
+            return 0;
+        } catch (Exception e) {
+            System.err.println("Servis başlatılamadı: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static Project parseUnchecked(St4Converter converter, String path) {
+        try {
+            return converter.parse(Paths.get(path));
+        } catch (IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+    }
+
+    private static int runGenerate(String[] args) {
+        CliArguments cli = new CliArguments(args, Set.of());
+        if (cli.getPositional().size() < 2) {
+            System.err.println("Kullanım: java -jar sta4cad-imp.jar generate <çıktı.st4> [--preset small|medium|large]");
+            System.err.println("          [--seed N] [--floors N] [--x-axes N] [--y-axes N] [--columns N]");
+            System.err.println("          [--beam-density 0..1] [--panel-ratio 0..1] [--slab-density 0..1] [--foundations N]");
+            return 1;
+        }
+        try {
+            GeneratorConfig config = cli.has("preset") ? GeneratorConfig.preset(cli.get("preset", "small")) : new GeneratorConfig();
+            config.setSeed(cli.getLong("seed", config.getSeed()));
+            config.setFloorCount(cli.getInt("floors", config.getFloorCount()));
+            config.setXAxisCount(cli.getInt("x-axes", config.getXAxisCount()));
+            config.setYAxisCount(cli.getInt("y-axes", config.getYAxisCount()));
+            config.setColumnTypesPerFloor(cli.getInt("columns", config.getColumnTypesPerFloor()));
+            config.setBeamDensity(cli.getDouble("beam-density", config.getBeamDensity()));
+            config.setPanelRatio(cli.getDouble("panel-ratio", config.getPanelRatio()));
+            config.setSlabDensity(cli.getDouble("slab-density", config.getSlabDensity()));
+            config.setFoundationSlabCount(cli.getInt("foundations", config.getFoundationSlabCount()));
+
+            new St4ModelGenerator(config).write(Paths.get(cli.positional(1)));
+            System.out.println("Sentetik model oluşturuldu: " + cli.positional(1));
+            return 0;
+        } catch (Exception e) {
+            System.err.println("Model üretilemedi: " + e.getMessage());
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.kerem.sta4cadimp;
+
+import java.util.*;
+
+/**
+ * Komut satırı argümanlarını konumsal argümanlar ve "--isim deger" seçenekleri olarak ayırır.
+ * Değer almayan bayraklar (örn. "--pretty") kurucuya verilen küme ile belirtilir.
+ */
+public class CliArguments {
+
+    private final List<String> positional = new ArrayList<>();
+    private final Map<String, String> options = new HashMap<>();
+
+    public CliArguments(String[] args, Set<String> booleanFlags) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--") && arg.length() > 2) {
+                String name = arg.substring(2);
+                int eq = name.indexOf('=');
+                if (eq >= 0) {
+                    options.put(name.substring(0, eq), name.substring(eq + 1));
+                } else if (booleanFlags.contains(name) || i + 1 >= args.length) {
+                    options.put(name, "true");
+                } else {
+                    options.put(name, args[++i]);
+                }
+            } else {
+                positional.add(arg);
+            }
+        }
+    }
+
+    public List<String> getPositional() {
+        return positional;
+    }
+
+    public String positional(int index) {
+        return index < positional.size() ? positional.get(index) : null;
+    }
+
+    public boolean has(String name) {
+        return options.containsKey(name);
+    }
+
+    public String get(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    public int getInt(String name, int defaultValue) {
+        String value = options.get(name);
+        if (value == null) return defaultValue;
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " için geçersiz sayı: " + value);
+        }
+    }
+
+    public long getLong(String name, long defaultValue) {
+        String value = options.get(name);
+        if (value == null) return defaultValue;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " için geçersiz sayı: " + value);
+        }
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        String value = options.get(name);
+        if (value == null) return defaultValue;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " için geçersiz sayı: " + value);
+        }
+    }
+}
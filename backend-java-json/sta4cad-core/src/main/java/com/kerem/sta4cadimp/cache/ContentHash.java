@@ -0,0 +1,77 @@
+package com.kerem.sta4cadimp.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HexFormat;
+
+/**
+ * Önbellek anahtarları ve izleme modundaki değişiklik kontrolü için hızlı, kriptografik olmayan
+ * 128 bit içerik özeti (MurmurHash3 x64_128). Kasıtlı çakışmalara karşı koruma sağlamaz; anahtarlar
+ * yalnızca kullanıcının kendi dosyalarından üretildiğinden bu yeterlidir ve SHA-256'dan birkaç kat
+ * hızlıdır.
+ */
+public final class ContentHash {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private ContentHash() {
+    }
+
+    /** 32 karakterlik onaltılık özet. */
+    public static String of(byte[] content) {
+        return of(ByteBuffer.wrap(content));
+    }
+
+    /** {@code buffer}'ın konumundan sınırına kadar olan baytların özeti; tamponun konumu değişmez. */
+    public static String of(ByteBuffer buffer) {
+        ByteBuffer data = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int offset = data.position();
+        int length = data.remaining();
+        long h1 = 0;
+        long h2 = 0;
+
+        int blockEnd = offset + (length & ~15);
+        for (int i = offset; i < blockEnd; i += 16) {
+            long k1 = data.getLong(i);
+            long k2 = data.getLong(i + 8);
+
+            k1 *= C1; k1 = Long.rotateLeft(k1, 31); k1 *= C2; h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27); h1 += h2; h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= C2; k2 = Long.rotateLeft(k2, 33); k2 *= C1; h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31); h2 += h1; h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        int tail = length & 15;
+        for (int i = tail - 1; i >= 8; i--) k2 ^= (data.get(blockEnd + i) & 0xffL) << ((i - 8) * 8);
+        if (tail > 8) {
+            k2 *= C2; k2 = Long.rotateLeft(k2, 33); k2 *= C1; h2 ^= k2;
+        }
+        for (int i = Math.min(tail, 8) - 1; i >= 0; i--) k1 ^= (data.get(blockEnd + i) & 0xffL) << (i * 8);
+        if (tail > 0) {
+            k1 *= C1; k1 = Long.rotateLeft(k1, 31); k1 *= C2; h1 ^= k1;
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = mix(h1);
+        h2 = mix(h2);
+        h1 += h2;
+        h2 += h1;
+        return HexFormat.of().toHexDigits(h1) + HexFormat.of().toHexDigits(h2);
+    }
+
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,197 @@
+package com.kerem.sta4cadimp.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Girdi dosyasının içerik özeti ({@link ContentHash}) ve dönüştürücü sürümüyle anahtarlanan, diskte tutulan
+ * dönüşüm önbelleği. Değişmemiş bir .st4 için ayrıştırma ve serileştirme tamamen atlanır; önbellekteki
+ * hazır çıktı kopyalanır.
+ *
+ * <p>Kayıtlar önce geçici bir dosyaya yazılıp atomik olarak yerine taşınır, bu yüzden okuyucular hiçbir
+ * zaman yarım kayıt görmez. Toplam boyut sınırı aşıldığında en uzun süredir kullanılmayan kayıtlar
+ * (son erişim zamanı = dosyanın değişiklik zamanı) silinir. Aynı dizini paylaşan birden çok süreç
+ * için tahliye bir kilit dosyasıyla tek seferde bir sürece sınırlanır.</p>
+ */
+public class ConversionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversionCache.class);
+
+    private static final String ENTRY_SUFFIX = ".out";
+    private static final String TEMP_PREFIX = ".tmp-";
+    private static final String LOCK_FILE = ".lock";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final AtomicLong approximateSize;
+    private final String converterVersion;
+
+    public ConversionCache(Path directory, long maxBytes) throws IOException {
+        this(directory, maxBytes, converterVersion());
+    }
+
+    /** Sürümü verilen önbellek; testler sürüm değişikliğini bu yolla taklit eder. */
+    ConversionCache(Path directory, long maxBytes, String converterVersion) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        this.approximateSize = new AtomicLong(scanEntries().stream().mapToLong(e -> e.size).sum());
+        this.converterVersion = converterVersion;
+        if (approximateSize.get() > maxBytes) evict();
+    }
+
+    /**
+     * Girdinin içerik özeti + dönüştürücü sürümü + çıktı biçiminden oluşan anahtar. Özet, ayrıştırılacak
+     * baytlardan hesaplanmış olmalıdır ({@code St4Input.getContentHash()}); dosya ayrıca okunmaz.
+     */
+    public String keyFor(String contentHash, String outputVariant) {
+        return contentHash + "-" + ContentHash.of((converterVersion + "|" + outputVariant).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Kayıt varsa çıktı dosyasına kopyalar, erişim zamanını günceller ve true döner. */
+    public boolean copyTo(String key, Path outputFile) throws IOException {
+        Path entry = entryPath(key);
+        try {
+            Path temp = tempSibling(outputFile);
+            try {
+                Files.copy(entry, temp, StandardCopyOption.REPLACE_EXISTING);
+                moveAtomically(temp, outputFile);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Kayıt bu arada tahliye edilmiş olabilir; kopya zaten tamamlandı.
+        }
+        return true;
+    }
+
+    /** Üretilmiş çıktıyı önbelleğe atomik olarak ekler, gerekirse eski kayıtları tahliye eder. */
+    public void store(String key, Path producedOutput) throws IOException {
+        Path temp = directory.resolve(TEMP_PREFIX + UUID.randomUUID());
+        try {
+            Files.copy(producedOutput, temp);
+            long size = Files.size(temp);
+            moveAtomically(temp, entryPath(key));
+            if (approximateSize.addAndGet(size) > maxBytes) {
+                evict();
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private synchronized void evict() {
+        try (FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = tryLock(lockChannel)) {
+            if (lock == null) return; // Başka bir süreç zaten tahliye ediyor.
+
+            List<Entry> entries = scanEntries();
+            long total = entries.stream().mapToLong(e -> e.size).sum();
+            long target = maxBytes - maxBytes / 10;
+            entries.sort((a, b) -> a.lastUsed.compareTo(b.lastUsed));
+            for (Entry entry : entries) {
+                if (total <= target) break;
+                try {
+                    Files.deleteIfExists(entry.path);
+                    total -= entry.size;
+                } catch (IOException e) {
+                    logger.debug("Önbellek kaydı silinemedi (kullanımda olabilir): {}", entry.path);
+                }
+            }
+            approximateSize.set(total);
+        } catch (IOException e) {
+            logger.warn("Önbellek tahliyesi başarısız: {}", e.getMessage());
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    private List<Entry> scanEntries() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                if (!path.getFileName().toString().endsWith(ENTRY_SUFFIX)) continue;
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    entries.add(new Entry(path, attributes.size(), attributes.lastModifiedTime()));
+                } catch (NoSuchFileException e) {
+                    // Eşzamanlı olarak silinmiş.
+                }
+            }
+        }
+        return entries;
+    }
+
+    private Path entryPath(String key) {
+        return directory.resolve(key + ENTRY_SUFFIX);
+    }
+
+    /** Hedefle aynı dizinde (böylece aynı dosya sisteminde) benzersiz bir geçici dosya yolu. */
+    public static Path tempSibling(Path file) {
+        Path parent = file.toAbsolutePath().getParent();
+        return parent.resolve(TEMP_PREFIX + UUID.randomUUID() + "-" + file.getFileName());
+    }
+
+    /** Dosya sistemi desteklemiyorsa atomik olmayan taşımaya düşer. */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Jar manifestindeki Implementation-Version. SNAPSHOT ve IDE derlemelerinde kod her değiştiğinde
+     * önbellek geçersiz olsun diye kod kaynağının boyutu ve değişiklik zamanı da eklenir.
+     */
+    public static String converterVersion() {
+        String version = ConversionCache.class.getPackage().getImplementationVersion();
+        if (version != null && !version.endsWith("SNAPSHOT")) return version;
+        try {
+            Path codeSource = Paths.get(ConversionCache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            BasicFileAttributes attributes = Files.readAttributes(codeSource, BasicFileAttributes.class);
+            return (version != null ? version : "dev") + "+" + attributes.size() + "." + attributes.lastModifiedTime().toMillis();
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return version != null ? version : "dev";
+        }
+    }
+
+    private static final class Entry {
+        final Path path;
+        final long size;
+        final FileTime lastUsed;
+
+        Entry(Path path, long size, FileTime lastUsed) {
+            this.path = path;
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
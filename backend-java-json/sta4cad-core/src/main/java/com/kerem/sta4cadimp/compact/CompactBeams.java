@@ -0,0 +1,229 @@
+package com.kerem.sta4cadimp.compact;
+
+import com.kerem.sta4cadimp.entity.Beam;
+import com.kerem.sta4cadimp.entity.Panel;
+import com.kerem.sta4cadimp.entity.StructuralColumn;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bir kattaki kirişler veya paneller. İkisi aynı geometriyi taşır; aks referansları ve perde duvar
+ * ölçüleri yalnızca kirişlerde bulunduğundan paneller için bu diziler hiç ayrılmaz. Boş (null) sayılar
+ * NaN, bağlı olmayan kolonlar -1 ile tutulur; kolon dizini aynı katın {@link CompactColumns} sırasıdır.
+ */
+public final class CompactBeams {
+
+    private final StringTable strings;
+    private final long[] ids;
+    private final int[] labels;
+    private final int[] propertyCodes;
+    private final double[] widthsCm;
+    private final double[] heightsCm;
+    private final double[] startXs;
+    private final double[] startYs;
+    private final double[] endXs;
+    private final double[] endYs;
+    private final double[] startZOffsetsCm;
+    private final double[] endZOffsetsCm;
+    private final int[] startColumns;
+    private final int[] endColumns;
+    // Yalnızca kirişler.
+    private final int[] planeAxisRefs;
+    private final int[] startSpanAxisRefs;
+    private final int[] endSpanAxisRefs;
+    private final double[] wallThicknessesCm;
+    private final double[] wallHeightsCm;
+
+    private CompactBeams(int n, boolean beams, StringTable strings) {
+        this.strings = strings;
+        ids = new long[n];
+        labels = new int[n];
+        propertyCodes = new int[n];
+        widthsCm = new double[n];
+        heightsCm = new double[n];
+        startXs = new double[n];
+        startYs = new double[n];
+        endXs = new double[n];
+        endYs = new double[n];
+        startZOffsetsCm = new double[n];
+        endZOffsetsCm = new double[n];
+        startColumns = new int[n];
+        endColumns = new int[n];
+        planeAxisRefs = beams ? new int[n] : null;
+        startSpanAxisRefs = beams ? new int[n] : null;
+        endSpanAxisRefs = beams ? new int[n] : null;
+        wallThicknessesCm = beams ? new double[n] : null;
+        wallHeightsCm = beams ? new double[n] : null;
+    }
+
+    static CompactBeams ofBeams(List<Beam> beams, StringTable strings, Map<StructuralColumn, Integer> columnIndex) {
+        CompactBeams compact = new CompactBeams(beams.size(), true, strings);
+        for (int i = 0; i < beams.size(); i++) {
+            Beam beam = beams.get(i);
+            compact.set(i, beam.getId(), beam.getLabel(), beam.getPropertyCode(), beam.getWidthCm(), beam.getHeightCm(),
+                    beam.getStartXMetre(), beam.getStartYMetre(), beam.getEndXMetre(), beam.getEndYMetre(),
+                    beam.getStartZOffsetCm(), beam.getEndZOffsetCm(),
+                    columnIndex.getOrDefault(beam.getStartColumn(), -1), columnIndex.getOrDefault(beam.getEndColumn(), -1));
+            compact.planeAxisRefs[i] = strings.intern(beam.getPlaneAxisRef());
+            compact.startSpanAxisRefs[i] = strings.intern(beam.getStartSpanAxisRef());
+            compact.endSpanAxisRefs[i] = strings.intern(beam.getEndSpanAxisRef());
+            compact.wallThicknessesCm[i] = CompactProject.packDouble(beam.getWallThicknessCm());
+            compact.wallHeightsCm[i] = CompactProject.packDouble(beam.getWallHeightCm());
+        }
+        return compact;
+    }
+
+    static CompactBeams ofPanels(List<Panel> panels, StringTable strings, Map<StructuralColumn, Integer> columnIndex) {
+        CompactBeams compact = new CompactBeams(panels.size(), false, strings);
+        for (int i = 0; i < panels.size(); i++) {
+            Panel panel = panels.get(i);
+            compact.set(i, panel.getId(), panel.getLabel(), panel.getPropertyCode(), panel.getWidthCm(), panel.getHeightCm(),
+                    panel.getStartXMetre(), panel.getStartYMetre(), panel.getEndXMetre(), panel.getEndYMetre(),
+                    panel.getStartZOffsetCm(), panel.getEndZOffsetCm(),
+                    columnIndex.getOrDefault(panel.getStartColumn(), -1), columnIndex.getOrDefault(panel.getEndColumn(), -1));
+        }
+        return compact;
+    }
+
+    private void set(int i, Long id, String label, String propertyCode, double widthCm, double heightCm,
+                     double startX, double startY, double endX, double endY, Double startZ, Double endZ,
+                     int startColumn, int endColumn) {
+        ids[i] = CompactProject.packId(id);
+        labels[i] = strings.intern(label);
+        propertyCodes[i] = strings.intern(propertyCode);
+        widthsCm[i] = widthCm;
+        heightsCm[i] = heightCm;
+        startXs[i] = startX;
+        startYs[i] = startY;
+        endXs[i] = endX;
+        endYs[i] = endY;
+        startZOffsetsCm[i] = CompactProject.packDouble(startZ);
+        endZOffsetsCm[i] = CompactProject.packDouble(endZ);
+        startColumns[i] = startColumn;
+        endColumns[i] = endColumn;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public Long id(int i) {
+        return CompactProject.unpackId(ids[i]);
+    }
+
+    public String label(int i) {
+        return strings.get(labels[i]);
+    }
+
+    public String propertyCode(int i) {
+        return strings.get(propertyCodes[i]);
+    }
+
+    public double widthCm(int i) {
+        return widthsCm[i];
+    }
+
+    public double heightCm(int i) {
+        return heightsCm[i];
+    }
+
+    public double startXMetre(int i) {
+        return startXs[i];
+    }
+
+    public double startYMetre(int i) {
+        return startYs[i];
+    }
+
+    public double endXMetre(int i) {
+        return endXs[i];
+    }
+
+    public double endYMetre(int i) {
+        return endYs[i];
+    }
+
+    public Double startZOffsetCm(int i) {
+        return CompactProject.unpackDouble(startZOffsetsCm[i]);
+    }
+
+    public Double endZOffsetCm(int i) {
+        return CompactProject.unpackDouble(endZOffsetsCm[i]);
+    }
+
+    /** Başlangıç ucunu taşıyan kolonun kattaki sırası; yoksa -1. */
+    public int startColumn(int i) {
+        return startColumns[i];
+    }
+
+    public int endColumn(int i) {
+        return endColumns[i];
+    }
+
+    public String planeAxisRef(int i) {
+        return planeAxisRefs == null ? null : strings.get(planeAxisRefs[i]);
+    }
+
+    public String startSpanAxisRef(int i) {
+        return startSpanAxisRefs == null ? null : strings.get(startSpanAxisRefs[i]);
+    }
+
+    public String endSpanAxisRef(int i) {
+        return endSpanAxisRefs == null ? null : strings.get(endSpanAxisRefs[i]);
+    }
+
+    public Double wallThicknessCm(int i) {
+        return wallThicknessesCm == null ? null : CompactProject.unpackDouble(wallThicknessesCm[i]);
+    }
+
+    public Double wallHeightCm(int i) {
+        return wallHeightsCm == null ? null : CompactProject.unpackDouble(wallHeightsCm[i]);
+    }
+
+    /** {@code columns} aynı katın materyalize edilmiş kolonlarıdır (null ise bağlantılar boş kalır). */
+    Beam materializeBeam(int i, StructuralColumn[] columns) {
+        Beam beam = new Beam();
+        beam.setId(id(i));
+        beam.setLabel(label(i));
+        beam.setWidthCm(widthsCm[i]);
+        beam.setHeightCm(heightsCm[i]);
+        beam.setPropertyCode(propertyCode(i));
+        beam.setPlaneAxisRef(planeAxisRef(i));
+        beam.setStartSpanAxisRef(startSpanAxisRef(i));
+        beam.setEndSpanAxisRef(endSpanAxisRef(i));
+        beam.setStartXMetre(startXs[i]);
+        beam.setStartYMetre(startYs[i]);
+        beam.setEndXMetre(endXs[i]);
+        beam.setEndYMetre(endYs[i]);
+        beam.setStartZOffsetCm(startZOffsetCm(i));
+        beam.setEndZOffsetCm(endZOffsetCm(i));
+        beam.setWallThicknessCm(wallThicknessCm(i));
+        beam.setWallHeightCm(wallHeightCm(i));
+        beam.setStartColumn(column(columns, startColumns[i]));
+        beam.setEndColumn(column(columns, endColumns[i]));
+        return beam;
+    }
+
+    Panel materializePanel(int i, StructuralColumn[] columns) {
+        Panel panel = new Panel();
+        panel.setId(id(i));
+        panel.setLabel(label(i));
+        panel.setWidthCm(widthsCm[i]);
+        panel.setHeightCm(heightsCm[i]);
+        panel.setPropertyCode(propertyCode(i));
+        panel.setStartXMetre(startXs[i]);
+        panel.setStartYMetre(startYs[i]);
+        panel.setEndXMetre(endXs[i]);
+        panel.setEndYMetre(endYs[i]);
+        panel.setStartZOffsetCm(startZOffsetCm(i));
+        panel.setEndZOffsetCm(endZOffsetCm(i));
+        panel.setStartColumn(column(columns, startColumns[i]));
+        panel.setEndColumn(column(columns, endColumns[i]));
+        return panel;
+    }
+
+    private static StructuralColumn column(StructuralColumn[] columns, int index) {
+        return columns == null || index < 0 ? null : columns[index];
+    }
+}
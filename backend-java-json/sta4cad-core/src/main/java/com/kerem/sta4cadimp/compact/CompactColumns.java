@@ -0,0 +1,133 @@
+package com.kerem.sta4cadimp.compact;
+
+import com.kerem.sta4cadimp.entity.Axis;
+import com.kerem.sta4cadimp.entity.StructuralColumn;
+
+import java.util.List;
+import java.util.Map;
+
+/** Bir kattaki kolonlar, alan başına bir dizi olarak. Dizinler katın kolon listesindeki sıradır. */
+public final class CompactColumns {
+
+    private final StringTable strings;
+    private final long[] ids;
+    private final int[] st4Sids;
+    private final int[] st4Aids;
+    private final int[] typeLabels;
+    private final double[] widthsCm;
+    private final double[] heightsCm;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] offsetsXmm;
+    private final double[] offsetsYmm;
+    // Projenin aks listesindeki sıra; aks yoksa -1.
+    private final int[] nominalXAxes;
+    private final int[] nominalYAxes;
+
+    CompactColumns(List<StructuralColumn> columns, StringTable strings, Map<Axis, Integer> axisIndex) {
+        int n = columns.size();
+        this.strings = strings;
+        ids = new long[n];
+        st4Sids = new int[n];
+        st4Aids = new int[n];
+        typeLabels = new int[n];
+        widthsCm = new double[n];
+        heightsCm = new double[n];
+        xs = new double[n];
+        ys = new double[n];
+        offsetsXmm = new double[n];
+        offsetsYmm = new double[n];
+        nominalXAxes = new int[n];
+        nominalYAxes = new int[n];
+        for (int i = 0; i < n; i++) {
+            StructuralColumn column = columns.get(i);
+            ids[i] = CompactProject.packId(column.getId());
+            st4Sids[i] = strings.intern(column.getSt4Sid());
+            st4Aids[i] = strings.intern(column.getSt4Aid());
+            typeLabels[i] = strings.intern(column.getTypeLabel());
+            widthsCm[i] = column.getDimensionWidthCm();
+            heightsCm[i] = column.getDimensionHeightCm();
+            xs[i] = column.getPositionXMetre();
+            ys[i] = column.getPositionYMetre();
+            offsetsXmm[i] = column.getOffsetXmm();
+            offsetsYmm[i] = column.getOffsetYmm();
+            nominalXAxes[i] = axisIndex.getOrDefault(column.getNominalXAxis(), -1);
+            nominalYAxes[i] = axisIndex.getOrDefault(column.getNominalYAxis(), -1);
+        }
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public Long id(int i) {
+        return CompactProject.unpackId(ids[i]);
+    }
+
+    public String st4Sid(int i) {
+        return strings.get(st4Sids[i]);
+    }
+
+    public String st4Aid(int i) {
+        return strings.get(st4Aids[i]);
+    }
+
+    public String typeLabel(int i) {
+        return strings.get(typeLabels[i]);
+    }
+
+    /** Tip etiketinin {@link StringTable} sırası; aynı tipteki kolonlar aynı değeri taşır. */
+    public int typeLabelIndex(int i) {
+        return typeLabels[i];
+    }
+
+    public double widthCm(int i) {
+        return widthsCm[i];
+    }
+
+    public double heightCm(int i) {
+        return heightsCm[i];
+    }
+
+    public double xMetre(int i) {
+        return xs[i];
+    }
+
+    public double yMetre(int i) {
+        return ys[i];
+    }
+
+    public double offsetXmm(int i) {
+        return offsetsXmm[i];
+    }
+
+    public double offsetYmm(int i) {
+        return offsetsYmm[i];
+    }
+
+    public int nominalXAxis(int i) {
+        return nominalXAxes[i];
+    }
+
+    public int nominalYAxis(int i) {
+        return nominalYAxes[i];
+    }
+
+    /** Yeni bir entity oluşturur; kat/proje bağlantıları çağırana bırakılır. */
+    StructuralColumn materialize(int i, List<Axis> axes) {
+        StructuralColumn column = new StructuralColumn();
+        column.setId(id(i));
+        column.setSt4Sid(st4Sid(i));
+        column.setSt4Aid(st4Aid(i));
+        column.setTypeLabel(typeLabel(i));
+        column.setDimensionWidthCm(widthsCm[i]);
+        column.setDimensionHeightCm(heightsCm[i]);
+        column.setPositionXMetre(xs[i]);
+        column.setPositionYMetre(ys[i]);
+        column.setOffsetXmm(offsetsXmm[i]);
+        column.setOffsetYmm(offsetsYmm[i]);
+        if (nominalXAxes[i] >= 0) column.setNominalXAxis(axes.get(nominalXAxes[i]));
+        if (nominalYAxes[i] >= 0) column.setNominalYAxis(axes.get(nominalYAxes[i]));
+        return column;
+    }
+}
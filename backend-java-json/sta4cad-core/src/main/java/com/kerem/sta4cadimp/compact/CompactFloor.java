@@ -0,0 +1,115 @@
+package com.kerem.sta4cadimp.compact;
+
+import com.kerem.sta4cadimp.entity.*;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Tek bir katın kompakt görünümü; eleman dizileri kat listelerindeki sırayı korur. */
+public final class CompactFloor {
+
+    private final long id;
+    private final String name;
+    private final int originalNumber;
+    private final double elevation;
+    private final double height;
+    private final CompactColumns columns;
+    private final CompactBeams beams;
+    private final CompactBeams panels;
+    private final CompactSlabs slabs;
+
+    CompactFloor(Floor floor, StringTable strings, Map<Axis, Integer> axisIndex) {
+        this.id = CompactProject.packId(floor.getId());
+        this.name = floor.getName();
+        this.originalNumber = floor.getOriginalNumber();
+        this.elevation = floor.getElevation();
+        this.height = floor.getHeight();
+
+        List<StructuralColumn> floorColumns = listOrEmpty(floor.getColumns());
+        // Entity equals/hashCode kimlik alanlarına bakar; kimliksiz kolonlar çakışmasın diye nesne kimliği kullanılır.
+        Map<StructuralColumn, Integer> columnIndex = new IdentityHashMap<>(floorColumns.size() * 2);
+        for (int i = 0; i < floorColumns.size(); i++) columnIndex.put(floorColumns.get(i), i);
+
+        this.columns = new CompactColumns(floorColumns, strings, axisIndex);
+        this.beams = CompactBeams.ofBeams(listOrEmpty(floor.getBeams()), strings, columnIndex);
+        this.panels = CompactBeams.ofPanels(listOrEmpty(floor.getPanels()), strings, columnIndex);
+        this.slabs = CompactSlabs.ofSlabs(listOrEmpty(floor.getSlabs()), strings);
+    }
+
+    public Long id() {
+        return CompactProject.unpackId(id);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int originalNumber() {
+        return originalNumber;
+    }
+
+    public double elevation() {
+        return elevation;
+    }
+
+    public double height() {
+        return height;
+    }
+
+    public CompactColumns columns() {
+        return columns;
+    }
+
+    public CompactBeams beams() {
+        return beams;
+    }
+
+    public CompactBeams panels() {
+        return panels;
+    }
+
+    public CompactSlabs slabs() {
+        return slabs;
+    }
+
+    /**
+     * Katı elemanlarıyla birlikte entity olarak oluşturur. Elemanlar {@code project} verilirse projenin
+     * düz listelerine de eklenir; kiriş/panel uçları yeni oluşturulan kolonlara bağlanır.
+     */
+    Floor materialize(List<Axis> axes, Project project) {
+        Floor floor = new Floor();
+        floor.setId(id());
+        floor.setName(name);
+        floor.setOriginalNumber(originalNumber);
+        floor.setElevation(elevation);
+        floor.setHeight(height);
+        if (project != null) project.addFloor(floor);
+
+        StructuralColumn[] floorColumns = new StructuralColumn[columns.size()];
+        for (int i = 0; i < floorColumns.length; i++) {
+            StructuralColumn column = columns.materialize(i, axes);
+            floorColumns[i] = column;
+            floor.addStructuralColumn(column);
+            if (project != null) project.addStructuralColumn(column);
+        }
+        for (int i = 0; i < beams.size(); i++) {
+            Beam beam = beams.materializeBeam(i, floorColumns);
+            floor.addBeam(beam);
+            if (project != null) project.addBeam(beam);
+        }
+        for (int i = 0; i < slabs.size(); i++) {
+            floor.addSlab(slabs.materializeSlab(i));
+        }
+        for (int i = 0; i < panels.size(); i++) {
+            Panel panel = panels.materializePanel(i, floorColumns);
+            floor.addPanel(panel);
+            if (project != null) project.addPanel(panel);
+        }
+        return floor;
+    }
+
+    private static <T> List<T> listOrEmpty(List<T> list) {
+        return list != null ? list : List.of();
+    }
+}
@@ -0,0 +1,180 @@
+package com.kerem.sta4cadimp.compact;
+
+import com.kerem.sta4cadimp.entity.*;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Çözümlenmiş bir {@link Project}'in salt okunur, sütun yönelimli (struct-of-arrays) kopyası. Her
+ * eleman türü için alan başına bir ilkel dizi tutulur; tekrar eden metinler tek bir {@link StringTable}
+ * üzerinden paylaşılır, eleman arası bağlantılar (kolon aksları, kiriş/panel uçlarındaki kolonlar)
+ * nesne referansı yerine dizin olarak saklanır. Böylece büyük modellerde nesne başlıkları, kutulu
+ * sayılar ve {@code ArrayList}/{@code PlanPoint} yükü ortadan kalkar ve aynı alanın üzerinden geçen
+ * döngüler ardışık belleği okur.
+ *
+ * <p>Entity'ler gerektiğinde yeniden oluşturulur: {@link #materializeFloor} tek bir katı,
+ * {@link #toProject()} tüm projeyi üretir ve JSON yazıcısı için özgün modelle aynı çıktıyı verir.
+ * Kata atanmamış kiriş/panel/kolonlar JSON çıktısında da yer almadığından kompakt modele alınmaz.</p>
+ *
+ * <p>Yalnızca kütüphane olarak sunulur: CLI, izleme ve dönüşüm servisi entity modeliyle çalışır, bu
+ * sınıfı kullanmaz.</p>
+ */
+public final class CompactProject {
+
+    /** Kimliği olmayan (henüz kaydedilmemiş) entity'ler için kimlik dizisindeki değer. */
+    private static final long NO_ID = Long.MIN_VALUE;
+    private static final AxisType[] AXIS_TYPES = AxisType.values();
+
+    private final long id;
+    private final String fileName;
+    private final String projectTitle;
+    private final StringTable strings;
+    private final long[] axisIds;
+    private final byte[] axisTypes;
+    private final int[] axisLabels;
+    private final double[] axisCoordinates;
+    private final CompactFloor[] floors;
+    private final CompactSlabs foundationSlabs;
+
+    private CompactProject(Project project) {
+        this.id = packId(project.getId());
+        this.fileName = project.getFileName();
+        this.projectTitle = project.getProjectTitle();
+        this.strings = new StringTable();
+
+        List<Axis> axes = project.getAxes() != null ? project.getAxes() : List.of();
+        Map<Axis, Integer> axisIndex = new IdentityHashMap<>(axes.size() * 2);
+        axisIds = new long[axes.size()];
+        axisTypes = new byte[axes.size()];
+        axisLabels = new int[axes.size()];
+        axisCoordinates = new double[axes.size()];
+        for (int i = 0; i < axes.size(); i++) {
+            Axis axis = axes.get(i);
+            axisIndex.put(axis, i);
+            axisIds[i] = packId(axis.getId());
+            axisTypes[i] = (byte) (axis.getType() != null ? axis.getType().ordinal() : -1);
+            axisLabels[i] = strings.intern(axis.getLabel());
+            axisCoordinates[i] = axis.getCoordinate();
+        }
+
+        List<Floor> projectFloors = project.getFloors() != null ? project.getFloors() : List.of();
+        floors = new CompactFloor[projectFloors.size()];
+        for (int i = 0; i < floors.length; i++) {
+            floors[i] = new CompactFloor(projectFloors.get(i), strings, axisIndex);
+        }
+        foundationSlabs = CompactSlabs.ofFoundations(
+                project.getFoundationSlabs() != null ? project.getFoundationSlabs() : List.of(), strings);
+        strings.seal();
+    }
+
+    /** Projenin kompakt kopyasını oluşturur; kaynak proje daha sonra bırakılabilir. */
+    public static CompactProject of(Project project) {
+        return new CompactProject(project);
+    }
+
+    public Long id() {
+        return unpackId(id);
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+
+    public String projectTitle() {
+        return projectTitle;
+    }
+
+    public StringTable strings() {
+        return strings;
+    }
+
+    public int axisCount() {
+        return axisIds.length;
+    }
+
+    public Long axisId(int i) {
+        return unpackId(axisIds[i]);
+    }
+
+    public AxisType axisType(int i) {
+        return axisTypes[i] < 0 ? null : AXIS_TYPES[axisTypes[i]];
+    }
+
+    public String axisLabel(int i) {
+        return strings.get(axisLabels[i]);
+    }
+
+    public double axisCoordinate(int i) {
+        return axisCoordinates[i];
+    }
+
+    public int floorCount() {
+        return floors.length;
+    }
+
+    public CompactFloor floor(int i) {
+        return floors[i];
+    }
+
+    public CompactSlabs foundationSlabs() {
+        return foundationSlabs;
+    }
+
+    /** Aksları, projeye bağlanmamış yeni entity'ler olarak oluşturur. */
+    public List<Axis> materializeAxes() {
+        List<Axis> axes = new ArrayList<>(axisIds.length);
+        for (int i = 0; i < axisIds.length; i++) {
+            Axis axis = new Axis();
+            axis.setId(axisId(i));
+            axis.setType(axisType(i));
+            axis.setLabel(axisLabel(i));
+            axis.setCoordinate(axisCoordinates[i]);
+            axes.add(axis);
+        }
+        return axes;
+    }
+
+    /**
+     * Tek bir katı elemanlarıyla oluşturur; proje bağlantısı kurulmaz. Kolonların nominal aksları
+     * {@code axes} listesinden alınır ({@link #materializeAxes()} çıktısı; birden çok kat için aynı
+     * liste verilerek akslar paylaşılabilir).
+     */
+    public Floor materializeFloor(int i, List<Axis> axes) {
+        return floors[i].materialize(axes, null);
+    }
+
+    /** Projenin tamamını entity grafı olarak yeniden oluşturur. */
+    public Project toProject() {
+        Project project = new Project();
+        project.setId(id());
+        project.setFileName(fileName);
+        project.setProjectTitle(projectTitle);
+        List<Axis> axes = materializeAxes();
+        for (Axis axis : axes) project.addAxis(axis);
+        for (CompactFloor floor : floors) floor.materialize(axes, project);
+        for (int i = 0; i < foundationSlabs.size(); i++) {
+            project.addFoundationSlab(foundationSlabs.materializeFoundation(i));
+        }
+        return project;
+    }
+
+    static long packId(Long id) {
+        return id != null ? id : NO_ID;
+    }
+
+    static Long unpackId(long id) {
+        return id == NO_ID ? null : id;
+    }
+
+    // Boş (null) ondalıklar NaN olarak saklanır; modelde NaN değer üretilmediğinden çakışma olmaz.
+    static double packDouble(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    static Double unpackDouble(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
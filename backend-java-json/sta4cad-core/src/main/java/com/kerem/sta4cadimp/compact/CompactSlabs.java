@@ -0,0 +1,201 @@
+package com.kerem.sta4cadimp.compact;
+
+import com.kerem.sta4cadimp.entity.FoundationSlab;
+import com.kerem.sta4cadimp.entity.PlanPoint;
+import com.kerem.sta4cadimp.entity.Slab;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bir kattaki döşemeler veya projenin radyeleri. Değişken uzunluklu sınır aks referansları ve sınır
+ * noktaları tek bir düz dizide tutulur (CSR): {@code i}. elemanın değerleri
+ * {@code [start[i], start[i + 1])} aralığındadır. Temel üst kotu yalnızca radyelerde bulunur.
+ */
+public final class CompactSlabs {
+
+    private final StringTable strings;
+    private final long[] ids;
+    private final int[] labels;
+    private final double[] thicknessesCm;
+    private final double[] elevationsMetre;
+    private final double[] areas;
+    private final double[] centroidXs;
+    private final double[] centroidYs;
+    private final int[] refStart;
+    private int[] refs;
+    private final int[] pointStart;
+    private double[] pointXs;
+    private double[] pointYs;
+
+    private CompactSlabs(int n, boolean foundations, StringTable strings) {
+        this.strings = strings;
+        ids = new long[n];
+        labels = new int[n];
+        thicknessesCm = new double[n];
+        elevationsMetre = foundations ? new double[n] : null;
+        areas = new double[n];
+        centroidXs = new double[n];
+        centroidYs = new double[n];
+        refStart = new int[n + 1];
+        refs = new int[n * 4];
+        pointStart = new int[n + 1];
+        pointXs = new double[n * 4];
+        pointYs = new double[n * 4];
+    }
+
+    static CompactSlabs ofSlabs(List<Slab> slabs, StringTable strings) {
+        CompactSlabs compact = new CompactSlabs(slabs.size(), false, strings);
+        for (int i = 0; i < slabs.size(); i++) {
+            Slab slab = slabs.get(i);
+            compact.set(i, slab.getId(), slab.getLabel(), slab.getThicknessCm(), slab.getAreaSquareMetre(),
+                    slab.getCentroidXMetre(), slab.getCentroidYMetre(), slab.getBoundaryAxisRefs(), slab.getBoundary());
+        }
+        return compact.trim();
+    }
+
+    static CompactSlabs ofFoundations(List<FoundationSlab> foundations, StringTable strings) {
+        CompactSlabs compact = new CompactSlabs(foundations.size(), true, strings);
+        for (int i = 0; i < foundations.size(); i++) {
+            FoundationSlab foundation = foundations.get(i);
+            compact.set(i, foundation.getId(), foundation.getLabel(), foundation.getThicknessCm(),
+                    foundation.getAreaSquareMetre(), foundation.getCentroidXMetre(), foundation.getCentroidYMetre(),
+                    foundation.getBoundaryAxisRefs(), foundation.getBoundary());
+            compact.elevationsMetre[i] = foundation.getElevationMetre();
+        }
+        return compact.trim();
+    }
+
+    private void set(int i, Long id, String label, double thicknessCm, Double area, Double centroidX, Double centroidY,
+                     List<String> boundaryAxisRefs, List<PlanPoint> boundary) {
+        ids[i] = CompactProject.packId(id);
+        labels[i] = strings.intern(label);
+        thicknessesCm[i] = thicknessCm;
+        areas[i] = CompactProject.packDouble(area);
+        centroidXs[i] = CompactProject.packDouble(centroidX);
+        centroidYs[i] = CompactProject.packDouble(centroidY);
+
+        int r = refStart[i];
+        if (boundaryAxisRefs != null) {
+            if (r + boundaryAxisRefs.size() > refs.length) {
+                refs = Arrays.copyOf(refs, Math.max(refs.length * 2, r + boundaryAxisRefs.size()));
+            }
+            for (String ref : boundaryAxisRefs) refs[r++] = strings.intern(ref);
+        }
+        refStart[i + 1] = r;
+
+        int p = pointStart[i];
+        if (boundary != null) {
+            if (p + boundary.size() > pointXs.length) {
+                int capacity = Math.max(pointXs.length * 2, p + boundary.size());
+                pointXs = Arrays.copyOf(pointXs, capacity);
+                pointYs = Arrays.copyOf(pointYs, capacity);
+            }
+            for (PlanPoint point : boundary) {
+                pointXs[p] = point.getXMetre();
+                pointYs[p++] = point.getYMetre();
+            }
+        }
+        pointStart[i + 1] = p;
+    }
+
+    private CompactSlabs trim() {
+        refs = Arrays.copyOf(refs, refStart[ids.length]);
+        pointXs = Arrays.copyOf(pointXs, pointStart[ids.length]);
+        pointYs = Arrays.copyOf(pointYs, pointStart[ids.length]);
+        return this;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public Long id(int i) {
+        return CompactProject.unpackId(ids[i]);
+    }
+
+    public String label(int i) {
+        return strings.get(labels[i]);
+    }
+
+    public double thicknessCm(int i) {
+        return thicknessesCm[i];
+    }
+
+    /** Radye üst kotu; kat döşemelerinde 0. */
+    public double elevationMetre(int i) {
+        return elevationsMetre == null ? 0 : elevationsMetre[i];
+    }
+
+    public Double areaSquareMetre(int i) {
+        return CompactProject.unpackDouble(areas[i]);
+    }
+
+    public Double centroidXMetre(int i) {
+        return CompactProject.unpackDouble(centroidXs[i]);
+    }
+
+    public Double centroidYMetre(int i) {
+        return CompactProject.unpackDouble(centroidYs[i]);
+    }
+
+    public int boundaryAxisRefCount(int i) {
+        return refStart[i + 1] - refStart[i];
+    }
+
+    public String boundaryAxisRef(int i, int k) {
+        return strings.get(refs[refStart[i] + k]);
+    }
+
+    public int boundaryPointCount(int i) {
+        return pointStart[i + 1] - pointStart[i];
+    }
+
+    public double boundaryXMetre(int i, int k) {
+        return pointXs[pointStart[i] + k];
+    }
+
+    public double boundaryYMetre(int i, int k) {
+        return pointYs[pointStart[i] + k];
+    }
+
+    Slab materializeSlab(int i) {
+        Slab slab = new Slab();
+        slab.setId(id(i));
+        slab.setLabel(label(i));
+        slab.setThicknessCm(thicknessesCm[i]);
+        slab.setBoundaryAxisRefs(boundaryAxisRefs(i));
+        slab.setBoundary(boundary(i));
+        slab.setAreaSquareMetre(areaSquareMetre(i));
+        slab.setCentroidXMetre(centroidXMetre(i));
+        slab.setCentroidYMetre(centroidYMetre(i));
+        return slab;
+    }
+
+    FoundationSlab materializeFoundation(int i) {
+        FoundationSlab foundation = new FoundationSlab();
+        foundation.setId(id(i));
+        foundation.setLabel(label(i));
+        foundation.setThicknessCm(thicknessesCm[i]);
+        foundation.setElevationMetre(elevationMetre(i));
+        foundation.setBoundaryAxisRefs(boundaryAxisRefs(i));
+        foundation.setBoundary(boundary(i));
+        foundation.setAreaSquareMetre(areaSquareMetre(i));
+        foundation.setCentroidXMetre(centroidXMetre(i));
+        foundation.setCentroidYMetre(centroidYMetre(i));
+        return foundation;
+    }
+
+    private List<String> boundaryAxisRefs(int i) {
+        List<String> list = new ArrayList<>(boundaryAxisRefCount(i));
+        for (int r = refStart[i]; r < refStart[i + 1]; r++) list.add(strings.get(refs[r]));
+        return list;
+    }
+
+    private List<PlanPoint> boundary(int i) {
+        List<PlanPoint> list = new ArrayList<>(boundaryPointCount(i));
+        for (int p = pointStart[i]; p < pointStart[i + 1]; p++) list.add(new PlanPoint(pointXs[p], pointYs[p]));
+        return list;
+    }
+}
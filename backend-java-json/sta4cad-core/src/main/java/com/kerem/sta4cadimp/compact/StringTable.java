@@ -0,0 +1,46 @@
+package com.kerem.sta4cadimp.compact;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kompakt modelde tekrar eden metinler (kolon tipleri, S/A kimlikleri, etiketler, özellik kodları, aks
+ * referansları) için ortak tablo. Elemanlar metnin kendisi yerine tablodaki sırasını ({@code int})
+ * tutar; {@link #NONE} null anlamına gelir. Tablo model kurulurken doldurulur ve {@link #seal()} ile
+ * arama haritası bırakılarak salt okunur hale gelir.
+ */
+public final class StringTable {
+
+    public static final int NONE = -1;
+
+    private String[] values = new String[64];
+    private int size;
+    private Map<String, Integer> index = new HashMap<>();
+
+    StringTable() {
+    }
+
+    public String get(int i) {
+        return i == NONE ? null : values[i];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int intern(String value) {
+        if (value == null) return NONE;
+        Integer existing = index.get(value);
+        if (existing != null) return existing;
+        if (size == values.length) values = Arrays.copyOf(values, size * 2);
+        values[size] = value;
+        index.put(value, size);
+        return size++;
+    }
+
+    void seal() {
+        values = Arrays.copyOf(values, size);
+        index = null;
+    }
+}
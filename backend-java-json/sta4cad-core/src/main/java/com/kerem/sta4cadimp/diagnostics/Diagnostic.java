@@ -0,0 +1,23 @@
+package com.kerem.sta4cadimp.diagnostics;
+
+import lombok.Getter;
+
+/** Tek bir sorun kaydı: satır numarası, bölüm, sorun türü ve (varsa) 1 tabanlı alan sırası. */
+@Getter
+public class Diagnostic {
+
+    private final int line;
+    private final String section;
+    private final DiagnosticCode code;
+    /** Sorunlu alanın satırdaki sırası (1'den başlar); alanla ilgili değilse 0. */
+    private final int field;
+    private final String text;
+
+    public Diagnostic(int line, String section, DiagnosticCode code, int field, String text) {
+        this.line = line;
+        this.section = section;
+        this.code = code;
+        this.field = field;
+        this.text = text;
+    }
+}
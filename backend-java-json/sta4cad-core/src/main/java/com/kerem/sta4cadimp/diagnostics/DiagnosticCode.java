@@ -0,0 +1,27 @@
+package com.kerem.sta4cadimp.diagnostics;
+
+/** Ayrıştırma sırasında karşılaşılan sorun türleri. */
+public enum DiagnosticCode {
+    /** Kayıt, bölümün beklediğinden az alan içeriyor. */
+    MISSING_FIELD("Eksik alan"),
+    /** Sayısal olması gereken alan sayı olarak okunamadı. */
+    INVALID_NUMBER("Geçersiz sayı"),
+    /** Eleman etiketinin ilk karakteri kat numarası değil. */
+    INVALID_FLOOR_LABEL("Etiketten kat numarası okunamadı"),
+    /** Etiketteki kat numarasına karşılık gelen kat yok. */
+    UNKNOWN_FLOOR("Kat bulunamadı"),
+    /** Kiriş/panelin düzlem veya açıklık aks referansı aks tablosunda yok; konum hesaplanamadı. */
+    UNKNOWN_AXIS("Aks bulunamadı"),
+    /** Yukarıdakilerin dışında, satır işlenirken beklenmeyen bir hata. */
+    UNEXPECTED("Beklenmeyen hata");
+
+    private final String description;
+
+    DiagnosticCode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
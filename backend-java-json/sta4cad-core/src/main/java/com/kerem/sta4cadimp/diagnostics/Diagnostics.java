@@ -0,0 +1,90 @@
+package com.kerem.sta4cadimp.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ayrıştırma sorunlarını istisna fırlatmadan ve satır başına log yazmadan toplayan sınırlı koleksiyon.
+ * Her sorun türünden en fazla {@code maxPerCode}, toplamda en fazla {@code maxTotal} kayıt saklanır;
+ * sınırı aşan kayıtlar yalnızca sayılır. Böylece kirli bir dosya da temiz bir dosya kadar hızlı ve
+ * sınırlı bellekle işlenir. İş parçacığı güvenli değildir; paralel okumada her parça kendi
+ * örneğini doldurur ve sonuçlar {@link #append(Diagnostics)} ile dosya sırasıyla birleştirilir.
+ */
+public class Diagnostics {
+
+    public static final int DEFAULT_MAX_PER_CODE = 100;
+    public static final int DEFAULT_MAX_TOTAL = 1000;
+    // Saklanan satır metni bu uzunlukta kesilir.
+    private static final int MAX_TEXT_LENGTH = 160;
+
+    private final int maxPerCode;
+    private final int maxTotal;
+    private final List<Diagnostic> entries = new ArrayList<>();
+    private final Map<DiagnosticCode, Integer> kept = new EnumMap<>(DiagnosticCode.class);
+    private final Map<DiagnosticCode, Long> counts = new EnumMap<>(DiagnosticCode.class);
+
+    public Diagnostics() {
+        this(DEFAULT_MAX_PER_CODE, DEFAULT_MAX_TOTAL);
+    }
+
+    public Diagnostics(int maxPerCode, int maxTotal) {
+        this.maxPerCode = maxPerCode;
+        this.maxTotal = maxTotal;
+    }
+
+    public void record(int line, String section, DiagnosticCode code, int field, CharSequence text) {
+        counts.merge(code, 1L, Long::sum);
+        if (entries.size() >= maxTotal || kept.getOrDefault(code, 0) >= maxPerCode) return;
+        kept.merge(code, 1, Integer::sum);
+        String excerpt = text == null ? null
+                : text.length() > MAX_TEXT_LENGTH ? text.subSequence(0, MAX_TEXT_LENGTH) + "..." : text.toString();
+        entries.add(new Diagnostic(line, section, code, field, excerpt));
+    }
+
+    /** Başka bir parçanın kayıtlarını sınırlar korunarak sona ekler; sayaçlar her durumda toplanır. */
+    public void append(Diagnostics other) {
+        for (Diagnostic d : other.entries) {
+            if (entries.size() >= maxTotal || kept.getOrDefault(d.getCode(), 0) >= maxPerCode) continue;
+            kept.merge(d.getCode(), 1, Integer::sum);
+            entries.add(d);
+        }
+        other.counts.forEach((code, count) -> counts.merge(code, count, Long::sum));
+    }
+
+    public List<Diagnostic> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /** Sınır nedeniyle saklanmayanlar dahil, türe göre toplam sorun sayıları. */
+    public Map<DiagnosticCode, Long> getCounts() {
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public long totalCount() {
+        long total = 0;
+        for (long count : counts.values()) total += count;
+        return total;
+    }
+
+    /** Sınır nedeniyle yalnızca sayılan kayıtlar. */
+    public long suppressedCount() {
+        return totalCount() - entries.size();
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    /** Log ve konsol için kısa özet, örn. "INVALID_NUMBER=12, MISSING_FIELD=3". */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        counts.forEach((code, count) -> {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(code.name()).append('=').append(count);
+        });
+        return sb.toString();
+    }
+}
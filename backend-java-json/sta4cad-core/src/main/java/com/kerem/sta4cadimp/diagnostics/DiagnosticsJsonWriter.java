@@ -0,0 +1,46 @@
+package com.kerem.sta4cadimp.diagnostics;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/** {@link Diagnostics} içeriğini dönüşüm çıktısının yanına yazılan yan dosya (sidecar) olarak yazar. */
+public class DiagnosticsJsonWriter {
+
+    /** Çıktı dosyasının yan dosya yolu: {@code model.json -> model.json.diagnostics.json}. */
+    public static Path sidecarFor(Path outputFile) {
+        return outputFile.resolveSibling(outputFile.getFileName() + ".diagnostics.json");
+    }
+
+    public void write(String inputName, Diagnostics diagnostics, Path file) throws IOException {
+        try (JsonGenerator g = new JsonFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            g.useDefaultPrettyPrinter();
+            g.writeStartObject();
+            g.writeStringField("input", inputName);
+            g.writeNumberField("total", diagnostics.totalCount());
+            g.writeNumberField("suppressed", diagnostics.suppressedCount());
+            g.writeObjectFieldStart("counts");
+            for (Map.Entry<DiagnosticCode, Long> count : diagnostics.getCounts().entrySet()) {
+                g.writeNumberField(count.getKey().name(), count.getValue());
+            }
+            g.writeEndObject();
+            g.writeArrayFieldStart("entries");
+            for (Diagnostic d : diagnostics.getEntries()) {
+                g.writeStartObject();
+                g.writeNumberField("line", d.getLine());
+                g.writeStringField("section", d.getSection());
+                g.writeStringField("code", d.getCode().name());
+                g.writeStringField("description", d.getCode().getDescription());
+                if (d.getField() > 0) g.writeNumberField("field", d.getField());
+                g.writeStringField("text", d.getText());
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+            g.writeEndObject();
+        }
+    }
+}
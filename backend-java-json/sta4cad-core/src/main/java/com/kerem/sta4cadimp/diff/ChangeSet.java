@@ -0,0 +1,105 @@
+package com.kerem.sta4cadimp.diff;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * İki revizyon arasındaki farklar. Eleman türü başına eklenen elemanlar (tüm karşılaştırılan alanlarıyla),
+ * silinen elemanların anahtarları ve yalnızca değişen alanları içeren değişiklik kayıtları tutulur.
+ */
+@Getter
+public class ChangeSet {
+
+    private final String oldFileName;
+    private final String newFileName;
+    private final List<KindChanges> kinds = new ArrayList<>();
+
+    public ChangeSet(String oldFileName, String newFileName) {
+        this.oldFileName = oldFileName;
+        this.newFileName = newFileName;
+    }
+
+    public int addedCount() {
+        return kinds.stream().mapToInt(k -> k.added.size()).sum();
+    }
+
+    public int removedCount() {
+        return kinds.stream().mapToInt(k -> k.removed.size()).sum();
+    }
+
+    public int changedCount() {
+        return kinds.stream().mapToInt(k -> k.changed.size()).sum();
+    }
+
+    public int movedCount() {
+        return kinds.stream().mapToInt(k -> (int) k.changed.stream().filter(ChangedElement::isMoved).count()).sum();
+    }
+
+    public int unchangedCount() {
+        return kinds.stream().mapToInt(KindChanges::getUnchanged).sum();
+    }
+
+    public boolean isEmpty() {
+        return addedCount() == 0 && removedCount() == 0 && changedCount() == 0;
+    }
+
+    @Getter
+    public static class KindChanges {
+        private final String kind;
+        private final List<AddedElement> added = new ArrayList<>();
+        private final List<String> removed = new ArrayList<>();
+        private final List<ChangedElement> changed = new ArrayList<>();
+        private int unchanged;
+
+        KindChanges(String kind) {
+            this.kind = kind;
+        }
+
+        void countUnchanged() {
+            unchanged++;
+        }
+    }
+
+    @Getter
+    public static class AddedElement {
+        private final String key;
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        AddedElement(String key) {
+            this.key = key;
+        }
+    }
+
+    @Getter
+    public static class ChangedElement {
+        private final String key;
+        private final List<FieldChange> fields = new ArrayList<>();
+        private boolean moved;
+
+        ChangedElement(String key) {
+            this.key = key;
+        }
+
+        void add(FieldChange change, boolean geometry) {
+            fields.add(change);
+            moved |= geometry;
+        }
+    }
+
+    @Getter
+    public static class FieldChange {
+        private final String name;
+        private final Object oldValue;
+        private final Object newValue;
+
+        FieldChange(String name, Object oldValue, Object newValue) {
+            this.name = name;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+    }
+}
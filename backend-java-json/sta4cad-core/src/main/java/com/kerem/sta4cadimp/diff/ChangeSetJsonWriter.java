@@ -0,0 +1,121 @@
+package com.kerem.sta4cadimp.diff;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ChangeSet'i yazar. Boş listeler ve hiç değişikliği olmayan türler atlanır, böylece küçük bir
+ * revizyonun çıktısı da küçük kalır.
+ */
+public class ChangeSetJsonWriter {
+
+    private final JsonFactory factory;
+    private final boolean pretty;
+
+    public ChangeSetJsonWriter(boolean pretty) {
+        this.factory = new JsonFactory();
+        this.pretty = pretty;
+    }
+
+    public void write(ChangeSet changeSet, Path outputFile) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(outputFile), 64 * 1024)) {
+            write(changeSet, out);
+        }
+    }
+
+    public void write(ChangeSet changeSet, OutputStream out) throws IOException {
+        try (JsonGenerator g = factory.createGenerator(out, JsonEncoding.UTF8)) {
+            if (pretty) g.useDefaultPrettyPrinter();
+            g.writeStartObject();
+            g.writeStringField("oldFileName", changeSet.getOldFileName());
+            g.writeStringField("newFileName", changeSet.getNewFileName());
+
+            g.writeObjectFieldStart("summary");
+            g.writeNumberField("added", changeSet.addedCount());
+            g.writeNumberField("removed", changeSet.removedCount());
+            g.writeNumberField("changed", changeSet.changedCount());
+            g.writeNumberField("moved", changeSet.movedCount());
+            g.writeNumberField("unchanged", changeSet.unchangedCount());
+            g.writeEndObject();
+
+            for (ChangeSet.KindChanges kind : changeSet.getKinds()) {
+                if (kind.getAdded().isEmpty() && kind.getRemoved().isEmpty() && kind.getChanged().isEmpty()) continue;
+                g.writeObjectFieldStart(kind.getKind());
+                writeAdded(g, kind.getAdded());
+                writeRemoved(g, kind.getRemoved());
+                writeChanged(g, kind.getChanged());
+                g.writeEndObject();
+            }
+            g.writeEndObject();
+        }
+    }
+
+    private static void writeAdded(JsonGenerator g, List<ChangeSet.AddedElement> added) throws IOException {
+        if (added.isEmpty()) return;
+        g.writeArrayFieldStart("added");
+        for (ChangeSet.AddedElement element : added) {
+            g.writeStartObject();
+            g.writeStringField("key", element.getKey());
+            for (Map.Entry<String, Object> value : element.getValues().entrySet()) {
+                g.writeFieldName(value.getKey());
+                writeValue(g, value.getValue());
+            }
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+    }
+
+    private static void writeRemoved(JsonGenerator g, List<String> removed) throws IOException {
+        if (removed.isEmpty()) return;
+        g.writeArrayFieldStart("removed");
+        for (String key : removed) g.writeString(key);
+        g.writeEndArray();
+    }
+
+    private static void writeChanged(JsonGenerator g, List<ChangeSet.ChangedElement> changed) throws IOException {
+        if (changed.isEmpty()) return;
+        g.writeArrayFieldStart("changed");
+        for (ChangeSet.ChangedElement element : changed) {
+            g.writeStartObject();
+            g.writeStringField("key", element.getKey());
+            if (element.isMoved()) g.writeBooleanField("moved", true);
+            g.writeObjectFieldStart("fields");
+            for (ChangeSet.FieldChange field : element.getFields()) {
+                g.writeObjectFieldStart(field.getName());
+                g.writeFieldName("old");
+                writeValue(g, field.getOldValue());
+                g.writeFieldName("new");
+                writeValue(g, field.getNewValue());
+                g.writeEndObject();
+            }
+            g.writeEndObject();
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+    }
+
+    private static void writeValue(JsonGenerator g, Object value) throws IOException {
+        if (value == null) {
+            g.writeNull();
+        } else if (value instanceof Double) {
+            g.writeNumber((Double) value);
+        } else if (value instanceof Integer) {
+            g.writeNumber((Integer) value);
+        } else if (value instanceof List) {
+            g.writeStartArray();
+            for (Object item : (List<?>) value) writeValue(g, item);
+            g.writeEndArray();
+        } else {
+            g.writeString(value.toString());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.kerem.sta4cadimp.diff;
+
+import com.kerem.sta4cadimp.entity.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Karşılaştırılan bir eleman türünün tanımı: kararlı eşleştirme anahtarı ve karşılaştırılan alanlar.
+ * Anahtarlar veritabanı id'lerine değil .st4 içindeki kimliklere dayanır; böylece iki revizyon ayrı ayrı
+ * ayrıştırılsa da aynı eleman aynı anahtarı üretir.
+ */
+final class ElementKind<T> {
+
+    static final class Field<T> {
+        final String name;
+        final Function<T, Object> getter;
+        /** Konum alanı mı? Yalnızca bu alanlar değişmişse eleman "taşındı" olarak işaretlenir. */
+        final boolean geometry;
+
+        Field(String name, Function<T, Object> getter, boolean geometry) {
+            this.name = name;
+            this.getter = getter;
+            this.geometry = geometry;
+        }
+    }
+
+    final String name;
+    final Function<Project, List<T>> elements;
+    final Function<T, String> key;
+    final List<Field<T>> fields = new ArrayList<>();
+
+    private ElementKind(String name, Function<Project, List<T>> elements, Function<T, String> key) {
+        this.name = name;
+        this.elements = elements;
+        this.key = key;
+    }
+
+    private ElementKind<T> field(String fieldName, Function<T, Object> getter) {
+        fields.add(new Field<>(fieldName, getter, false));
+        return this;
+    }
+
+    private ElementKind<T> geometry(String fieldName, Function<T, Object> getter) {
+        fields.add(new Field<>(fieldName, getter, true));
+        return this;
+    }
+
+    static final ElementKind<Floor> FLOORS = new ElementKind<Floor>("floors", Project::getFloors,
+            f -> String.valueOf(f.getOriginalNumber()))
+            .field("name", Floor::getName)
+            .field("originalNumber", Floor::getOriginalNumber)
+            .geometry("elevation", Floor::getElevation)
+            .geometry("height", Floor::getHeight);
+
+    static final ElementKind<Axis> AXES = new ElementKind<Axis>("axes", Project::getAxes, Axis::getLabel)
+            .field("label", Axis::getLabel)
+            .field("type", a -> a.getType() == null ? null : a.getType().name())
+            .geometry("coordinate", Axis::getCoordinate);
+
+    static final ElementKind<StructuralColumn> COLUMNS = new ElementKind<StructuralColumn>("columns", Project::getColumns,
+            c -> floorNumber(c.getFloor()) + "/" + c.getSt4Sid() + "/" + c.getSt4Aid())
+            .field("floor", c -> floorNumber(c.getFloor()))
+            .field("st4Sid", StructuralColumn::getSt4Sid)
+            .field("st4Aid", StructuralColumn::getSt4Aid)
+            .field("typeLabel", StructuralColumn::getTypeLabel)
+            .field("dimensionWidthCm", StructuralColumn::getDimensionWidthCm)
+            .field("dimensionHeightCm", StructuralColumn::getDimensionHeightCm)
+            .geometry("positionXMetre", StructuralColumn::getPositionXMetre)
+            .geometry("positionYMetre", StructuralColumn::getPositionYMetre)
+            .geometry("offsetXmm", StructuralColumn::getOffsetXmm)
+            .geometry("offsetYmm", StructuralColumn::getOffsetYmm);
+
+    static final ElementKind<Beam> BEAMS = new ElementKind<Beam>("beams", Project::getBeams,
+            b -> floorNumber(b.getFloor()) + "/" + b.getLabel())
+            .field("floor", b -> floorNumber(b.getFloor()))
+            .field("label", Beam::getLabel)
+            .field("widthCm", Beam::getWidthCm)
+            .field("heightCm", Beam::getHeightCm)
+            .field("propertyCode", Beam::getPropertyCode)
+            .field("planeAxisRef", Beam::getPlaneAxisRef)
+            .field("startSpanAxisRef", Beam::getStartSpanAxisRef)
+            .field("endSpanAxisRef", Beam::getEndSpanAxisRef)
+            .geometry("startXMetre", Beam::getStartXMetre)
+            .geometry("startYMetre", Beam::getStartYMetre)
+            .geometry("endXMetre", Beam::getEndXMetre)
+            .geometry("endYMetre", Beam::getEndYMetre)
+            .geometry("startZOffsetCm", Beam::getStartZOffsetCm)
+            .geometry("endZOffsetCm", Beam::getEndZOffsetCm)
+            .field("wallThicknessCm", Beam::getWallThicknessCm)
+            .field("wallHeightCm", Beam::getWallHeightCm)
+            .field("startColumn", b -> columnKey(b.getStartColumn()))
+            .field("endColumn", b -> columnKey(b.getEndColumn()));
+
+    static final ElementKind<Panel> PANELS = new ElementKind<Panel>("panels", Project::getPanels,
+            p -> floorNumber(p.getFloor()) + "/" + p.getLabel())
+            .field("floor", p -> floorNumber(p.getFloor()))
+            .field("label", Panel::getLabel)
+            .field("widthCm", Panel::getWidthCm)
+            .field("heightCm", Panel::getHeightCm)
+            .field("propertyCode", Panel::getPropertyCode)
+            .geometry("startXMetre", Panel::getStartXMetre)
+            .geometry("startYMetre", Panel::getStartYMetre)
+            .geometry("endXMetre", Panel::getEndXMetre)
+            .geometry("endYMetre", Panel::getEndYMetre)
+            .geometry("startZOffsetCm", Panel::getStartZOffsetCm)
+            .geometry("endZOffsetCm", Panel::getEndZOffsetCm)
+            .field("startColumn", p -> columnKey(p.getStartColumn()))
+            .field("endColumn", p -> columnKey(p.getEndColumn()));
+
+    static final ElementKind<Slab> SLABS = new ElementKind<Slab>("slabs", ElementKind::slabsOf,
+            s -> floorNumber(s.getFloor()) + "/" + s.getLabel())
+            .field("floor", s -> floorNumber(s.getFloor()))
+            .field("label", Slab::getLabel)
+            .field("thicknessCm", Slab::getThicknessCm)
+            .geometry("boundaryAxisRefs", Slab::getBoundaryAxisRefs)
+            .geometry("areaSquareMetre", Slab::getAreaSquareMetre)
+            .geometry("centroidXMetre", Slab::getCentroidXMetre)
+            .geometry("centroidYMetre", Slab::getCentroidYMetre);
+
+    static final ElementKind<FoundationSlab> FOUNDATION_SLABS = new ElementKind<FoundationSlab>("foundationSlabs",
+            Project::getFoundationSlabs, FoundationSlab::getLabel)
+            .field("label", FoundationSlab::getLabel)
+            .field("thicknessCm", FoundationSlab::getThicknessCm)
+            .geometry("elevationMetre", FoundationSlab::getElevationMetre)
+            .geometry("boundaryAxisRefs", FoundationSlab::getBoundaryAxisRefs)
+            .geometry("areaSquareMetre", FoundationSlab::getAreaSquareMetre)
+            .geometry("centroidXMetre", FoundationSlab::getCentroidXMetre)
+            .geometry("centroidYMetre", FoundationSlab::getCentroidYMetre);
+
+    static final List<ElementKind<?>> ALL = List.of(FLOORS, AXES, COLUMNS, BEAMS, PANELS, SLABS, FOUNDATION_SLABS);
+
+    private static Integer floorNumber(Floor floor) {
+        return floor == null ? null : floor.getOriginalNumber();
+    }
+
+    // Kolon bağlantıları id ile değil, iki revizyonda da aynı kalan kolon anahtarıyla karşılaştırılır.
+    private static String columnKey(StructuralColumn column) {
+        return column == null ? null : COLUMNS.key.apply(column);
+    }
+
+    // Döşemeler Project üzerinde ayrı bir listede tutulmuyor, katlardan toplanır.
+    private static List<Slab> slabsOf(Project project) {
+        List<Slab> slabs = new ArrayList<>();
+        for (Floor floor : project.getFloors()) slabs.addAll(floor.getSlabs());
+        return slabs;
+    }
+}
@@ -0,0 +1,91 @@
+package com.kerem.sta4cadimp.diff;
+
+import com.kerem.sta4cadimp.entity.Project;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * İki ayrıştırılmış revizyonu kararlı anahtarlarla eşleştirir. Her tür için eski elemanlar anahtar
+ * -> eleman haritasına konur ve yeni elemanlar bu haritada aranır; toplam maliyet eleman sayısıyla
+ * doğrusaldır. Aynı anahtar birden çok kez geçiyorsa (ör. aynı etiketli iki kiriş) sonrakiler
+ * "#2", "#3" ekiyle, geçiş sırasına göre eşleştirilir.
+ */
+public class ProjectDiff {
+
+    /** Ondalık alanlarda bu farkın altındaki sapmalar değişiklik sayılmaz. */
+    public static final double DEFAULT_TOLERANCE = 1e-6;
+
+    private final double tolerance;
+
+    public ProjectDiff(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public ProjectDiff() {
+        this(DEFAULT_TOLERANCE);
+    }
+
+    public ChangeSet compare(Project oldProject, Project newProject) {
+        ChangeSet changeSet = new ChangeSet(oldProject.getFileName(), newProject.getFileName());
+        for (ElementKind<?> kind : ElementKind.ALL) {
+            changeSet.getKinds().add(compare(kind, oldProject, newProject));
+        }
+        return changeSet;
+    }
+
+    private <T> ChangeSet.KindChanges compare(ElementKind<T> kind, Project oldProject, Project newProject) {
+        ChangeSet.KindChanges changes = new ChangeSet.KindChanges(kind.name);
+        Map<String, T> remaining = index(kind, kind.elements.apply(oldProject));
+
+        List<T> newElements = kind.elements.apply(newProject);
+        Map<String, Integer> seen = new HashMap<>(newElements.size() * 2);
+        for (T element : newElements) {
+            String key = uniqueKey(kind.key.apply(element), seen);
+            T previous = remaining.remove(key);
+            if (previous == null) {
+                ChangeSet.AddedElement added = new ChangeSet.AddedElement(key);
+                for (ElementKind.Field<T> field : kind.fields) added.getValues().put(field.name, field.getter.apply(element));
+                changes.getAdded().add(added);
+                continue;
+            }
+            ChangeSet.ChangedElement changed = null;
+            for (ElementKind.Field<T> field : kind.fields) {
+                Object oldValue = field.getter.apply(previous);
+                Object newValue = field.getter.apply(element);
+                if (sameValue(oldValue, newValue)) continue;
+                if (changed == null) changed = new ChangeSet.ChangedElement(key);
+                changed.add(new ChangeSet.FieldChange(field.name, oldValue, newValue), field.geometry);
+            }
+            if (changed == null) changes.countUnchanged();
+            else changes.getChanged().add(changed);
+        }
+        // Eşleşmeden kalan eski elemanlar silinmiştir; eski dosyadaki sıraları korunur.
+        changes.getRemoved().addAll(remaining.keySet());
+        return changes;
+    }
+
+    private static <T> Map<String, T> index(ElementKind<T> kind, List<T> elements) {
+        Map<String, T> byKey = new LinkedHashMap<>(elements.size() * 2);
+        Map<String, Integer> seen = new HashMap<>(elements.size() * 2);
+        for (T element : elements) byKey.put(uniqueKey(kind.key.apply(element), seen), element);
+        return byKey;
+    }
+
+    private static String uniqueKey(String key, Map<String, Integer> seen) {
+        int occurrence = seen.merge(key, 1, Integer::sum);
+        return occurrence == 1 ? key : key + "#" + occurrence;
+    }
+
+    private boolean sameValue(Object a, Object b) {
+        if (a instanceof Double && b instanceof Double) {
+            double x = (Double) a;
+            double y = (Double) b;
+            return x == y || Math.abs(x - y) <= tolerance;
+        }
+        return Objects.equals(a, b);
+    }
+}
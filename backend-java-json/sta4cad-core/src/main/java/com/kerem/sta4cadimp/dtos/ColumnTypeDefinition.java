@@ -1,9 +1,10 @@
 package com.kerem.sta4cadimp.dtos;
 
+/** Kolon kesit tanımı. Ayrıştırıcı aynı tanımı birden çok kolon ve proje arasında paylaştığından değiştirilemez. */
 public class ColumnTypeDefinition {
-    public String typeLabel;
-    public double widthCm;
-    public double heightCm;
+    public final String typeLabel;
+    public final double widthCm;
+    public final double heightCm;
 
     public ColumnTypeDefinition(String typeLabel, double widthCm, double heightCm) {
         this.typeLabel = typeLabel;
@@ -13,7 +13,8 @@ import java.util.Objects;
 @Table(name = "axes")
 public class Axis {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "axis_id_gen")
+    @SequenceGenerator(name = "axis_id_gen", sequenceName = "axis_seq", allocationSize = EntityIds.ALLOCATION_SIZE)
     private Long id;
 
     @Enumerated(EnumType.STRING)
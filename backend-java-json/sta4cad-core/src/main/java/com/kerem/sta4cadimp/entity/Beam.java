@@ -1,6 +1,8 @@
 package com.kerem.sta4cadimp.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,7 +15,8 @@ import java.util.Objects;
 @Table(name = "beams")
 public class Beam {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "beam_id_gen")
+    @SequenceGenerator(name = "beam_id_gen", sequenceName = "beam_seq", allocationSize = EntityIds.ALLOCATION_SIZE)
     private Long id;
 
     private String label;
@@ -46,16 +49,28 @@ public class Beam {
     @JsonBackReference
     private Project project;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    // Kat içinde kirişler kolonlardan önce kademelendirilir; PERSIST kademesi kolonun önce
+    // yazılmasını sağlar, yabancı anahtar için sonradan ayrı bir UPDATE gerekmez.
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     @JoinColumn(name = "start_column_id")
-    @JsonBackReference
+    @JsonIgnore
     private StructuralColumn startColumn;
 
-    @ManyToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     @JoinColumn(name = "end_column_id")
-    @JsonBackReference
+    @JsonIgnore
     private StructuralColumn endColumn;
 
+    @JsonProperty("startColumnId")
+    public Long getStartColumnId() {
+        return startColumn != null ? startColumn.getId() : null;
+    }
+
+    @JsonProperty("endColumnId")
+    public Long getEndColumnId() {
+        return endColumn != null ? endColumn.getId() : null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
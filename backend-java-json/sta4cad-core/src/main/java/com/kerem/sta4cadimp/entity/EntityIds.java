@@ -0,0 +1,15 @@
+package com.kerem.sta4cadimp.entity;
+
+/**
+ * Kimlik üretimi ayarları. IDENTITY stratejisi her satır için veritabanından id beklediğinden
+ * Hibernate toplu INSERT yapamaz; bunun yerine her tablo kendi sequence'ini kullanır ve Hibernate
+ * bellekte ALLOCATION_SIZE'lık bloklar halinde id dağıtır (pooled optimizer), böylece INSERT'ler
+ * JDBC batch'leri halinde gönderilebilir.
+ */
+public final class EntityIds {
+
+    public static final int ALLOCATION_SIZE = 500;
+
+    private EntityIds() {
+    }
+}
@@ -16,7 +16,8 @@ import java.util.Objects;
 @Table(name = "floors")
 public class Floor {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "floor_id_gen")
+    @SequenceGenerator(name = "floor_id_gen", sequenceName = "floor_seq", allocationSize = EntityIds.ALLOCATION_SIZE)
     private Long id;
 
     private String name;
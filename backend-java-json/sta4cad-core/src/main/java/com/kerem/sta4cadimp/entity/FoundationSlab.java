@@ -14,7 +14,8 @@ import java.util.List;
 @Table(name = "foundation_slabs")
 public class FoundationSlab {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "foundation_slab_id_gen")
+    @SequenceGenerator(name = "foundation_slab_id_gen", sequenceName = "foundation_slab_seq", allocationSize = EntityIds.ALLOCATION_SIZE)
     private Long id;
 
     private String label;
@@ -26,6 +27,16 @@ public class FoundationSlab {
     @Column(name = "axis_ref")
     private List<String> boundaryAxisRefs = new ArrayList<>();
 
+    /** Sınır akslarından hesaplanan plan poligonu (saat yönünün tersine); akslar çözülemezse boş. */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "foundation_slab_boundary_points", joinColumns = @JoinColumn(name = "foundation_slab_id"))
+    @OrderColumn(name = "point_index")
+    private List<PlanPoint> boundary = new ArrayList<>();
+
+    private Double areaSquareMetre;
+    private Double centroidXMetre;
+    private Double centroidYMetre;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     @JsonBackReference
@@ -0,0 +1,64 @@
+package com.kerem.sta4cadimp.entity;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "panels")
+public class Panel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "panel_id_gen")
+    @SequenceGenerator(name = "panel_id_gen", sequenceName = "panel_seq", allocationSize = EntityIds.ALLOCATION_SIZE)
+    private Long id;
+
+    private String label;
+    private double widthCm;
+    private double heightCm;
+    private String propertyCode;
+
+    private double startXMetre;
+    private double startYMetre;
+    private double endXMetre;
+    private double endYMetre;
+
+    private Double startZOffsetCm;
+    private Double endZOffsetCm;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "floor_id")
+    @JsonBackReference("floor-panel")
+    private Floor floor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id")
+    @JsonBackReference("project-panel")
+    private Project project;
+
+    // Kolon, panelden önce eklenmemiş olabilir (kat listelerinin kademelendirme sırası); PERSIST
+    // kademesi kolonun önce yazılmasını sağlar, sonradan ayrı bir UPDATE gerekmez.
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    @JoinColumn(name = "start_column_id")
+    @JsonIgnore
+    private StructuralColumn startColumn;
+
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    @JoinColumn(name = "end_column_id")
+    @JsonIgnore
+    private StructuralColumn endColumn;
+
+    @JsonProperty("startColumnId")
+    public Long getStartColumnId() {
+        return startColumn != null ? startColumn.getId() : null;
+    }
+
+    @JsonProperty("endColumnId")
+    public Long getEndColumnId() {
+        return endColumn != null ? endColumn.getId() : null;
+    }
+}
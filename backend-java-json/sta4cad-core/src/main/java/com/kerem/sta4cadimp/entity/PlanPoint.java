@@ -0,0 +1,43 @@
+package com.kerem.sta4cadimp.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * Plan düzleminde bir nokta (m). Döşeme sınır poligonunun köşeleri için kullanılır; aynı aks kesişimini
+ * paylaşan döşemeler aynı örneği paylaşabildiğinden değiştirilemez tutulur.
+ */
+@Embeddable
+@Getter
+public class PlanPoint {
+
+    @Column(name = "x_metre")
+    private double xMetre;
+
+    @Column(name = "y_metre")
+    private double yMetre;
+
+    protected PlanPoint() {
+    }
+
+    public PlanPoint(double xMetre, double yMetre) {
+        this.xMetre = xMetre;
+        this.yMetre = yMetre;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PlanPoint that = (PlanPoint) o;
+        return Double.compare(xMetre, that.xMetre) == 0 && Double.compare(yMetre, that.yMetre) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(xMetre, yMetre);
+    }
+}
@@ -2,6 +2,7 @@ package com.kerem.sta4cadimp.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.kerem.sta4cadimp.diagnostics.Diagnostics;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,7 +17,8 @@ import java.util.Objects;
 @Table(name = "projects")
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_id_gen")
+    @SequenceGenerator(name = "project_id_gen", sequenceName = "project_seq", allocationSize = EntityIds.ALLOCATION_SIZE)
     private Long id;
 
     private String fileName;
@@ -30,15 +32,18 @@ public class Project {
     @JsonManagedReference
     private List<Axis> axes = new ArrayList<>();
 
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    // Kolon, kiriş ve panellerin sahibi katlardır; kalıcılaştırma kat üzerinden kademelenir. Buradan da
+    // kademelendirilseydi Hibernate (özellikleri alfabetik gezdiği için) önce kirişleri, katları henüz
+    // kaydedilmemişken ekler ve floor_id'yi sonradan ayrı bir UPDATE ile doldururdu.
+    @OneToMany(mappedBy = "project", cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonIgnore
     private List<StructuralColumn> columns = new ArrayList<>();
 
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "project", cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonIgnore
     private List<Beam> beams = new ArrayList<>();
 
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "project", cascade = CascadeType.REMOVE, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference("project-panel")
     @JsonIgnore
     private List<Panel> panels = new ArrayList<>();
@@ -47,6 +52,10 @@ public class Project {
     @JsonManagedReference
     private List<FoundationSlab> foundationSlabs = new ArrayList<>();
 
+    // Ayrıştırma sırasında atlanan satırlar; kalıcılaştırılmaz ve JSON çıktısına girmez.
+    @Transient
+    @JsonIgnore
+    private Diagnostics diagnostics = new Diagnostics();
 
     public void addFloor(Floor floor) {
         floors.add(floor);
@@ -13,7 +13,8 @@ import java.util.List;
 @Table(name = "slabs")
 public class Slab {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "slab_id_gen")
+    @SequenceGenerator(name = "slab_id_gen", sequenceName = "slab_seq", allocationSize = EntityIds.ALLOCATION_SIZE)
     private Long id;
 
     private String label;
@@ -24,6 +25,16 @@ public class Slab {
     @Column(name = "axis_ref")
     private List<String> boundaryAxisRefs = new ArrayList<>();
 
+    /** Sınır akslarından hesaplanan plan poligonu (saat yönünün tersine); akslar çözülemezse boş. */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "slab_boundary_points", joinColumns = @JoinColumn(name = "slab_id"))
+    @OrderColumn(name = "point_index")
+    private List<PlanPoint> boundary = new ArrayList<>();
+
+    private Double areaSquareMetre;
+    private Double centroidXMetre;
+    private Double centroidYMetre;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "floor_id")
     @JsonBackReference
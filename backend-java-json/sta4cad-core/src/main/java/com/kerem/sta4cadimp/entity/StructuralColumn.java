@@ -1,5 +1,7 @@
 package com.kerem.sta4cadimp.entity;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.kerem.sta4cadimp.dtos.ColumnTypeDefinition;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,7 +14,8 @@ import java.util.Objects;
 @Table(name = "structural_columns") // "column" SQL anahtar kelimesi olabileceğinden "structural_columns" kullanıldı
 public class StructuralColumn {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "column_id_gen")
+    @SequenceGenerator(name = "column_id_gen", sequenceName = "column_seq", allocationSize = EntityIds.ALLOCATION_SIZE)
     private Long id;
 
     private String st4Sid; // .ST4 dosyasındaki S_ID
@@ -28,6 +31,12 @@ public class StructuralColumn {
     private double offsetXmm; // X kaçıklığı (mm)
     private double offsetYmm; // Y kaçıklığı (mm)
 
+    // Aynı kesitteki kolonlar ayrıştırıcının ortak tanım örneğini paylaşır; tip karşılaştırması referansla
+    // yapılabilir. Kalıcılaştırılmaz ve JSON'a yazılmaz.
+    @Transient
+    @JsonIgnore
+    private ColumnTypeDefinition section;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "floor_id")
     @JsonBackReference
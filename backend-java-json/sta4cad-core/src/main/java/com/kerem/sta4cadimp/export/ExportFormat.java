@@ -0,0 +1,55 @@
+package com.kerem.sta4cadimp.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+import java.util.Locale;
+
+/**
+ * Dışa aktarım biçimleri. İkisi de aynı şemayı (alan adları, iç içe yapı, alan sırası) taşır;
+ * SMILE, Jackson'ın ikili JSON biçimidir: alan adları ve tekrar eden kısa metinler (aks referansları,
+ * etiketler) bir kez yazılıp sonra geri referansla gösterilir, sayılar ikili kodlanır.
+ */
+public enum ExportFormat {
+    JSON("json", ".json", "application/json; charset=utf-8"),
+    SMILE("smile", ".sml", "application/x-jackson-smile");
+
+    private final String name;
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String name, String extension, String contentType) {
+        this.name = name;
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public JsonFactory createFactory() {
+        if (this == SMILE) {
+            return SmileFactory.builder()
+                    .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                    .build();
+        }
+        return new JsonFactory();
+    }
+
+    public static ExportFormat fromName(String name) {
+        for (ExportFormat format : values()) {
+            if (format.name.equals(name.toLowerCase(Locale.ROOT))) return format;
+        }
+        throw new IllegalArgumentException("Bilinmeyen çıktı biçimi: " + name + " (json veya smile olmalı)");
+    }
+}
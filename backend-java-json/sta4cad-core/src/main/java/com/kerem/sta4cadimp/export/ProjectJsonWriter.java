@@ -0,0 +1,299 @@
+package com.kerem.sta4cadimp.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.kerem.sta4cadimp.cache.ConversionCache;
+import com.kerem.sta4cadimp.entity.*;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Project grafiğini ObjectMapper'ın yansıma (reflection) tabanlı yolundan geçirmeden, doğrudan bir
+ * JsonGenerator ile yazar. Çıktı şeması ObjectMapper'ın ürettiği ile birebir aynıdır
+ * (floors -> columns/beams/slabs/panels, axes, foundationSlabs); alan sırası entity sınıflarındaki
+ * tanım sırasını izler. Entity'lere alan eklenirse buradaki yazıcı da, {@link ProjectReader} da
+ * güncellenmelidir. Aynı yazıcı {@link ExportFormat#SMILE} ile ikili biçimde de yazar.
+ */
+public class ProjectJsonWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportFormat format;
+    private final JsonFactory factory;
+    private final boolean pretty;
+
+    /** {@code pretty} yalnızca JSON için anlamlıdır; ikili biçimde yok sayılır. */
+    public ProjectJsonWriter(ExportFormat format, boolean pretty) {
+        this.format = format;
+        this.factory = format.createFactory();
+        this.pretty = pretty && format == ExportFormat.JSON;
+    }
+
+    public ProjectJsonWriter(boolean pretty) {
+        this(ExportFormat.JSON, pretty);
+    }
+
+    public ExportFormat getFormat() {
+        return format;
+    }
+
+    /** Çıktının biçimini tanımlar; aynı girdinin farklı biçimleri önbellekte ayrı tutulur. */
+    public String variant() {
+        return pretty ? format.getName() + "-pretty" : format.getName();
+    }
+
+    /**
+     * Çıktı geçici dosyaya yazılıp yerine taşınır; aynı anda okuyan biri (örn. izleme modunda Revit
+     * eklentisi) hiçbir zaman yarım yazılmış bir dosya görmez.
+     */
+    public void write(Project project, Path outputFile) throws IOException {
+        Path temp = ConversionCache.tempSibling(outputFile);
+        try {
+            try (OutputStream out = openFile(temp)) {
+                write(project, out);
+            }
+            ConversionCache.moveAtomically(temp, outputFile);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static OutputStream openFile(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+    }
+
+    public void write(Project project, OutputStream out) throws IOException {
+        try (JsonGenerator g = createGenerator(out)) {
+            writeProject(g, project);
+        }
+    }
+
+    JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator g = factory.createGenerator(out, JsonEncoding.UTF8);
+        if (pretty) g.useDefaultPrettyPrinter();
+        return g;
+    }
+
+    public void writeProject(JsonGenerator g, Project project) throws IOException {
+        g.writeStartObject();
+        writeLong(g, "id", project.getId());
+        g.writeStringField("fileName", project.getFileName());
+        g.writeStringField("projectTitle", project.getProjectTitle());
+
+        g.writeFieldName("floors");
+        if (project.getFloors() == null) {
+            g.writeNull();
+        } else {
+            g.writeStartArray();
+            for (Floor floor : project.getFloors()) writeFloor(g, floor);
+            g.writeEndArray();
+        }
+
+        g.writeFieldName("axes");
+        if (project.getAxes() == null) {
+            g.writeNull();
+        } else {
+            g.writeStartArray();
+            for (Axis axis : project.getAxes()) writeAxis(g, axis);
+            g.writeEndArray();
+        }
+
+        g.writeFieldName("foundationSlabs");
+        if (project.getFoundationSlabs() == null) {
+            g.writeNull();
+        } else {
+            g.writeStartArray();
+            for (FoundationSlab foundationSlab : project.getFoundationSlabs()) writeFoundationSlab(g, foundationSlab);
+            g.writeEndArray();
+        }
+        g.writeEndObject();
+    }
+
+    public void writeFloor(JsonGenerator g, Floor floor) throws IOException {
+        g.writeStartObject();
+        writeLong(g, "id", floor.getId());
+        g.writeStringField("name", floor.getName());
+        g.writeNumberField("originalNumber", floor.getOriginalNumber());
+        g.writeNumberField("elevation", floor.getElevation());
+        g.writeNumberField("height", floor.getHeight());
+
+        g.writeFieldName("columns");
+        if (floor.getColumns() == null) {
+            g.writeNull();
+        } else {
+            g.writeStartArray();
+            for (StructuralColumn column : floor.getColumns()) writeColumn(g, column);
+            g.writeEndArray();
+        }
+
+        g.writeFieldName("beams");
+        if (floor.getBeams() == null) {
+            g.writeNull();
+        } else {
+            g.writeStartArray();
+            for (Beam beam : floor.getBeams()) writeBeam(g, beam);
+            g.writeEndArray();
+        }
+
+        g.writeFieldName("slabs");
+        if (floor.getSlabs() == null) {
+            g.writeNull();
+        } else {
+            g.writeStartArray();
+            for (Slab slab : floor.getSlabs()) writeSlab(g, slab);
+            g.writeEndArray();
+        }
+
+        g.writeFieldName("panels");
+        if (floor.getPanels() == null) {
+            g.writeNull();
+        } else {
+            g.writeStartArray();
+            for (Panel panel : floor.getPanels()) writePanel(g, panel);
+            g.writeEndArray();
+        }
+        g.writeEndObject();
+    }
+
+    public void writeAxis(JsonGenerator g, Axis axis) throws IOException {
+        g.writeStartObject();
+        writeLong(g, "id", axis.getId());
+        g.writeStringField("type", axis.getType() != null ? axis.getType().name() : null);
+        g.writeStringField("label", axis.getLabel());
+        g.writeNumberField("coordinate", axis.getCoordinate());
+        g.writeEndObject();
+    }
+
+    private void writeColumn(JsonGenerator g, StructuralColumn column) throws IOException {
+        g.writeStartObject();
+        writeLong(g, "id", column.getId());
+        g.writeStringField("st4Sid", column.getSt4Sid());
+        g.writeStringField("st4Aid", column.getSt4Aid());
+        g.writeStringField("typeLabel", column.getTypeLabel());
+        g.writeNumberField("dimensionWidthCm", column.getDimensionWidthCm());
+        g.writeNumberField("dimensionHeightCm", column.getDimensionHeightCm());
+        g.writeNumberField("positionXMetre", column.getPositionXMetre());
+        g.writeNumberField("positionYMetre", column.getPositionYMetre());
+        g.writeNumberField("offsetXmm", column.getOffsetXmm());
+        g.writeNumberField("offsetYmm", column.getOffsetYmm());
+        g.writeEndObject();
+    }
+
+    private void writeBeam(JsonGenerator g, Beam beam) throws IOException {
+        g.writeStartObject();
+        writeLong(g, "id", beam.getId());
+        g.writeStringField("label", beam.getLabel());
+        g.writeNumberField("widthCm", beam.getWidthCm());
+        g.writeNumberField("heightCm", beam.getHeightCm());
+        g.writeStringField("propertyCode", beam.getPropertyCode());
+        g.writeStringField("planeAxisRef", beam.getPlaneAxisRef());
+        g.writeStringField("startSpanAxisRef", beam.getStartSpanAxisRef());
+        g.writeStringField("endSpanAxisRef", beam.getEndSpanAxisRef());
+        g.writeNumberField("startXMetre", beam.getStartXMetre());
+        g.writeNumberField("startYMetre", beam.getStartYMetre());
+        g.writeNumberField("endXMetre", beam.getEndXMetre());
+        g.writeNumberField("endYMetre", beam.getEndYMetre());
+        writeDouble(g, "startZOffsetCm", beam.getStartZOffsetCm());
+        writeDouble(g, "endZOffsetCm", beam.getEndZOffsetCm());
+        writeDouble(g, "wallThicknessCm", beam.getWallThicknessCm());
+        writeDouble(g, "wallHeightCm", beam.getWallHeightCm());
+        writeLong(g, "startColumnId", beam.getStartColumnId());
+        writeLong(g, "endColumnId", beam.getEndColumnId());
+        g.writeEndObject();
+    }
+
+    private void writeSlab(JsonGenerator g, Slab slab) throws IOException {
+        g.writeStartObject();
+        writeLong(g, "id", slab.getId());
+        g.writeStringField("label", slab.getLabel());
+        g.writeNumberField("thicknessCm", slab.getThicknessCm());
+        writeStrings(g, "boundaryAxisRefs", slab.getBoundaryAxisRefs());
+        writePoints(g, "boundary", slab.getBoundary());
+        writeDouble(g, "areaSquareMetre", slab.getAreaSquareMetre());
+        writeDouble(g, "centroidXMetre", slab.getCentroidXMetre());
+        writeDouble(g, "centroidYMetre", slab.getCentroidYMetre());
+        g.writeEndObject();
+    }
+
+    private void writePanel(JsonGenerator g, Panel panel) throws IOException {
+        g.writeStartObject();
+        writeLong(g, "id", panel.getId());
+        g.writeStringField("label", panel.getLabel());
+        g.writeNumberField("widthCm", panel.getWidthCm());
+        g.writeNumberField("heightCm", panel.getHeightCm());
+        g.writeStringField("propertyCode", panel.getPropertyCode());
+        g.writeNumberField("startXMetre", panel.getStartXMetre());
+        g.writeNumberField("startYMetre", panel.getStartYMetre());
+        g.writeNumberField("endXMetre", panel.getEndXMetre());
+        g.writeNumberField("endYMetre", panel.getEndYMetre());
+        writeDouble(g, "startZOffsetCm", panel.getStartZOffsetCm());
+        writeDouble(g, "endZOffsetCm", panel.getEndZOffsetCm());
+        writeLong(g, "startColumnId", panel.getStartColumnId());
+        writeLong(g, "endColumnId", panel.getEndColumnId());
+        g.writeEndObject();
+    }
+
+    public void writeFoundationSlab(JsonGenerator g, FoundationSlab foundationSlab) throws IOException {
+        g.writeStartObject();
+        writeLong(g, "id", foundationSlab.getId());
+        g.writeStringField("label", foundationSlab.getLabel());
+        g.writeNumberField("thicknessCm", foundationSlab.getThicknessCm());
+        g.writeNumberField("elevationMetre", foundationSlab.getElevationMetre());
+        writeStrings(g, "boundaryAxisRefs", foundationSlab.getBoundaryAxisRefs());
+        writePoints(g, "boundary", foundationSlab.getBoundary());
+        writeDouble(g, "areaSquareMetre", foundationSlab.getAreaSquareMetre());
+        writeDouble(g, "centroidXMetre", foundationSlab.getCentroidXMetre());
+        writeDouble(g, "centroidYMetre", foundationSlab.getCentroidYMetre());
+        g.writeEndObject();
+    }
+
+    private static void writeLong(JsonGenerator g, String name, Long value) throws IOException {
+        g.writeFieldName(name);
+        if (value == null) g.writeNull();
+        else g.writeNumber(value);
+    }
+
+    private static void writeDouble(JsonGenerator g, String name, Double value) throws IOException {
+        g.writeFieldName(name);
+        if (value == null) g.writeNull();
+        else g.writeNumber(value);
+    }
+
+    private static void writeStrings(JsonGenerator g, String name, List<String> values) throws IOException {
+        g.writeFieldName(name);
+        if (values == null) {
+            g.writeNull();
+            return;
+        }
+        g.writeStartArray();
+        for (String value : values) g.writeString(value);
+        g.writeEndArray();
+    }
+
+    private static void writePoints(JsonGenerator g, String name, List<PlanPoint> points) throws IOException {
+        g.writeFieldName(name);
+        if (points == null) {
+            g.writeNull();
+            return;
+        }
+        g.writeStartArray();
+        for (PlanPoint point : points) {
+            g.writeStartObject();
+            g.writeNumberField("xMetre", point.getXMetre());
+            g.writeNumberField("yMetre", point.getYMetre());
+            g.writeEndObject();
+        }
+        g.writeEndArray();
+    }
+}
@@ -0,0 +1,427 @@
+package com.kerem.sta4cadimp.export;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.kerem.sta4cadimp.entity.*;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ProjectJsonWriter} çıktısını (JSON veya Smile) akış halinde okuyup Project grafiğini yeniden
+ * kurar. Entity'lerdeki {@code @JsonBackReference} tanımları yüzünden ObjectMapper bu şemayı geri
+ * okuyamaz; bu yüzden okuma da yazıcı gibi doğrudan ayrıştırıcı (JsonParser) üzerinden yapılır.
+ *
+ * <p>Biçim içerikten anlaşılır (Smile dosyaları ":)\n" başlığıyla başlar). Bilinmeyen alanlar atlanır.
+ * Project üzerindeki kolon/kiriş/panel listeleri katlardaki sırayla doldurulur. Kiriş/panel uçlarının
+ * kolon bağlantıları ({@code startColumnId}/{@code endColumnId}) aynı kattaki kolonlara id ile bağlanır;
+ * yazıcı kolonları kirişlerden önce yazdığı için tek geçiş yeterlidir.</p>
+ *
+ * <p>{@link ShardedProjectWriter} paketleri {@link #readSharded(Path)} ile okunur: manifestteki başlık,
+ * akslar ve radyeler ile parça dosyasındaki katlar tek dosyalı çıktıdakiyle aynı grafiği verir.</p>
+ */
+public class ProjectReader {
+
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+    private final ExportFormat fixedFormat;
+
+    /** Biçimi içerikten algılayan okuyucu. */
+    public ProjectReader() {
+        this(null);
+    }
+
+    public ProjectReader(ExportFormat format) {
+        this.fixedFormat = format;
+    }
+
+    public Project read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    public Project read(InputStream input) throws IOException {
+        InputStream in = new BufferedInputStream(input, 64 * 1024);
+        ExportFormat format = fixedFormat != null ? fixedFormat : detect(in);
+        try (JsonParser p = format.createFactory().createParser(in)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Proje nesnesi bekleniyordu: " + p.currentToken());
+            }
+            return readProject(p);
+        }
+    }
+
+    /** Manifest ve yanındaki parça dosyasından projeyi kurar; katlar manifestteki sırayla okunur. */
+    public Project readSharded(Path manifestFile) throws IOException {
+        ExportFormat format;
+        Project project;
+        List<long[]> slices = new ArrayList<>();
+        String shardFileName = null;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(manifestFile), 64 * 1024)) {
+            format = fixedFormat != null ? fixedFormat : detect(in);
+            try (JsonParser p = format.createFactory().createParser(in)) {
+                if (p.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Manifest nesnesi bekleniyordu: " + p.currentToken());
+                }
+                project = new Project();
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = p.currentName();
+                    p.nextToken();
+                    switch (field) {
+                        case "format" -> {
+                            if (!ShardedProjectWriter.MANIFEST_FORMAT.equals(p.getValueAsString())) {
+                                throw new IOException("Parçalı paket manifesti değil: " + manifestFile);
+                            }
+                        }
+                        case "id" -> project.setId(longOrNull(p));
+                        case "fileName" -> project.setFileName(p.getValueAsString());
+                        case "projectTitle" -> project.setProjectTitle(p.getValueAsString());
+                        case "shardFile" -> shardFileName = p.getValueAsString();
+                        case "floors" -> {
+                            if (startArray(p)) {
+                                while (p.nextToken() == JsonToken.START_OBJECT) slices.add(readSlice(p));
+                            }
+                        }
+                        case "axes" -> {
+                            if (startArray(p)) {
+                                while (p.nextToken() == JsonToken.START_OBJECT) project.addAxis(readAxis(p));
+                            }
+                        }
+                        case "foundationSlabs" -> {
+                            if (startArray(p)) {
+                                while (p.nextToken() == JsonToken.START_OBJECT) project.addFoundationSlab(readFoundationSlab(p));
+                            }
+                        }
+                        default -> p.skipChildren();
+                    }
+                }
+            }
+        }
+        if (shardFileName == null) throw new IOException("Manifestte parça dosyası yok: " + manifestFile);
+
+        Path shardFile = manifestFile.resolveSibling(shardFileName);
+        try (FileChannel channel = FileChannel.open(shardFile, StandardOpenOption.READ)) {
+            for (long[] slice : slices) {
+                ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(slice[1]));
+                while (bytes.hasRemaining()) {
+                    if (channel.read(bytes, slice[0] + bytes.position()) < 0) {
+                        throw new IOException("Parça dosyası beklenenden kısa: " + shardFile);
+                    }
+                }
+                try (JsonParser p = format.createFactory().createParser(bytes.array())) {
+                    if (p.nextToken() != JsonToken.START_OBJECT) {
+                        throw new IOException("Kat nesnesi bekleniyordu: " + p.currentToken());
+                    }
+                    project.addFloor(readFloor(p, project));
+                }
+            }
+        }
+        return project;
+    }
+
+    /** Manifestteki kat özetinden {@code {offset, size}}. */
+    private static long[] readSlice(JsonParser p) throws IOException {
+        long[] slice = new long[2];
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "offset" -> slice[0] = p.getLongValue();
+                case "size" -> slice[1] = p.getLongValue();
+                default -> p.skipChildren();
+            }
+        }
+        return slice;
+    }
+
+    static ExportFormat detect(InputStream in) throws IOException {
+        in.mark(SMILE_HEADER.length);
+        byte[] head = in.readNBytes(SMILE_HEADER.length);
+        in.reset();
+        for (int i = 0; i < SMILE_HEADER.length; i++) {
+            if (head.length <= i || head[i] != SMILE_HEADER[i]) return ExportFormat.JSON;
+        }
+        return ExportFormat.SMILE;
+    }
+
+    private Project readProject(JsonParser p) throws IOException {
+        Project project = new Project();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> project.setId(longOrNull(p));
+                case "fileName" -> project.setFileName(p.getValueAsString());
+                case "projectTitle" -> project.setProjectTitle(p.getValueAsString());
+                case "floors" -> {
+                    if (startArray(p)) {
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            Floor floor = readFloor(p, project);
+                            project.addFloor(floor);
+                        }
+                    }
+                }
+                case "axes" -> {
+                    if (startArray(p)) {
+                        while (p.nextToken() == JsonToken.START_OBJECT) project.addAxis(readAxis(p));
+                    }
+                }
+                case "foundationSlabs" -> {
+                    if (startArray(p)) {
+                        while (p.nextToken() == JsonToken.START_OBJECT) project.addFoundationSlab(readFoundationSlab(p));
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+        return project;
+    }
+
+    private Floor readFloor(JsonParser p, Project project) throws IOException {
+        Floor floor = new Floor();
+        Map<Long, StructuralColumn> columnsById = new HashMap<>();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> floor.setId(longOrNull(p));
+                case "name" -> floor.setName(p.getValueAsString());
+                case "originalNumber" -> floor.setOriginalNumber(p.getIntValue());
+                case "elevation" -> floor.setElevation(p.getDoubleValue());
+                case "height" -> floor.setHeight(p.getDoubleValue());
+                case "columns" -> {
+                    if (startArray(p)) {
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            StructuralColumn column = readColumn(p);
+                            floor.addStructuralColumn(column);
+                            project.addStructuralColumn(column);
+                            if (column.getId() != null) columnsById.put(column.getId(), column);
+                        }
+                    }
+                }
+                case "beams" -> {
+                    if (startArray(p)) {
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            Beam beam = readBeam(p, columnsById);
+                            floor.addBeam(beam);
+                            project.addBeam(beam);
+                        }
+                    }
+                }
+                case "slabs" -> {
+                    if (startArray(p)) {
+                        while (p.nextToken() == JsonToken.START_OBJECT) floor.addSlab(readSlab(p));
+                    }
+                }
+                case "panels" -> {
+                    if (startArray(p)) {
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            Panel panel = readPanel(p, columnsById);
+                            floor.addPanel(panel);
+                            project.addPanel(panel);
+                        }
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+        return floor;
+    }
+
+    private Axis readAxis(JsonParser p) throws IOException {
+        Axis axis = new Axis();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> axis.setId(longOrNull(p));
+                case "type" -> {
+                    String type = p.getValueAsString();
+                    axis.setType(type != null ? AxisType.valueOf(type) : null);
+                }
+                case "label" -> axis.setLabel(p.getValueAsString());
+                case "coordinate" -> axis.setCoordinate(p.getDoubleValue());
+                default -> p.skipChildren();
+            }
+        }
+        return axis;
+    }
+
+    private StructuralColumn readColumn(JsonParser p) throws IOException {
+        StructuralColumn column = new StructuralColumn();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> column.setId(longOrNull(p));
+                case "st4Sid" -> column.setSt4Sid(p.getValueAsString());
+                case "st4Aid" -> column.setSt4Aid(p.getValueAsString());
+                case "typeLabel" -> column.setTypeLabel(p.getValueAsString());
+                case "dimensionWidthCm" -> column.setDimensionWidthCm(p.getDoubleValue());
+                case "dimensionHeightCm" -> column.setDimensionHeightCm(p.getDoubleValue());
+                case "positionXMetre" -> column.setPositionXMetre(p.getDoubleValue());
+                case "positionYMetre" -> column.setPositionYMetre(p.getDoubleValue());
+                case "offsetXmm" -> column.setOffsetXmm(p.getDoubleValue());
+                case "offsetYmm" -> column.setOffsetYmm(p.getDoubleValue());
+                default -> p.skipChildren();
+            }
+        }
+        return column;
+    }
+
+    private Beam readBeam(JsonParser p, Map<Long, StructuralColumn> columnsById) throws IOException {
+        Beam beam = new Beam();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> beam.setId(longOrNull(p));
+                case "label" -> beam.setLabel(p.getValueAsString());
+                case "widthCm" -> beam.setWidthCm(p.getDoubleValue());
+                case "heightCm" -> beam.setHeightCm(p.getDoubleValue());
+                case "propertyCode" -> beam.setPropertyCode(p.getValueAsString());
+                case "planeAxisRef" -> beam.setPlaneAxisRef(p.getValueAsString());
+                case "startSpanAxisRef" -> beam.setStartSpanAxisRef(p.getValueAsString());
+                case "endSpanAxisRef" -> beam.setEndSpanAxisRef(p.getValueAsString());
+                case "startXMetre" -> beam.setStartXMetre(p.getDoubleValue());
+                case "startYMetre" -> beam.setStartYMetre(p.getDoubleValue());
+                case "endXMetre" -> beam.setEndXMetre(p.getDoubleValue());
+                case "endYMetre" -> beam.setEndYMetre(p.getDoubleValue());
+                case "startZOffsetCm" -> beam.setStartZOffsetCm(doubleOrNull(p));
+                case "endZOffsetCm" -> beam.setEndZOffsetCm(doubleOrNull(p));
+                case "wallThicknessCm" -> beam.setWallThicknessCm(doubleOrNull(p));
+                case "wallHeightCm" -> beam.setWallHeightCm(doubleOrNull(p));
+                case "startColumnId" -> beam.setStartColumn(columnOf(p, columnsById));
+                case "endColumnId" -> beam.setEndColumn(columnOf(p, columnsById));
+                default -> p.skipChildren();
+            }
+        }
+        return beam;
+    }
+
+    private Slab readSlab(JsonParser p) throws IOException {
+        Slab slab = new Slab();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> slab.setId(longOrNull(p));
+                case "label" -> slab.setLabel(p.getValueAsString());
+                case "thicknessCm" -> slab.setThicknessCm(p.getDoubleValue());
+                case "boundaryAxisRefs" -> slab.setBoundaryAxisRefs(readStrings(p));
+                case "boundary" -> slab.setBoundary(readPoints(p));
+                case "areaSquareMetre" -> slab.setAreaSquareMetre(doubleOrNull(p));
+                case "centroidXMetre" -> slab.setCentroidXMetre(doubleOrNull(p));
+                case "centroidYMetre" -> slab.setCentroidYMetre(doubleOrNull(p));
+                default -> p.skipChildren();
+            }
+        }
+        return slab;
+    }
+
+    private Panel readPanel(JsonParser p, Map<Long, StructuralColumn> columnsById) throws IOException {
+        Panel panel = new Panel();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> panel.setId(longOrNull(p));
+                case "label" -> panel.setLabel(p.getValueAsString());
+                case "widthCm" -> panel.setWidthCm(p.getDoubleValue());
+                case "heightCm" -> panel.setHeightCm(p.getDoubleValue());
+                case "propertyCode" -> panel.setPropertyCode(p.getValueAsString());
+                case "startXMetre" -> panel.setStartXMetre(p.getDoubleValue());
+                case "startYMetre" -> panel.setStartYMetre(p.getDoubleValue());
+                case "endXMetre" -> panel.setEndXMetre(p.getDoubleValue());
+                case "endYMetre" -> panel.setEndYMetre(p.getDoubleValue());
+                case "startZOffsetCm" -> panel.setStartZOffsetCm(doubleOrNull(p));
+                case "endZOffsetCm" -> panel.setEndZOffsetCm(doubleOrNull(p));
+                case "startColumnId" -> panel.setStartColumn(columnOf(p, columnsById));
+                case "endColumnId" -> panel.setEndColumn(columnOf(p, columnsById));
+                default -> p.skipChildren();
+            }
+        }
+        return panel;
+    }
+
+    private FoundationSlab readFoundationSlab(JsonParser p) throws IOException {
+        FoundationSlab foundationSlab = new FoundationSlab();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            switch (field) {
+                case "id" -> foundationSlab.setId(longOrNull(p));
+                case "label" -> foundationSlab.setLabel(p.getValueAsString());
+                case "thicknessCm" -> foundationSlab.setThicknessCm(p.getDoubleValue());
+                case "elevationMetre" -> foundationSlab.setElevationMetre(p.getDoubleValue());
+                case "boundaryAxisRefs" -> foundationSlab.setBoundaryAxisRefs(readStrings(p));
+                case "boundary" -> foundationSlab.setBoundary(readPoints(p));
+                case "areaSquareMetre" -> foundationSlab.setAreaSquareMetre(doubleOrNull(p));
+                case "centroidXMetre" -> foundationSlab.setCentroidXMetre(doubleOrNull(p));
+                case "centroidYMetre" -> foundationSlab.setCentroidYMetre(doubleOrNull(p));
+                default -> p.skipChildren();
+            }
+        }
+        return foundationSlab;
+    }
+
+    /** Dizi başlıyorsa true; alan null ise false döner. */
+    private static boolean startArray(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) return false;
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Dizi bekleniyordu: " + p.currentName() + " -> " + p.currentToken());
+        }
+        return true;
+    }
+
+    private static List<String> readStrings(JsonParser p) throws IOException {
+        if (!startArray(p)) return null;
+        List<String> values = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) values.add(p.getValueAsString());
+        return values;
+    }
+
+    private static List<PlanPoint> readPoints(JsonParser p) throws IOException {
+        if (!startArray(p)) return null;
+        List<PlanPoint> points = new ArrayList<>();
+        while (p.nextToken() == JsonToken.START_OBJECT) {
+            double x = 0;
+            double y = 0;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                switch (field) {
+                    case "xMetre" -> x = p.getDoubleValue();
+                    case "yMetre" -> y = p.getDoubleValue();
+                    default -> p.skipChildren();
+                }
+            }
+            points.add(new PlanPoint(x, y));
+        }
+        return points;
+    }
+
+    private static Long longOrNull(JsonParser p) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : p.getLongValue();
+    }
+
+    private static StructuralColumn columnOf(JsonParser p, Map<Long, StructuralColumn> columnsById) throws IOException {
+        Long id = longOrNull(p);
+        return id == null ? null : columnsById.get(id);
+    }
+
+    private static Double doubleOrNull(JsonParser p) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : p.getDoubleValue();
+    }
+}
@@ -0,0 +1,174 @@
+package com.kerem.sta4cadimp.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.kerem.sta4cadimp.cache.ConversionCache;
+import com.kerem.sta4cadimp.entity.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Projeyi tek bir dosya yerine küçük bir manifest ve kat parçalarından (shard) oluşan bir paket olarak
+ * yazar. Tüketici önce manifesti okur (başlık, katların kot/yükseklik bilgisi ve eleman sayıları, akslar,
+ * radyeler), ardından katları {@code offset}/{@code size} ile parça dosyasından tek tek yükleyebilir;
+ * böylece belleği tek bir kat ile sınırlar ve yalnızca başarısız katları yeniden içe aktarabilir.
+ *
+ * <p>Parça dosyası ({@code model.floors.jsonl} / {@code model.floors.sml}) her kat için
+ * {@link #writeFloor} çıktısını, yani tek dosyalı çıktıdaki kat nesnesinin aynısını içerir. JSON'da
+ * parçalar satır satır yazılır (JSON Lines), bu yüzden parça dosyasına pretty uygulanmaz.</p>
+ *
+ * <p>Katlar ortak havuzda paralel serileştirilir ve dosya sırasıyla yazılır; bellekte aynı anda en
+ * fazla {@code 2 × paralellik} kat bekler. Parça dosyası manifestten önce yerine taşınır, dolayısıyla
+ * manifest her zaman eksiksiz bir parça dosyasını gösterir.</p>
+ */
+public class ShardedProjectWriter extends ProjectJsonWriter {
+
+    public static final String MANIFEST_FORMAT = "sta4cad-sharded";
+    public static final int MANIFEST_VERSION = 1;
+
+    private final JsonFactory shardFactory;
+
+    public ShardedProjectWriter(ExportFormat format, boolean pretty) {
+        super(format, pretty);
+        this.shardFactory = format.createFactory();
+    }
+
+    @Override
+    public String variant() {
+        return super.variant() + "-sharded";
+    }
+
+    /** Manifestin yanındaki parça dosyası: {@code model.json -> model.floors.jsonl}. */
+    public static Path shardFileFor(Path manifestFile, ExportFormat format) {
+        String name = manifestFile.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return manifestFile.resolveSibling(base + ".floors" + (format == ExportFormat.JSON ? ".jsonl" : format.getExtension()));
+    }
+
+    @Override
+    public void write(Project project, Path manifestFile) throws IOException {
+        Path shardFile = shardFileFor(manifestFile, getFormat());
+        List<Floor> floors = project.getFloors() != null ? project.getFloors() : List.of();
+        long[] offsets = new long[floors.size()];
+        long[] sizes = new long[floors.size()];
+
+        Path shardTemp = ConversionCache.tempSibling(shardFile);
+        Path manifestTemp = ConversionCache.tempSibling(manifestFile);
+        try {
+            try (OutputStream out = openFile(shardTemp)) {
+                writeShards(floors, out, offsets, sizes);
+            }
+            try (OutputStream out = openFile(manifestTemp)) {
+                writeManifest(project, shardFile.getFileName().toString(), offsets, sizes, out);
+            }
+            ConversionCache.moveAtomically(shardTemp, shardFile);
+            ConversionCache.moveAtomically(manifestTemp, manifestFile);
+        } finally {
+            Files.deleteIfExists(shardTemp);
+            Files.deleteIfExists(manifestTemp);
+        }
+    }
+
+    private void writeShards(List<Floor> floors, OutputStream out, long[] offsets, long[] sizes) throws IOException {
+        int window = 2 * ForkJoinPool.getCommonPoolParallelism();
+        List<CompletableFuture<byte[]>> pending = new ArrayList<>(floors.size());
+        int submitted = 0;
+        long position = 0;
+        for (int i = 0; i < floors.size(); i++) {
+            while (submitted < floors.size() && submitted < i + window) {
+                Floor floor = floors.get(submitted++);
+                pending.add(CompletableFuture.supplyAsync(() -> serializeFloor(floor)));
+            }
+            byte[] shard;
+            try {
+                shard = pending.get(i).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+                throw e;
+            }
+            pending.set(i, null);
+            out.write(shard);
+            offsets[i] = position;
+            sizes[i] = shard.length;
+            position += shard.length;
+            if (getFormat() == ExportFormat.JSON) {
+                out.write('\n');
+                position++;
+            }
+        }
+    }
+
+    private byte[] serializeFloor(Floor floor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        try (JsonGenerator g = shardFactory.createGenerator(bytes, JsonEncoding.UTF8)) {
+            writeFloor(g, floor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void writeManifest(Project project, String shardFileName, long[] offsets, long[] sizes,
+                               OutputStream out) throws IOException {
+        try (JsonGenerator g = createGenerator(out)) {
+            g.writeStartObject();
+            g.writeStringField("format", MANIFEST_FORMAT);
+            g.writeNumberField("version", MANIFEST_VERSION);
+            if (project.getId() != null) g.writeNumberField("id", project.getId());
+            else g.writeNullField("id");
+            g.writeStringField("fileName", project.getFileName());
+            g.writeStringField("projectTitle", project.getProjectTitle());
+            g.writeStringField("shardFile", shardFileName);
+
+            g.writeArrayFieldStart("floors");
+            List<Floor> floors = project.getFloors() != null ? project.getFloors() : List.of();
+            for (int i = 0; i < floors.size(); i++) {
+                Floor floor = floors.get(i);
+                g.writeStartObject();
+                if (floor.getId() != null) g.writeNumberField("id", floor.getId());
+                else g.writeNullField("id");
+                g.writeStringField("name", floor.getName());
+                g.writeNumberField("originalNumber", floor.getOriginalNumber());
+                g.writeNumberField("elevation", floor.getElevation());
+                g.writeNumberField("height", floor.getHeight());
+                g.writeNumberField("columnCount", size(floor.getColumns()));
+                g.writeNumberField("beamCount", size(floor.getBeams()));
+                g.writeNumberField("slabCount", size(floor.getSlabs()));
+                g.writeNumberField("panelCount", size(floor.getPanels()));
+                g.writeNumberField("offset", offsets[i]);
+                g.writeNumberField("size", sizes[i]);
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+
+            g.writeArrayFieldStart("axes");
+            if (project.getAxes() != null) {
+                for (Axis axis : project.getAxes()) writeAxis(g, axis);
+            }
+            g.writeEndArray();
+
+            g.writeArrayFieldStart("foundationSlabs");
+            if (project.getFoundationSlabs() != null) {
+                for (FoundationSlab foundationSlab : project.getFoundationSlabs()) writeFoundationSlab(g, foundationSlab);
+            }
+            g.writeEndArray();
+            g.writeEndObject();
+        }
+    }
+
+    private static int size(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+}
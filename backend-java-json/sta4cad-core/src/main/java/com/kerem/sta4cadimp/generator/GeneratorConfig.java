@@ -0,0 +1,69 @@
+package com.kerem.sta4cadimp.generator;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.nio.charset.Charset;
+
+/**
+ * Sentetik .st4 modelinin boyutlarını belirler. Aynı ayarlar ve aynı tohum (seed) her zaman
+ * bayt bayt aynı dosyayı üretir.
+ *
+ * <p>Kiriş, panel ve döşeme etiketlerinde kat numarası tek hanedir (ayrıştırıcı katı etiketin ilk
+ * karakterinden okur); bu yüzden kat sayısı en fazla {@link #MAX_FLOOR_COUNT} olabilir. Büyük modeller
+ * kat sayısı yerine aks ızgarası büyütülerek elde edilir.</p>
+ */
+@Getter
+@Setter
+public class GeneratorConfig {
+    public static final int MAX_FLOOR_COUNT = 9;
+
+    private long seed = 42L;
+    private String projectTitle = "Sentetik Proje";
+    private int floorCount = 5;
+    private double storyHeightMetre = 3.0;
+    private int xAxisCount = 8;
+    private int yAxisCount = 6;
+    private double xSpacingMetre = 5.0;
+    private double ySpacingMetre = 4.5;
+    private int columnTypesPerFloor = 20;   // Her kat için tanımlanan kolon tipi (ve yerleşim) sayısı
+    private double beamDensity = 0.6;       // Aks aralıklarından kiriş bulunanların oranı (0..1)
+    private double panelRatio = 0.1;        // Kiriş satırlarından perde olarak işaretlenenlerin oranı (0..1)
+    private double slabDensity = 0.8;       // Aks gözlerinden döşeme bulunanların oranı (0..1)
+    private int foundationSlabCount = 1;
+    private Charset charset = Charset.forName("windows-1254");
+
+    public static GeneratorConfig preset(String name) {
+        GeneratorConfig config = new GeneratorConfig();
+        switch (name) {
+            case "small":
+                config.setFloorCount(3);
+                config.setXAxisCount(6);
+                config.setYAxisCount(6);
+                config.setColumnTypesPerFloor(20);
+                break;
+            case "medium":
+                config.setFloorCount(9);
+                config.setXAxisCount(18);
+                config.setYAxisCount(18);
+                config.setColumnTypesPerFloor(120);
+                config.setBeamDensity(0.35);
+                config.setSlabDensity(0.6);
+                config.setFoundationSlabCount(4);
+                break;
+            case "large":
+                // ~10 bin kiriş, ~10 bin döşeme, 8 bin kolon
+                config.setFloorCount(9);
+                config.setXAxisCount(90);
+                config.setYAxisCount(90);
+                config.setColumnTypesPerFloor(900);
+                config.setBeamDensity(0.07);
+                config.setSlabDensity(0.15);
+                config.setFoundationSlabCount(12);
+                break;
+            default:
+                throw new IllegalArgumentException("Bilinmeyen hazır ayar: " + name + " (small, medium, large)");
+        }
+        return config;
+    }
+}
@@ -0,0 +1,188 @@
+package com.kerem.sta4cadimp.generator;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * St4FileParser'ın beklediği bölüm başlıkları ve alan düzeniyle sentetik .st4 metni üretir.
+ * Müşteri dosyası paylaşmadan ölçek/yük testleri ve benchmark'lar için kullanılır.
+ *
+ * <p>Üretilen düzen: X aksları 0'dan artan, ardından Y aksları 0'dan artan koordinatlarla yazılır;
+ * kolon tipi etiketleri "kat numarası + sıra" (örn. 101, 1201), aks referansları "1nn"/"2nn"
+ * biçimindedir. Kiriş ve döşeme etiketleri tek haneli kat numarasıyla başlar.</p>
+ */
+public class St4ModelGenerator {
+
+    private static final String EOL = "\r\n";
+
+    private final GeneratorConfig config;
+
+    public St4ModelGenerator(GeneratorConfig config) {
+        if (config.getXAxisCount() < 2 || config.getYAxisCount() < 2) {
+            throw new IllegalArgumentException("X ve Y yönünde en az ikişer aks gerekir.");
+        }
+        if (config.getFloorCount() < 1 || config.getFloorCount() > GeneratorConfig.MAX_FLOOR_COUNT) {
+            throw new IllegalArgumentException("Kat sayısı 1 ile " + GeneratorConfig.MAX_FLOOR_COUNT
+                    + " arasında olmalıdır (kiriş ve döşeme etiketlerinde kat numarası tek hanedir).");
+        }
+        this.config = config;
+    }
+
+    public void write(Path outputFile) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(outputFile), config.getCharset()), 64 * 1024)) {
+            write(writer);
+        }
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 16);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, config.getCharset()))) {
+            write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public void write(Writer out) throws IOException {
+        Random random = new Random(config.getSeed());
+        int floors = config.getFloorCount();
+        int xAxes = config.getXAxisCount();
+        int yAxes = config.getYAxisCount();
+        int columnCount = Math.min(config.getColumnTypesPerFloor(), xAxes * yAxes);
+
+        out.write("STA4CAD" + EOL);
+        out.write("ST4 sentetik model" + EOL);
+        out.write(config.getProjectTitle() + " [seed " + config.getSeed() + "]" + EOL);
+
+        out.write("/Story/" + EOL);
+        for (int f = 1; f <= floors; f++) {
+            out.write("Kat " + f + EOL);
+            out.write(f + EOL);
+            out.write(number(config.getStoryHeightMetre() * (f - 1)) + ",0," + number(config.getStoryHeightMetre()) + EOL);
+        }
+
+        out.write("/Axis data/" + EOL);
+        for (int i = 0; i < xAxes; i++) out.write((i + 1) + "," + number(i * config.getXSpacingMetre()) + EOL);
+        for (int i = 0; i < yAxes; i++) out.write((i + 1) + "," + number(i * config.getYSpacingMetre()) + EOL);
+
+        // Kolon tipleri: kat başına aynı sırada; üst katlarda kesitler küçülür.
+        String typeSuffixFormat = columnCount > 99 ? "%03d" : "%02d";
+        int[] baseWidth = new int[columnCount];
+        int[] baseHeight = new int[columnCount];
+        for (int c = 0; c < columnCount; c++) {
+            baseWidth[c] = 40 + 10 * random.nextInt(4);
+            baseHeight[c] = 40 + 10 * random.nextInt(6);
+        }
+        out.write("/Columns Data/" + EOL);
+        for (int f = 1; f <= floors; f++) {
+            int reduction = 5 * ((f - 1) * 3 / floors);
+            for (int c = 0; c < columnCount; c++) {
+                out.write(f + String.format(Locale.ROOT, typeSuffixFormat, c + 1) + ","
+                        + (baseWidth[c] - reduction) + "," + (baseHeight[c] - reduction) + ",0" + EOL);
+            }
+        }
+        out.write("0,0,0" + EOL);
+
+        // Kolon yerleşimleri: aks kesişimlerinden tekrarsız seçilir.
+        int[] cells = shuffledRange(xAxes * yAxes, random);
+        out.write("/Column axis data/" + EOL);
+        for (int c = 0; c < columnCount; c++) {
+            int x = cells[c] % xAxes;
+            int y = cells[c] / xAxes;
+            out.write("1," + axisRef('1', x) + "," + axisRef('2', y) + ","
+                    + columnOffset(random) + "," + columnOffset(random) + EOL);
+        }
+
+        out.write("/Beams Data/" + EOL);
+        int beamIndex = 0;
+        for (int f = 1; f <= floors; f++) {
+            for (int y = 0; y < yAxes; y++) {
+                for (int x = 0; x + 1 < xAxes; x++) {
+                    if (random.nextDouble() < config.getBeamDensity()) {
+                        writeBeam(out, f, ++beamIndex, axisRef('2', y), axisRef('1', x), axisRef('1', x + 1), random);
+                    }
+                }
+            }
+            for (int x = 0; x < xAxes; x++) {
+                for (int y = 0; y + 1 < yAxes; y++) {
+                    if (random.nextDouble() < config.getBeamDensity()) {
+                        writeBeam(out, f, ++beamIndex, axisRef('1', x), axisRef('2', y), axisRef('2', y + 1), random);
+                    }
+                }
+            }
+        }
+        out.write("0,0,0" + EOL);
+
+        out.write("/Floors Data/" + EOL);
+        int slabIndex = 0;
+        for (int f = 1; f <= floors; f++) {
+            for (int y = 0; y + 1 < yAxes; y++) {
+                for (int x = 0; x + 1 < xAxes; x++) {
+                    if (random.nextDouble() < config.getSlabDensity()) {
+                        out.write(f + String.format(Locale.ROOT, "%04d", ++slabIndex) + "," + (12 + 2 * random.nextInt(3))
+                                + ",0,0,0,0,0,0," + axisRef('1', x) + "," + axisRef('1', x + 1) + ","
+                                + axisRef('2', y) + "," + axisRef('2', y + 1) + EOL);
+                    }
+                }
+            }
+        }
+        out.write("0,0" + EOL);
+
+        out.write("/Slab foundations/" + EOL);
+        for (int i = 1; i <= config.getFoundationSlabCount(); i++) {
+            int x1 = random.nextInt(xAxes - 1);
+            int x2 = x1 + 1 + random.nextInt(xAxes - 1 - x1);
+            int y1 = random.nextInt(yAxes - 1);
+            int y2 = y1 + 1 + random.nextInt(yAxes - 1 - y1);
+            out.write("PL" + i + " radye" + EOL);
+            out.write((50 + 10 * random.nextInt(4)) + "," + axisRef('1', x1) + "," + axisRef('1', x2) + ","
+                    + axisRef('2', y1) + "," + axisRef('2', y2) + ",-1.5" + EOL);
+        }
+    }
+
+    private void writeBeam(Writer out, int floor, int index, String planeRef, String startRef, String endRef, Random random) throws IOException {
+        boolean panel = random.nextDouble() < config.getPanelRatio();
+        int width = panel ? 25 + 5 * random.nextInt(2) : 25 + 5 * random.nextInt(3);
+        int height = panel ? 250 + 50 * random.nextInt(3) : 50 + 10 * random.nextInt(3);
+        int eccentricity = random.nextInt(3) - 1;
+        int startZ = random.nextInt(8) == 0 ? -10 : 0;
+        int endZ = random.nextInt(8) == 0 ? -10 : 0;
+        out.write(floor + String.format(Locale.ROOT, "%04d", index) + "," + width + "," + height + ","
+                + (1 + random.nextInt(3)) + "," + planeRef + "," + startRef + "," + endRef + ","
+                + eccentricity + "," + startZ + ",0,0,0," + endZ + ",0," + (panel ? 1 : 0) + EOL);
+    }
+
+    // 0: aks üzerinde, ±1: aksa yaslı, diğerleri: mm cinsinden kaçıklık
+    private static String columnOffset(Random random) {
+        switch (random.nextInt(5)) {
+            case 0: return "1";
+            case 1: return "-1";
+            case 2: return String.valueOf(50 * (random.nextInt(7) - 3));
+            default: return "0";
+        }
+    }
+
+    private static int[] shuffledRange(int n, Random random) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) values[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+
+    private static String axisRef(char type, int zeroBasedIndex) {
+        return type + String.format(Locale.ROOT, "%02d", zeroBasedIndex + 1);
+    }
+
+    private static String number(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
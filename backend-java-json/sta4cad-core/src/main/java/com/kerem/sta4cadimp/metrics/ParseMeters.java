@@ -0,0 +1,52 @@
+package com.kerem.sta4cadimp.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ParseMetrics} ölçümlerini Micrometer ölçerlerine aktarır. Bölüm ve aşama adları etiket
+ * olarak kullanılır; böylece aynı ölçer tüm istekler boyunca birikir:
+ * <ul>
+ *     <li>{@code sta4cad.parse.lines{section}}, {@code sta4cad.parse.records{section,result}}</li>
+ *     <li>{@code sta4cad.parse.section{section}}, {@code sta4cad.parse.read}, {@code sta4cad.resolve{phase}},
+ *     {@code sta4cad.serialize} (zamanlayıcılar)</li>
+ *     <li>{@code sta4cad.bytes{direction=in|out}} (dağılım özeti)</li>
+ * </ul>
+ */
+public class ParseMeters {
+
+    private final MeterRegistry registry;
+    private final DistributionSummary bytesIn;
+    private final DistributionSummary bytesOut;
+
+    public ParseMeters(MeterRegistry registry) {
+        this.registry = registry;
+        this.bytesIn = DistributionSummary.builder("sta4cad.bytes").baseUnit("bytes").tag("direction", "in").register(registry);
+        this.bytesOut = DistributionSummary.builder("sta4cad.bytes").baseUnit("bytes").tag("direction", "out").register(registry);
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    public void record(ParseMetrics metrics) {
+        for (Map.Entry<String, ParseMetrics.SectionStats> entry : metrics.getSections().entrySet()) {
+            String section = entry.getKey();
+            ParseMetrics.SectionStats stats = entry.getValue();
+            registry.counter("sta4cad.parse.lines", "section", section).increment(stats.getLines());
+            registry.counter("sta4cad.parse.records", "section", section, "result", "accepted").increment(stats.getAccepted());
+            registry.counter("sta4cad.parse.records", "section", section, "result", "rejected").increment(stats.getRejected());
+            registry.timer("sta4cad.parse.section", "section", section).record(stats.getNanos(), TimeUnit.NANOSECONDS);
+        }
+        for (Map.Entry<String, Long> phase : metrics.getPhaseNanos().entrySet()) {
+            registry.timer("sta4cad.resolve", "phase", phase.getKey()).record(phase.getValue(), TimeUnit.NANOSECONDS);
+        }
+        registry.timer("sta4cad.parse.read").record(metrics.getReadNanos(), TimeUnit.NANOSECONDS);
+        registry.timer("sta4cad.serialize").record(metrics.getSerializeNanos(), TimeUnit.NANOSECONDS);
+        bytesIn.record(metrics.getBytesIn());
+        bytesOut.record(metrics.getBytesOut());
+    }
+}
@@ -0,0 +1,98 @@
+package com.kerem.sta4cadimp.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tek bir dönüşümün ölçümleri: bölüm başına okunan satır, kabul/ret edilen kayıt ve süre; eleman
+ * çözümleme aşamalarının (kolon, kiriş, döşeme, radye, bağlantı) süreleri; serileştirme süresi ve
+ * giriş/çıkış bayt sayıları. Ayrıştırıcı ve dönüştürücü tarafından doldurulur, CLI raporunda ve
+ * servisin Micrometer ölçerlerinde kullanılır. İş parçacığı güvenli değildir; her dönüşüm kendi
+ * örneğini kullanır.
+ */
+public final class ParseMetrics {
+
+    @Getter
+    public static final class SectionStats {
+        private long lines;
+        private long accepted;
+        private long rejected;
+        private long nanos;
+
+        void add(long lines, long accepted, long rejected, long nanos) {
+            this.lines += lines;
+            this.accepted += accepted;
+            this.rejected += rejected;
+            this.nanos += nanos;
+        }
+    }
+
+    private final Map<String, SectionStats> sections = new LinkedHashMap<>();
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    @Getter @Setter
+    private long readNanos;
+    @Getter @Setter
+    private long serializeNanos;
+    @Getter @Setter
+    private long bytesIn;
+    @Getter @Setter
+    private long bytesOut;
+    /** Çıktı önbellekten geldiyse ayrıştırma yapılmamıştır; yalnızca bayt sayıları doludur. */
+    @Getter @Setter
+    private boolean cached;
+
+    public void recordSection(String section, long lines, long accepted, long rejected, long nanos) {
+        sections.computeIfAbsent(section, s -> new SectionStats()).add(lines, accepted, rejected, nanos);
+    }
+
+    /** Çözümleme aşaması süresi; aynı aşama birden çok kez kaydedilirse toplanır. */
+    public void recordPhase(String phase, long nanos) {
+        phaseNanos.merge(phase, nanos, Long::sum);
+    }
+
+    /** Başka bir çalışmanın ölçümlerini bu örneğe ekler (batch toplamları için). */
+    public void add(ParseMetrics other) {
+        other.sections.forEach((name, s) -> recordSection(name, s.lines, s.accepted, s.rejected, s.nanos));
+        other.phaseNanos.forEach(this::recordPhase);
+        readNanos += other.readNanos;
+        serializeNanos += other.serializeNanos;
+        bytesIn += other.bytesIn;
+        bytesOut += other.bytesOut;
+    }
+
+    public Map<String, SectionStats> getSections() {
+        return Collections.unmodifiableMap(sections);
+    }
+
+    public Map<String, Long> getPhaseNanos() {
+        return Collections.unmodifiableMap(phaseNanos);
+    }
+
+    public long getLines() {
+        long total = 0;
+        for (SectionStats s : sections.values()) total += s.lines;
+        return total;
+    }
+
+    public long getAccepted() {
+        long total = 0;
+        for (SectionStats s : sections.values()) total += s.accepted;
+        return total;
+    }
+
+    public long getRejected() {
+        long total = 0;
+        for (SectionStats s : sections.values()) total += s.rejected;
+        return total;
+    }
+
+    public long getResolveNanos() {
+        long total = 0;
+        for (long nanos : phaseNanos.values()) total += nanos;
+        return total;
+    }
+}
@@ -0,0 +1,125 @@
+package com.kerem.sta4cadimp.metrics;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CLI çalışmasının makine tarafından okunabilir raporu ({@code --report}). Her dosya için durum,
+ * süre ve {@link ParseMetrics} ayrıntıları ile tüm dosyaların toplamını tek bir JSON dosyasına
+ * yazar; batch'lerdeki aykırı dosyaları bulmak için tasarlanmıştır. Süreler milisaniyedir.
+ */
+public class RunReport {
+
+    private static final class Entry {
+        final String input;
+        final String output;
+        final String status;
+        final String error;
+        final long nanos;
+        final ParseMetrics metrics;
+
+        Entry(String input, String output, String status, String error, long nanos, ParseMetrics metrics) {
+            this.input = input;
+            this.output = output;
+            this.status = status;
+            this.error = error;
+            this.nanos = nanos;
+            this.metrics = metrics;
+        }
+    }
+
+    private final String mode;
+    private final Instant startedAt = Instant.now();
+    private final List<Entry> entries = new ArrayList<>();
+
+    public RunReport(String mode) {
+        this.mode = mode;
+    }
+
+    /** {@code error} null ise dosya başarılı sayılır; önbellek isabeti metrics üzerinden okunur. */
+    public void add(Path input, Path output, long nanos, String error, ParseMetrics metrics) {
+        String status = error != null ? "error" : metrics != null && metrics.isCached() ? "cached" : "ok";
+        entries.add(new Entry(String.valueOf(input), String.valueOf(output), status, error, nanos, metrics));
+    }
+
+    public void write(Path reportFile, long wallNanos) throws IOException {
+        ParseMetrics totals = new ParseMetrics();
+        int failures = 0;
+        int cacheHits = 0;
+        for (Entry entry : entries) {
+            if (entry.metrics != null) totals.add(entry.metrics);
+            if (entry.error != null) failures++;
+            else if (entry.status.equals("cached")) cacheHits++;
+        }
+
+        try (JsonGenerator g = new JsonFactory().createGenerator(reportFile.toFile(), JsonEncoding.UTF8)) {
+            g.useDefaultPrettyPrinter();
+            g.writeStartObject();
+            g.writeStringField("mode", mode);
+            g.writeStringField("startedAt", startedAt.toString());
+            g.writeNumberField("wallMs", millis(wallNanos));
+            g.writeNumberField("files", entries.size());
+            g.writeNumberField("failures", failures);
+            g.writeNumberField("cacheHits", cacheHits);
+            g.writeFieldName("totals");
+            writeMetrics(g, totals);
+            g.writeArrayFieldStart("results");
+            for (Entry entry : entries) {
+                g.writeStartObject();
+                g.writeStringField("input", entry.input);
+                g.writeStringField("output", entry.output);
+                g.writeStringField("status", entry.status);
+                if (entry.error != null) g.writeStringField("error", entry.error);
+                g.writeNumberField("totalMs", millis(entry.nanos));
+                if (entry.metrics != null) {
+                    g.writeFieldName("metrics");
+                    writeMetrics(g, entry.metrics);
+                }
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+            g.writeEndObject();
+        }
+    }
+
+    private static void writeMetrics(JsonGenerator g, ParseMetrics metrics) throws IOException {
+        g.writeStartObject();
+        g.writeNumberField("bytesIn", metrics.getBytesIn());
+        g.writeNumberField("bytesOut", metrics.getBytesOut());
+        g.writeNumberField("lines", metrics.getLines());
+        g.writeNumberField("accepted", metrics.getAccepted());
+        g.writeNumberField("rejected", metrics.getRejected());
+        g.writeNumberField("readMs", millis(metrics.getReadNanos()));
+        g.writeNumberField("resolveMs", millis(metrics.getResolveNanos()));
+        g.writeNumberField("serializeMs", millis(metrics.getSerializeNanos()));
+        g.writeObjectFieldStart("sections");
+        for (Map.Entry<String, ParseMetrics.SectionStats> section : metrics.getSections().entrySet()) {
+            ParseMetrics.SectionStats stats = section.getValue();
+            g.writeObjectFieldStart(section.getKey());
+            g.writeNumberField("lines", stats.getLines());
+            g.writeNumberField("accepted", stats.getAccepted());
+            g.writeNumberField("rejected", stats.getRejected());
+            g.writeNumberField("ms", millis(stats.getNanos()));
+            g.writeEndObject();
+        }
+        g.writeEndObject();
+        g.writeObjectFieldStart("phases");
+        for (Map.Entry<String, Long> phase : metrics.getPhaseNanos().entrySet()) {
+            g.writeNumberField(phase.getKey(), millis(phase.getValue()));
+        }
+        g.writeEndObject();
+        g.writeEndObject();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1e3) / 1e3;
+    }
+}
@@ -0,0 +1,366 @@
+package com.kerem.sta4cadimp.server;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.export.ExportFormat;
+import com.kerem.sta4cadimp.export.ProjectJsonWriter;
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+import com.kerem.sta4cadimp.metrics.ParseMeters;
+import com.kerem.sta4cadimp.metrics.ParseMetrics;
+import com.kerem.sta4cadimp.service.St4FileParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Yalnızca 127.0.0.1 üzerinde dinleyen, JVM'i ve JIT'i sıcak tutan dönüşüm servisi.
+ *
+ * <ul>
+ *     <li>{@code POST /convert[?name=dosya.st4&pretty=true&format=smile&charset=windows-1254]} — gövde .st4 baytları, yanıt proje JSON'u
+ *     (veya Smile)</li>
+ *     <li>{@code GET /health} — durum ve sayaçlar (istek, hata, reddedilen, süre, bayt)</li>
+ *     <li>{@code GET /metrics} — Micrometer ölçerleri: bölüm başına satır/kayıt/süre, çözümleme ve
+ *     serileştirme süreleri, giriş/çıkış baytları</li>
+ * </ul>
+ *
+ * Her istek ayrı bir iş parçacığında işlenir (Java 21+ üzerinde sanal iş parçacığı). Aynı anda
+ * ayrıştırılan istek sayısı bir semafor ile sınırlanır; sınır dolarsa istek kısa bir süre bekler,
+ * ardından 503 ile reddedilir. Gövde boyutu sınırı aşan istekler 413 alır.
+ */
+public class ConversionServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConversionServer.class);
+
+    private final St4FileParser parser = new St4FileParser();
+    // ?charset= ile sabitlenen kümeler için birer ayrıştırıcı; istek başına yeni örnek oluşturulmaz.
+    private final Map<Charset, St4FileParser> parsersByCharset = new ConcurrentHashMap<>();
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final int port;
+    private final int maxConcurrency;
+    private final long maxRequestBytes;
+    private final long queueTimeoutMillis;
+    private final Semaphore permits;
+    private final ParseMeters meters;
+
+    private final long startedAt = System.currentTimeMillis();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    // Yanıtı tamamen yazılan istekler; ortalama süre yalnızca bunlar üzerinden hesaplanır.
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder convertNanos = new LongAdder();
+    private final AtomicLong maxConvertNanos = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public ConversionServer(int port, int maxConcurrency, long maxRequestBytes, long queueTimeoutMillis) {
+        this(port, maxConcurrency, maxRequestBytes, queueTimeoutMillis, new SimpleMeterRegistry());
+    }
+
+    /** Ölçerler verilen kayıt defterine yazılır (örn. gömülü çalıştırıldığında uygulamanınki). */
+    public ConversionServer(int port, int maxConcurrency, long maxRequestBytes, long queueTimeoutMillis,
+                            MeterRegistry registry) {
+        this.port = port;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.maxRequestBytes = maxRequestBytes;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.permits = new Semaphore(this.maxConcurrency, true);
+        this.meters = new ParseMeters(registry);
+    }
+
+    /** Sentetik bir modeli birkaç kez ayrıştırıp serileştirerek ilk isteklerin soğuk JIT maliyetini öne çeker. */
+    public void warmUp(int iterations) throws IOException {
+        byte[] model = new St4ModelGenerator(GeneratorConfig.preset("medium")).toBytes();
+        ProjectJsonWriter writer = new ProjectJsonWriter(false);
+        for (int i = 0; i < iterations; i++) {
+            Project project = parser.parse(new ByteArrayInputStream(model), "warmup.st4");
+            writer.write(project, OutputStream.nullOutputStream());
+        }
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/convert", this::handleConvert);
+        server.createContext("/health", this::handleHealth);
+        server.createContext("/metrics", this::handleMetrics);
+        server.start();
+        logger.info("Dönüşüm servisi başladı: http://{}:{} (eşzamanlılık {}, istek sınırı {} bayt)",
+                server.getAddress().getHostString(), getPort(), maxConcurrency, maxRequestBytes);
+    }
+
+    public void stop(int delaySeconds) {
+        if (server != null) server.stop(delaySeconds);
+        if (executor != null) executor.shutdown();
+    }
+
+    /** 0 ile başlatıldıysa işletim sisteminin atadığı portu döner. */
+    public int getPort() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    /**
+     * Java 21+ üzerinde istek başına sanal iş parçacığı kullanılır; daha eski JVM'lerde (derleme hedefi 17)
+     * önbellekli bir platform havuzuna düşülür. Her iki durumda da gerçek iş yükü semaforla sınırlıdır.
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private void handleConvert(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                sendError(exchange, 405, "Yalnızca POST desteklenir");
+                return;
+            }
+            requests.increment();
+            String declaredLength = exchange.getRequestHeaders().getFirst("Content-Length");
+            if (declaredLength != null && parseLong(declaredLength) > maxRequestBytes) {
+                rejected.increment();
+                sendError(exchange, 413, "İstek boyutu sınırı aşıldı: " + maxRequestBytes + " bayt");
+                return;
+            }
+            if (!permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                sendError(exchange, 503, "Servis meşgul, daha sonra tekrar deneyin");
+                return;
+            }
+            try {
+                convert(exchange);
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            failures.increment();
+            logger.error("İstek işlenemedi", e);
+        }
+    }
+
+    private void convert(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        byte[] body = readBody(exchange.getRequestBody());
+        if (body == null) {
+            rejected.increment();
+            sendError(exchange, 413, "İstek boyutu sınırı aşıldı: " + maxRequestBytes + " bayt");
+            return;
+        }
+        bytesIn.add(body.length);
+
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String fileName = query.getOrDefault("name", "request.st4");
+        ExportFormat format;
+        St4FileParser requestParser;
+        try {
+            format = ExportFormat.fromName(query.getOrDefault("format", "json"));
+            requestParser = parserFor(query.get("charset"));
+        } catch (IllegalArgumentException e) {
+            failures.increment();
+            sendError(exchange, 400, e.getMessage());
+            return;
+        }
+        ParseMetrics metrics = new ParseMetrics();
+        metrics.setBytesIn(body.length);
+        Project project = requestParser.parse(new ByteArrayInputStream(body), fileName, metrics);
+        if (project == null) {
+            failures.increment();
+            sendError(exchange, 422, ".st4 içeriği ayrıştırılamadı");
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", format.getContentType());
+        // Atlanan satır sayısı; istemci ayrıntılar için dosyayı CLI'da --diagnostics ile işleyebilir.
+        exchange.getResponseHeaders().set("X-Sta4cad-Diagnostics", Long.toString(project.getDiagnostics().totalCount()));
+        exchange.sendResponseHeaders(200, 0);
+        CountingOutputStream out = new CountingOutputStream(exchange.getResponseBody());
+        long serializeStart = System.nanoTime();
+        new ProjectJsonWriter(format, Boolean.parseBoolean(query.get("pretty"))).write(project, out);
+        metrics.setSerializeNanos(System.nanoTime() - serializeStart);
+        metrics.setBytesOut(out.count);
+        meters.record(metrics);
+        bytesOut.add(out.count);
+
+        long elapsed = System.nanoTime() - start;
+        convertNanos.add(elapsed);
+        completed.increment();
+        maxConvertNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    /** "auto" veya verilmemişse ortak ayrıştırıcı, aksi halde o kümeye ait tek örnek. */
+    St4FileParser parserFor(String charsetName) {
+        Charset charset = St4FileParser.charsetFromName(charsetName);
+        if (charset == null) return parser;
+        return parsersByCharset.computeIfAbsent(charset, St4FileParser::new);
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long completedCount = completed.sum();
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+            try (JsonGenerator g = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+                g.writeStartObject();
+                g.writeStringField("status", "UP");
+                g.writeNumberField("uptimeMs", System.currentTimeMillis() - startedAt);
+                g.writeNumberField("requests", requests.sum());
+                g.writeNumberField("failures", failures.sum());
+                g.writeNumberField("rejected", rejected.sum());
+                g.writeNumberField("completed", completedCount);
+                g.writeNumberField("inFlight", maxConcurrency - permits.availablePermits());
+                g.writeNumberField("maxConcurrency", maxConcurrency);
+                g.writeNumberField("maxRequestBytes", maxRequestBytes);
+                g.writeNumberField("avgConvertMs", completedCount > 0 ? convertNanos.sum() / 1e6 / completedCount : 0.0);
+                g.writeNumberField("maxConvertMs", maxConvertNanos.get() / 1e6);
+                g.writeNumberField("bytesIn", bytesIn.sum());
+                g.writeNumberField("bytesOut", bytesOut.sum());
+                g.writeNumberField("heapUsedBytes", Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory());
+                g.writeEndObject();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, buffer.size());
+            buffer.writeTo(exchange.getResponseBody());
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+            try (JsonGenerator g = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+                g.writeStartArray();
+                for (Meter meter : meters.getRegistry().getMeters()) {
+                    g.writeStartObject();
+                    g.writeStringField("name", meter.getId().getName());
+                    g.writeStringField("type", meter.getId().getType().name());
+                    g.writeObjectFieldStart("tags");
+                    for (Tag tag : meter.getId().getTags()) g.writeStringField(tag.getKey(), tag.getValue());
+                    g.writeEndObject();
+                    g.writeObjectFieldStart("measurements");
+                    for (Measurement measurement : meter.measure()) {
+                        g.writeNumberField(measurement.getStatistic().getTagValueRepresentation(), measurement.getValue());
+                    }
+                    g.writeEndObject();
+                    g.writeEndObject();
+                }
+                g.writeEndArray();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, buffer.size());
+            buffer.writeTo(exchange.getResponseBody());
+        }
+    }
+
+    /** Gövdeyi sınıra kadar okur; sınır aşılırsa null döner (chunked isteklerde Content-Length olmayabilir). */
+    private byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+        byte[] chunk = new byte[64 * 1024];
+        long total = 0;
+        int read;
+        while ((read = in.read(chunk)) > 0) {
+            total += read;
+            if (total > maxRequestBytes) return null;
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toByteArray();
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        try (JsonGenerator g = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+            g.writeStartObject();
+            g.writeNumberField("status", status);
+            g.writeStringField("error", message);
+            g.writeEndObject();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, buffer.size());
+        buffer.writeTo(exchange.getResponseBody());
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) return query;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "true" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+        return query;
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private long count;
+
+        CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.entity.Axis;
+import com.kerem.sta4cadimp.entity.AxisType;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * X ve Y akslarını dosya sırasıyla iki dizide tutar ve .st4 aks referanslarını ("1nn" -> X(nn-1),
+ * "2nn" -> Y(nn-1)) doğrudan indeksleyerek çözer. Referansın rakamları yerinde okunur; geçersiz
+ * veya bulunamayan referanslar için istisna fırlatılmadan null döner.
+ */
+final class AxisTable {
+
+    private static final Axis[] EMPTY = new Axis[0];
+
+    private Axis[] xAxes = EMPTY;
+    private Axis[] yAxes = EMPTY;
+
+    /**
+     * Aks etiketleri ayrıştırıcı tarafından "X&lt;sıra&gt;"/"Y&lt;sıra&gt;" olarak üretilir. Birden çok
+     * /Axis data/ bloğu aynı sırayı tekrar kullanırsa, etiket haritasındaki gibi sonraki aks geçerlidir.
+     */
+    static AxisTable of(List<Axis> axes) {
+        AxisTable table = new AxisTable();
+        int xSize = 0;
+        int ySize = 0;
+        for (Axis axis : axes) {
+            String label = axis.getLabel();
+            if (label == null || label.length() < 2) continue;
+            int ordinal = parseIndex(label, 1);
+            if (ordinal < 0) continue;
+            if (axis.getType() == AxisType.X && label.charAt(0) == 'X') {
+                table.xAxes = put(table.xAxes, ordinal, axis);
+                xSize = Math.max(xSize, ordinal + 1);
+            } else if (axis.getType() == AxisType.Y && label.charAt(0) == 'Y') {
+                table.yAxes = put(table.yAxes, ordinal, axis);
+                ySize = Math.max(ySize, ordinal + 1);
+            }
+        }
+        table.xAxes = Arrays.copyOf(table.xAxes, xSize);
+        table.yAxes = Arrays.copyOf(table.yAxes, ySize);
+        return table;
+    }
+
+    Axis resolve(String st4Ref) {
+        int index = indexOf(st4Ref);
+        if (index < 0) return null;
+        return (st4Ref.charAt(0) == '1' ? xAxes : yAxes)[index];
+    }
+
+    /**
+     * Referansın kendi aks dizisindeki (X için "1nn", Y için "2nn") sıfır tabanlı indeksi; geçersizse -1.
+     * Aks tipi referansın ilk karakterinden okunur.
+     */
+    int indexOf(String st4Ref) {
+        if (st4Ref == null || st4Ref.length() < 2) return -1;
+        char typeChar = st4Ref.charAt(0);
+        Axis[] axes = typeChar == '1' ? xAxes : typeChar == '2' ? yAxes : null;
+        if (axes == null) return -1;
+        int index = parseIndex(st4Ref, 1);
+        if (index < 1 || index > axes.length) return -1;
+        return index - 1;
+    }
+
+    Axis x(int index) {
+        return xAxes[index];
+    }
+
+    Axis y(int index) {
+        return yAxes[index];
+    }
+
+    int xCount() {
+        return xAxes.length;
+    }
+
+    int yCount() {
+        return yAxes.length;
+    }
+
+    private static Axis[] put(Axis[] axes, int ordinal, Axis axis) {
+        if (ordinal >= axes.length) {
+            axes = Arrays.copyOf(axes, Math.max(ordinal + 1, axes.length * 2));
+        }
+        axes[ordinal] = axis;
+        return axes;
+    }
+
+    /**
+     * Integer.parseInt ile aynı kabul kuralları (isteğe bağlı +/- işareti, yalnızca rakam, taşma yok);
+     * geçersiz girdide -1 döner. Negatif değerler de aks olarak geçersiz olduğundan -1'e eşlenir.
+     */
+    private static int parseIndex(String s, int from) {
+        int i = from;
+        int end = s.length();
+        boolean negative = false;
+        if (i < end && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        if (i == end) return -1;
+        long value = 0;
+        for (; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE) return -1;
+        }
+        return negative ? (value == 0 ? 0 : -1) : (int) value;
+    }
+}
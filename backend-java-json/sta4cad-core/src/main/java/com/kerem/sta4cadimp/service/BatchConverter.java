@@ -0,0 +1,208 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.metrics.ParseMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+/**
+ * Bir dizindeki (veya glob desenine uyan) tüm .st4 dosyalarını sınırlı bir iş parçacığı havuzunda
+ * eşzamanlı olarak dönüştürür. Hatalı bir dosya diğerlerini durdurmaz; sonunda özet raporlanır.
+ */
+public class BatchConverter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchConverter.class);
+
+    private final St4Converter converter;
+    private final int threads;
+    private final PrintStream out;
+
+    public BatchConverter(St4Converter converter, int threads, PrintStream out) {
+        this.converter = converter;
+        this.threads = Math.max(1, threads);
+        this.out = out;
+    }
+
+    public static class FileResult {
+        public final Path input;
+        public final Path output;
+        public final long nanos;
+        public final String error;
+        public final boolean cached;
+        /** Hatalı dosyalarda hataya kadar toplanan ölçümleri içerir. */
+        public final ParseMetrics metrics;
+
+        FileResult(Path input, Path output, long nanos, String error, boolean cached, ParseMetrics metrics) {
+            this.input = input;
+            this.output = output;
+            this.nanos = nanos;
+            this.error = error;
+            this.cached = cached;
+            this.metrics = metrics;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    public static class Summary {
+        public final List<FileResult> results;
+        public final long wallNanos;
+
+        Summary(List<FileResult> results, long wallNanos) {
+            this.results = results;
+            this.wallNanos = wallNanos;
+        }
+
+        public long failureCount() {
+            return results.stream().filter(r -> !r.isSuccess()).count();
+        }
+
+        public long cacheHitCount() {
+            return results.stream().filter(r -> r.cached).count();
+        }
+    }
+
+    public Summary run(String inputSpec, Path outputDir) throws IOException, InterruptedException {
+        InputSelection selection = resolveInputs(inputSpec);
+        Files.createDirectories(outputDir);
+        out.printf("%d dosya bulundu, %d iş parçacığı ile dönüştürülüyor.%n", selection.files.size(), threads);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        List<FileResult> results = new ArrayList<>(selection.files.size());
+        try {
+            CompletionService<FileResult> completion = new ExecutorCompletionService<>(pool);
+            for (Path input : selection.files) {
+                Path output = outputPathFor(selection.baseDir, input, outputDir, converter.getOutputExtension());
+                completion.submit(() -> convertOne(input, output));
+            }
+            for (int i = 0; i < selection.files.size(); i++) {
+                FileResult result = completion.take().get();
+                results.add(result);
+                if (result.isSuccess()) {
+                    out.printf("%-6s %9.1f ms  %s%n", result.cached ? "ÖNBLK" : "TAMAM", result.nanos / 1e6, result.input);
+                } else {
+                    out.printf("HATA   %9.1f ms  %s -> %s%n", result.nanos / 1e6, result.input, result.error);
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Beklenmeyen batch hatası", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        Summary summary = new Summary(results, System.nanoTime() - start);
+        printSummary(summary);
+        return summary;
+    }
+
+    private FileResult convertOne(Path input, Path output) {
+        long start = System.nanoTime();
+        ParseMetrics metrics = new ParseMetrics();
+        try {
+            Files.createDirectories(output.getParent());
+            boolean cached = converter.convert(input, output, metrics) == null;
+            return new FileResult(input, output, System.nanoTime() - start, null, cached, metrics);
+        } catch (Exception e) {
+            logger.error("Dosya dönüştürülemedi: {}", input, e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return new FileResult(input, output, System.nanoTime() - start, message, false, metrics);
+        }
+    }
+
+    private void printSummary(Summary summary) {
+        List<FileResult> results = summary.results;
+        long failures = summary.failureCount();
+        double seconds = summary.wallNanos / 1e9;
+        out.println("---- Batch özeti ----");
+        out.printf("Dosya: %d, başarılı: %d, hatalı: %d, önbellekten: %d%n",
+                results.size(), results.size() - failures, failures, summary.cacheHitCount());
+        out.printf("Toplam süre: %.2f s, hız: %.1f dosya/s%n", seconds, seconds > 0 ? results.size() / seconds : 0.0);
+        if (!results.isEmpty()) {
+            LongSummaryStatistics stats = results.stream().mapToLong(r -> r.nanos).summaryStatistics();
+            out.printf("Dosya başına süre: min %.1f ms, ort %.1f ms, maks %.1f ms%n",
+                    stats.getMin() / 1e6, stats.getAverage() / 1e6, stats.getMax() / 1e6);
+            results.stream()
+                    .sorted(Comparator.comparingLong((FileResult r) -> r.nanos).reversed())
+                    .limit(5)
+                    .forEach(r -> out.printf("  en yavaş: %9.1f ms  %s%n", r.nanos / 1e6, r.input));
+        }
+        if (failures > 0) {
+            out.println("Hatalı dosyalar:");
+            results.stream().filter(r -> !r.isSuccess())
+                    .forEach(r -> out.printf("  %s -> %s%n", r.input, r.error));
+        }
+    }
+
+    static Path outputPathFor(Path baseDir, Path input, Path outputDir, String extension) {
+        Path relative = baseDir.relativize(input);
+        String fileName = relative.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String outputName = (dot > 0 ? fileName.substring(0, dot) : fileName) + extension;
+        Path parent = relative.getParent();
+        return parent == null ? outputDir.resolve(outputName) : outputDir.resolve(parent).resolve(outputName);
+    }
+
+    private static class InputSelection {
+        final Path baseDir;
+        final List<Path> files;
+
+        InputSelection(Path baseDir, List<Path> files) {
+            this.baseDir = baseDir;
+            this.files = files;
+        }
+    }
+
+    /** Girdi tanımına (dizin, tek dosya veya glob) uyan .st4 dosyalarını sıralı olarak döner. */
+    public static List<Path> listInputs(String inputSpec) throws IOException {
+        return resolveInputs(inputSpec).files;
+    }
+
+    /**
+     * Girdi bir dizinse altındaki tüm .st4 dosyalarını, glob deseni ise (örn. "arsiv/2024-*.st4")
+     * desenin joker içermeyen ön ekinden başlayarak eşleşen dosyaları döner.
+     */
+    static InputSelection resolveInputs(String inputSpec) throws IOException {
+        Path asPath = isGlob(inputSpec) ? null : Paths.get(inputSpec);
+        if (asPath != null && Files.isDirectory(asPath)) {
+            return new InputSelection(asPath, collect(asPath, p -> p.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".st4")));
+        }
+        if (asPath != null && Files.isRegularFile(asPath)) {
+            Path parent = asPath.toAbsolutePath().getParent();
+            return new InputSelection(parent, List.of(asPath.toAbsolutePath()));
+        }
+
+        String normalized = inputSpec.replace('\\', '/');
+        int firstMeta = 0;
+        while (firstMeta < normalized.length() && "*?[{".indexOf(normalized.charAt(firstMeta)) < 0) firstMeta++;
+        int lastSlash = normalized.lastIndexOf('/', firstMeta);
+        Path baseDir = lastSlash < 0 ? Paths.get(".") : Paths.get(normalized.substring(0, Math.max(lastSlash, 1)));
+        String pattern = lastSlash < 0 ? normalized : normalized.substring(lastSlash + 1);
+        if (!Files.isDirectory(baseDir)) {
+            throw new NoSuchFileException(inputSpec);
+        }
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        Path root = baseDir;
+        return new InputSelection(baseDir, collect(baseDir, p -> matcher.matches(root.relativize(p))));
+    }
+
+    private static boolean isGlob(String spec) {
+        for (int i = 0; i < spec.length(); i++) {
+            if ("*?[{".indexOf(spec.charAt(i)) >= 0) return true;
+        }
+        return false;
+    }
+
+    private static List<Path> collect(Path baseDir, java.util.function.Predicate<Path> filter) throws IOException {
+        try (Stream<Path> walk = Files.walk(baseDir)) {
+            return walk.filter(Files::isRegularFile).filter(filter).sorted().toList();
+        }
+    }
+}
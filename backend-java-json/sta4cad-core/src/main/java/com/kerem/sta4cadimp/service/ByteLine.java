@@ -0,0 +1,87 @@
+package com.kerem.sta4cadimp.service;
+
+/**
+ * Bir bayt dizisindeki tek bir .st4 satırının kırpılmış görünümü. {@link FieldCursor} sayısal
+ * alanları {@link #charAt} üzerinden doğrudan baytlardan okur; String yalnızca metin alanları için
+ * {@link TextDecoder} ile oluşturulur. Örnek okuyucu tarafından her satırda yeniden doldurulur,
+ * bu yüzden saklanmamalıdır.
+ *
+ * <p>{@code charAt} baytı işaretsiz olarak döner: ASCII karakterler doğru, diğerleri ayrıştırmada
+ * yalnızca "virgül/rakam/boşluk değil" olarak görünür.</p>
+ */
+final class ByteLine implements CharSequence {
+
+    private final TextDecoder decoder;
+    private byte[] bytes;
+    private int start;
+    private int end;
+
+    ByteLine(TextDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    /** [from, to) aralığını String.trim() ile aynı kuralla (' ' ve altı) kırparak gösterir. */
+    ByteLine set(byte[] bytes, int from, int to) {
+        while (from < to && isBlank(bytes[from])) from++;
+        while (to > from && isBlank(bytes[to - 1])) to--;
+        this.bytes = bytes;
+        this.start = from;
+        this.end = to;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (bytes[start + index] & 0xFF);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return start == end;
+    }
+
+    /** ASCII önek karşılaştırması. */
+    boolean startsWith(String prefix) {
+        if (prefix.length() > length()) return false;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (bytes[start + i] != prefix.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    int indexOf(char c) {
+        for (int i = start; i < end; i++) {
+            if (bytes[i] == c) return i - start;
+        }
+        return -1;
+    }
+
+    /** [from, to) aralığını karakter kümesine göre çözülmüş String olarak döner. */
+    String text(int from, int to) {
+        return decoder.decode(bytes, start + from, start + to);
+    }
+
+    /** {@link #text} ile aynı değer; tekrar eden alanlar için {@code symbols} üzerinden ortak örnek döner. */
+    String symbol(int from, int to, SymbolCache symbols) {
+        return symbols.get(bytes, start + from, start + to, decoder);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return text(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return text(0, length());
+    }
+
+    private static boolean isBlank(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+}
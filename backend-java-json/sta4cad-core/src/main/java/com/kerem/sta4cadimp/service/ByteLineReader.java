@@ -0,0 +1,87 @@
+package com.kerem.sta4cadimp.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Bir akışı kod çözmeden satırlara böler. Satır sonu kuralları BufferedReader.readLine ile aynıdır
+ * ("\n", "\r" ve "\r\n"; sondaki sonlandırıcıdan sonra boş satır üretilmez), böylece satır numaraları
+ * bellek eşlemeli okuyucu ({@link SectionIndex}) ile uyumlu kalır. Dosya başındaki UTF-8 BOM atlanır.
+ */
+final class ByteLineReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final ByteLine line;
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private boolean eof;
+    private boolean skipLf;
+    private boolean started;
+
+    ByteLineReader(InputStream in, TextDecoder decoder) {
+        this.in = in;
+        this.line = new ByteLine(decoder);
+    }
+
+    /** Sıradaki satırı kırpılmış olarak döner; akış bittiyse null. Dönen nesne bir sonraki çağrıda değişir. */
+    ByteLine next() throws IOException {
+        if (!started) {
+            started = true;
+            skipBom();
+        }
+        int scan = pos;
+        while (true) {
+            if (skipLf && scan < limit) {
+                if (buffer[scan] == '\n') scan++;
+                pos = scan;
+                skipLf = false;
+            }
+            for (; scan < limit; scan++) {
+                byte b = buffer[scan];
+                if (b == '\n' || b == '\r') {
+                    line.set(buffer, pos, scan);
+                    pos = scan + 1;
+                    skipLf = b == '\r';
+                    return line;
+                }
+            }
+            if (eof) {
+                if (pos >= limit) return null;
+                line.set(buffer, pos, limit);
+                pos = limit;
+                return line;
+            }
+            scan -= pos;
+            fill();
+        }
+    }
+
+    /** Tamamlanmamış satırı tamponun başına taşır (gerekirse tamponu büyütür) ve akıştan okur. */
+    private void fill() throws IOException {
+        int remaining = limit - pos;
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, remaining);
+        } else if (remaining == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        pos = 0;
+        limit = remaining;
+        int read = in.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            eof = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    private void skipBom() throws IOException {
+        while (!eof && limit < 3) fill();
+        if (limit >= 3 && buffer[0] == (byte) 0xEF && buffer[1] == (byte) 0xBB && buffer[2] == (byte) 0xBF) {
+            pos = 3;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.entity.StructuralColumn;
+
+import java.util.List;
+
+/**
+ * Bir kattaki kolonlar üzerinde düzgün ızgara (uniform grid) tabanlı uzamsal indeks.
+ * Kiriş/panel uçlarını taşıyıcı kolona eşlemek için kullanılır; her sorgu yalnızca noktanın
+ * hücresine ve yakın komşularına bakar, böylece eşleme kiriş × kolon yerine yaklaşık doğrusal sürer.
+ *
+ * <p>Hücreler CSR düzeninde tutulur ({@code cellStart} + {@code cellColumns}); kutu boyutu kolon
+ * sayısına göre büyütüldüğü için hücre sayısı kolon sayısıyla orantılı kalır. Kolon yönü dosyada
+ * bulunmadığından her kolon, büyük kenarının yarısı kadar kare bir kutu olarak ele alınır.</p>
+ */
+final class ColumnGrid {
+
+    private final StructuralColumn[] columns;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] reach;
+    private final double minX;
+    private final double minY;
+    private final double cellSize;
+    private final double maxReach;
+    private final int nx;
+    private final int ny;
+    private final int[] cellStart;
+    private final int[] cellColumns;
+
+    private ColumnGrid(List<StructuralColumn> source, double tolerance) {
+        int n = source.size();
+        columns = source.toArray(new StructuralColumn[0]);
+        xs = new double[n];
+        ys = new double[n];
+        reach = new double[n];
+
+        double minXv = Double.POSITIVE_INFINITY, minYv = Double.POSITIVE_INFINITY;
+        double maxXv = Double.NEGATIVE_INFINITY, maxYv = Double.NEGATIVE_INFINITY;
+        double maxReachv = tolerance;
+        for (int i = 0; i < n; i++) {
+            StructuralColumn column = columns[i];
+            xs[i] = column.getPositionXMetre();
+            ys[i] = column.getPositionYMetre();
+            reach[i] = Math.max(column.getDimensionWidthCm(), column.getDimensionHeightCm()) / 200.0 + tolerance;
+            maxReachv = Math.max(maxReachv, reach[i]);
+            minXv = Math.min(minXv, xs[i]);
+            minYv = Math.min(minYv, ys[i]);
+            maxXv = Math.max(maxXv, xs[i]);
+            maxYv = Math.max(maxYv, ys[i]);
+        }
+        minX = minXv;
+        minY = minYv;
+        maxReach = maxReachv;
+
+        // Hücre en az en büyük erişim mesafesi kadar olmalı ki çoğu sorguda 3x3 komşuluk yetsin; seyrek
+        // katlarda ise ortalama kolon aralığına büyütülür, hücre sayısı ~n ile sınırlı kalır.
+        double spanX = maxXv - minXv;
+        double spanY = maxYv - minYv;
+        double cell = Math.max(maxReachv, Math.sqrt(spanX * spanY / n));
+        cell = Math.max(cell, Math.max(spanX, spanY) / (4.0 * n));
+        cellSize = cell > 0 ? cell : 1.0;
+        nx = (int) (spanX / cellSize) + 1;
+        ny = (int) (spanY / cellSize) + 1;
+
+        cellStart = new int[nx * ny + 1];
+        int[] cellOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            cellOf[i] = cellIndex(cellX(xs[i]), cellY(ys[i]));
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < nx * ny; c++) cellStart[c + 1] += cellStart[c];
+        cellColumns = new int[n];
+        int[] fill = new int[nx * ny];
+        for (int i = 0; i < n; i++) {
+            int c = cellOf[i];
+            cellColumns[cellStart[c] + fill[c]++] = i;
+        }
+    }
+
+    /** Kolon listesi boşsa null döner. */
+    static ColumnGrid of(List<StructuralColumn> columns, double tolerance) {
+        return columns == null || columns.isEmpty() ? null : new ColumnGrid(columns, tolerance);
+    }
+
+    /**
+     * Noktayı kesitinin (tolerans ve {@code margin} payıyla) içine alan kolonlardan merkezi en yakın
+     * olanı döner; yoksa null. {@code margin} elemanın yarı genişliğidir: eksantrik bir kirişin ekseni
+     * kolon kesitinin dışında kalsa da yüzü kolona dayanıyorsa bağlanır.
+     */
+    StructuralColumn find(double x, double y, double margin) {
+        int cx = cellX(x);
+        int cy = cellY(y);
+        int range = (int) Math.ceil((maxReach + margin) / cellSize);
+        StructuralColumn best = null;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int gy = Math.max(0, cy - range); gy <= Math.min(ny - 1, cy + range); gy++) {
+            for (int gx = Math.max(0, cx - range); gx <= Math.min(nx - 1, cx + range); gx++) {
+                int c = cellIndex(gx, gy);
+                for (int k = cellStart[c]; k < cellStart[c + 1]; k++) {
+                    int i = cellColumns[k];
+                    double dx = Math.abs(x - xs[i]);
+                    double dy = Math.abs(y - ys[i]);
+                    if (dx > reach[i] + margin || dy > reach[i] + margin) continue;
+                    double distance = dx * dx + dy * dy;
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        best = columns[i];
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    // Izgaranın dışındaki noktalar kenar hücreye kıstırılır; mesafe kontrolü her kolon için ayrıca
+    // yapıldığından uzaktaki bir nokta yine hiçbir kolona eşlenmez.
+    private int cellX(double x) {
+        return clamp((int) Math.floor((x - minX) / cellSize), nx);
+    }
+
+    private int cellY(double y) {
+        return clamp((int) Math.floor((y - minY) / cellSize), ny);
+    }
+
+    private int cellIndex(int gx, int gy) {
+        return gy * nx + gx;
+    }
+
+    private static int clamp(int value, int size) {
+        return value < 0 ? 0 : Math.min(value, size - 1);
+    }
+}
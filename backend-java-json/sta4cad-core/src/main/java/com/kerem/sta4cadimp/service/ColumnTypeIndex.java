@@ -0,0 +1,119 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.dtos.ColumnTypeDefinition;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /Columns Data/ tanımlarını bir kez indeksler. Kolon yerleşimi her kat için
+ * {@code floorNumber + baseLabel.substring(1)} etiketini arar (örn. kat 12, taban "101" -> "1201");
+ * burada aynı anahtar String üretmeden, etiketin sayısal değeri ve hane sayısından oluşan bir long
+ * olarak hesaplanır ve açık adresli bir long -> tanım tablosunda aranır.
+ *
+ * <p>En fazla 17 haneli, yalnızca rakamdan oluşan etiketler tabloya girer; diğerleri (ve bu etiketlere
+ * karşılık gelebilecek tüm aramalar) eski String anahtarlı haritaya düşer. Aynı etiket birden çok kez
+ * tanımlanmışsa eski HashMap davranışındaki gibi sonuncusu geçerlidir.</p>
+ */
+final class ColumnTypeIndex {
+
+    static final long NO_SUFFIX = -1L;
+
+    private static final int MAX_DIGITS = 17;
+    private static final long[] POWERS_OF_TEN = new long[MAX_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+    }
+
+    private final long[] keys;
+    private final ColumnTypeDefinition[] values;
+    private final int mask;
+    private final Map<String, ColumnTypeDefinition> fallback = new HashMap<>();
+
+    ColumnTypeIndex(List<ColumnTypeDefinition> definitions) {
+        int capacity = Integer.highestOneBit(Math.max(4, definitions.size() * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new ColumnTypeDefinition[capacity];
+        mask = capacity - 1;
+        for (ColumnTypeDefinition definition : definitions) {
+            long key = numericKey(definition.typeLabel, 0);
+            if (key == NO_SUFFIX) {
+                fallback.put(definition.typeLabel, definition);
+            } else {
+                put(key, definition);
+            }
+        }
+    }
+
+    /** Taban etiketin ilk karakterden sonraki kısmını (değer, hane sayısı) olarak paketler. */
+    static long suffixOf(String baseLabel) {
+        if (baseLabel.isEmpty()) return NO_SUFFIX;
+        return baseLabel.length() == 1 ? pack(0, 0) : numericKey(baseLabel, 1);
+    }
+
+    /**
+     * {@code floorNumber + baseLabel.substring(1)} etiketli tanımı döner. {@code suffix} aynı taban
+     * etiket için {@link #suffixOf(String)} ile bir kez hesaplanıp tüm katlarda yeniden kullanılır.
+     */
+    ColumnTypeDefinition find(int floorNumber, String baseLabel, long suffix) {
+        if (suffix != NO_SUFFIX && floorNumber >= 0) {
+            int suffixDigits = (int) (suffix & 31);
+            int totalDigits = digitCount(floorNumber) + suffixDigits;
+            if (totalDigits <= MAX_DIGITS) {
+                long value = floorNumber * POWERS_OF_TEN[suffixDigits] + (suffix >>> 5);
+                return get(pack(value, totalDigits));
+            }
+        }
+        return fallback.get(floorNumber + baseLabel.substring(1));
+    }
+
+    private static long numericKey(String label, int from) {
+        int digits = label.length() - from;
+        if (digits < 1 || digits > MAX_DIGITS) return NO_SUFFIX;
+        long value = 0;
+        for (int i = from; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if (c < '0' || c > '9') return NO_SUFFIX;
+            value = value * 10 + (c - '0');
+        }
+        return pack(value, digits);
+    }
+
+    // Değer < 10^17 olduğundan 5 bitlik hane sayısıyla birlikte pozitif bir long'a sığar.
+    private static long pack(long value, int digits) {
+        return (value << 5) | digits;
+    }
+
+    private static int digitCount(int value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private static int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void put(long key, ColumnTypeDefinition definition) {
+        int i = slot(key) & mask;
+        while (values[i] != null && keys[i] != key) i = (i + 1) & mask;
+        keys[i] = key;
+        values[i] = definition;
+    }
+
+    private ColumnTypeDefinition get(long key) {
+        int i = slot(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) return values[i];
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,292 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.diagnostics.DiagnosticCode;
+
+/**
+ * Virgülle ayrılmış bir .st4 kayıt satırı üzerinde ilerleyen, tekrar kullanılabilir alan okuyucu.
+ * {@code line.split(",")} + {@code trim()} + {@code Double.parseDouble} zincirinin yerine geçer:
+ * sayısal alanlar satırın kendi karakterleri üzerinde ayrıştırılır, yalnızca etiket alanları için
+ * String oluşturulur. Alan sayısı split(",") ile aynı kurala uyar (sondaki boş alanlar sayılmaz).
+ *
+ * <p>Okuma hiçbir zaman istisna fırlatmaz: eksik veya sayı olmayan bir alan, satırdaki ilk hata olarak
+ * ({@link #failed()}, {@link #error()}, {@link #errorField()}) kaydedilir ve yerine 0 / NaN döner.
+ * Çağıran kaydı tamamladıktan sonra hatayı kontrol edip kaydı atlar.</p>
+ */
+final class FieldCursor {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    // 2^53'ten küçük tamsayılar double olarak tam temsil edilir.
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    /** {@link #parseInt} geçersiz veya int aralığı dışındaki girdide bu değeri döner. */
+    static final long INVALID_INT = Long.MIN_VALUE;
+
+    private final SymbolCache symbols;
+    private CharSequence line;
+    private int length;
+    private int fieldCount;
+    private int fieldIndex;
+    private int pos;
+    private int fieldStart;
+    private int fieldEnd;
+    private DiagnosticCode error;
+    private int errorField;
+
+    FieldCursor() {
+        this(null);
+    }
+
+    /** {@code symbols} verilirse {@link #nextSymbol()} ve {@link #nextRawSymbol()} ortak örnekler döner. */
+    FieldCursor(SymbolCache symbols) {
+        this.symbols = symbols;
+    }
+
+    FieldCursor reset(CharSequence line) {
+        this.line = line;
+        this.length = line.length();
+        this.fieldIndex = 0;
+        this.pos = 0;
+        this.fieldCount = countFields(line, length);
+        this.error = null;
+        this.errorField = 0;
+        return this;
+    }
+
+    /** Son reset'ten bu yana bir alan okunamadı mı? */
+    boolean failed() {
+        return error != null;
+    }
+
+    DiagnosticCode error() {
+        return error;
+    }
+
+    /** İlk hatalı alanın 1 tabanlı sırası. */
+    int errorField() {
+        return errorField;
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    FieldCursor skip(int fields) {
+        for (int i = 0; i < fields; i++) advance();
+        return this;
+    }
+
+    /** Sıradaki alanı kırpılmış String olarak döner (etiketler için); alan yoksa "". */
+    String nextString() {
+        if (!advance()) return "";
+        trimField();
+        return text(fieldStart, fieldEnd);
+    }
+
+    /** Sıradaki alanı kırpmadan döner; split(",")'in ham parçasını kullanan eski davranış için. */
+    String nextRaw() {
+        if (!advance()) return "";
+        return text(fieldStart, fieldEnd);
+    }
+
+    /**
+     * {@link #nextString()} gibi, ancak tekrar eden değerler (tip etiketleri, S/A kimlikleri, aks
+     * referansları) için her çağrıda aynı String örneğini döner.
+     */
+    String nextSymbol() {
+        if (!advance()) return "";
+        trimField();
+        return symbol(fieldStart, fieldEnd);
+    }
+
+    /** {@link #nextRaw()} karşılığı ortak örnek. */
+    String nextRawSymbol() {
+        if (!advance()) return "";
+        return symbol(fieldStart, fieldEnd);
+    }
+
+    double nextDouble() {
+        if (!advance()) return Double.NaN;
+        double value = parseDouble(line, fieldStart, fieldEnd);
+        if (Double.isNaN(value)) fail(DiagnosticCode.INVALID_NUMBER);
+        return value;
+    }
+
+    /** Alan kırpılmadan okunur: eski {@code Integer.parseInt(parts[i])} gibi boşluklu değerler geçersizdir. */
+    int nextInt() {
+        if (!advance()) return 0;
+        return toInt(parseInt(line, fieldStart, fieldEnd));
+    }
+
+    /** {@code Integer.parseInt(parts[i].trim())} karşılığı. */
+    int nextTrimmedInt() {
+        if (!advance()) return 0;
+        trimField();
+        return toInt(parseInt(line, fieldStart, fieldEnd));
+    }
+
+    private int toInt(long value) {
+        if (value == INVALID_INT) {
+            fail(DiagnosticCode.INVALID_NUMBER);
+            return 0;
+        }
+        return (int) value;
+    }
+
+    // Bayt satırlarında ara görünüm oluşturmadan doğrudan karakter kümesiyle çözülür.
+    private String text(int from, int to) {
+        return line instanceof ByteLine bytes ? bytes.text(from, to) : line.subSequence(from, to).toString();
+    }
+
+    private String symbol(int from, int to) {
+        if (symbols == null) return text(from, to);
+        if (line instanceof ByteLine bytes) return bytes.symbol(from, to, symbols);
+        return symbols.table().intern(text(from, to));
+    }
+
+    private boolean advance() {
+        if (fieldIndex >= fieldCount) {
+            fieldIndex++;
+            fail(DiagnosticCode.MISSING_FIELD);
+            return false;
+        }
+        int end = pos;
+        while (end < length && line.charAt(end) != ',') end++;
+        fieldStart = pos;
+        fieldEnd = end;
+        pos = end + 1;
+        fieldIndex++;
+        return true;
+    }
+
+    private void fail(DiagnosticCode code) {
+        if (error == null) {
+            error = code;
+            errorField = fieldIndex;
+        }
+    }
+
+    private void trimField() {
+        while (fieldStart < fieldEnd && line.charAt(fieldStart) <= ' ') fieldStart++;
+        while (fieldEnd > fieldStart && line.charAt(fieldEnd - 1) <= ' ') fieldEnd--;
+    }
+
+    private static int countFields(CharSequence line, int length) {
+        int commas = 0;
+        for (int i = 0; i < length; i++) {
+            if (line.charAt(i) == ',') commas++;
+        }
+        if (commas == 0) return 1;
+        int count = commas + 1;
+        int end = length;
+        // split(",") sondaki boş parçaları atar.
+        while (count > 0) {
+            int start = end;
+            while (start > 0 && line.charAt(start - 1) != ',') start--;
+            if (start != end) break;
+            count--;
+            end = start - 1;
+            if (end < 0) break;
+        }
+        return count;
+    }
+
+    /**
+     * Geçerli girdilerde Double.parseDouble ile aynı sonucu verir; geçersiz girdide istisna yerine NaN
+     * döner. Basit ondalık gösterimler (işaret, en fazla 18 rakam, nokta) yerinde ve tam doğrulukla
+     * hesaplanır; üslü veya çok uzun gösterimler önce sözdizimi denetlenip JDK'ya devredilir.
+     */
+    static double parseDouble(CharSequence s, int from, int to) {
+        int start = from;
+        int end = to;
+        while (start < end && s.charAt(start) <= ' ') start++;
+        while (end > start && s.charAt(end - 1) <= ' ') end--;
+
+        int i = start;
+        boolean negative = false;
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean seenDot = false;
+        boolean seenDigit = false;
+        boolean simple = true;
+        for (; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits == 18) { simple = false; break; }
+                seenDigit = true;
+                if (mantissa != 0 || c != '0') digits++;
+                mantissa = mantissa * 10 + (c - '0');
+                if (seenDot) fractionDigits++;
+            } else if (c == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                simple = false;
+                break;
+            }
+        }
+        if (simple && seenDigit && mantissa < MAX_EXACT_MANTISSA && fractionDigits < POWERS_OF_TEN.length) {
+            double value = fractionDigits == 0 ? (double) mantissa : mantissa / POWERS_OF_TEN[fractionDigits];
+            return negative ? -value : value;
+        }
+        if (!isDecimal(s, start, end)) return Double.NaN;
+        return Double.parseDouble(s.subSequence(start, end).toString());
+    }
+
+    /**
+     * [+-] (rakamlar [. rakamlar] | . rakamlar) [(e|E) [+-] rakamlar] [fFdD] biçimi. .st4 dosyalarında
+     * geçmeyen onaltılık ve NaN/Infinity gösterimleri geçersiz sayılır.
+     */
+    private static boolean isDecimal(CharSequence s, int start, int end) {
+        int i = start;
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) i++;
+        int digits = 0;
+        while (i < end && isDigit(s.charAt(i))) { i++; digits++; }
+        if (i < end && s.charAt(i) == '.') {
+            i++;
+            while (i < end && isDigit(s.charAt(i))) { i++; digits++; }
+        }
+        if (digits == 0) return false;
+        if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) i++;
+            int exponentDigits = 0;
+            while (i < end && isDigit(s.charAt(i))) { i++; exponentDigits++; }
+            if (exponentDigits == 0) return false;
+        }
+        if (i < end && "fFdD".indexOf(s.charAt(i)) >= 0) i++;
+        return i == end;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Integer.parseInt ile aynı sonucu verir; o da boşlukları kabul etmediğinden alan kırpılmaz.
+     * Geçersiz veya int aralığı dışındaki girdide {@link #INVALID_INT} döner.
+     */
+    static long parseInt(CharSequence s, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        if (i == to) return INVALID_INT;
+        long value = 0;
+        for (; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return INVALID_INT;
+            value = value * 10 + (c - '0');
+            if (value > 1L + Integer.MAX_VALUE) return INVALID_INT;
+        }
+        if (negative) value = -value;
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? INVALID_INT : value;
+    }
+}
@@ -0,0 +1,45 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.dtos.ColumnTypeDefinition;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ayrıştırma sırasında tekrar tekrar oluşan küçük metinler (kolon tip etiketleri, S/A kimlikleri,
+ * kiriş özellik kodları, aks referansları) ve kolon kesit tanımları için ortak tablo. Aynı değer her
+ * seferinde aynı örnek olarak döner; böylece bellekte tek kopya tutulur ve eşitlik kontrolleri
+ * referans karşılaştırmasına iner.
+ *
+ * <p>Varsayılan olarak her ayrıştırma kendi tablosunu kullanır. Çok sayıda projeyi aynı anda bellekte
+ * tutan toplu işler tek bir tabloyu {@link St4FileParser#withInternTable} ile paylaşabilir; tablo
+ * eşzamanlı kullanıma uygundur. Eleman etiketleri gibi çoğunlukla benzersiz metinler tabloya alınmaz,
+ * dolayısıyla tablo yalnızca dosyaların ortak söz dağarcığı kadar büyür.</p>
+ */
+public final class InternTable {
+
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<SectionKey, ColumnTypeDefinition> sections = new ConcurrentHashMap<>();
+
+    private record SectionKey(String typeLabel, double widthCm, double heightCm) {
+    }
+
+    public String intern(String value) {
+        if (value == null) return null;
+        String existing = strings.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    /** Aynı etiket ve boyutlara sahip kesit tanımları için tek örnek döner; {@code typeLabel} tablodan olmalıdır. */
+    ColumnTypeDefinition section(String typeLabel, double widthCm, double heightCm) {
+        return sections.computeIfAbsent(new SectionKey(typeLabel, widthCm, heightCm),
+                key -> new ColumnTypeDefinition(key.typeLabel(), key.widthCm(), key.heightCm()));
+    }
+
+    public int stringCount() {
+        return strings.size();
+    }
+
+    public int sectionCount() {
+        return sections.size();
+    }
+}
@@ -0,0 +1,26 @@
+package com.kerem.sta4cadimp.service;
+
+/**
+ * Tek bir ayrıştırma çalışmasına ait durum. St4FileParser bir Spring singleton'ı olduğu için ID
+ * sayaçları gibi çalışma başına değişen her şey burada tutulur; her parse çağrısı yeni bir bağlam
+ * oluşturur. Böylece aynı parser örneği eşzamanlı çağrılara güvenle hizmet eder ve her proje
+ * ID'leri 1'den başlayarak belirlenimci şekilde alır.
+ */
+final class ParseContext {
+
+    private long floorIdCounter = 1L;
+    private long axisIdCounter = 1L;
+    private long columnIdCounter = 1L;
+    private long beamIdCounter = 1L;
+    private long panelIdCounter = 1L;
+    private long slabIdCounter = 1L;
+    private long foundationSlabIdCounter = 1L;
+
+    long nextFloorId() { return floorIdCounter++; }
+    long nextAxisId() { return axisIdCounter++; }
+    long nextColumnId() { return columnIdCounter++; }
+    long nextBeamId() { return beamIdCounter++; }
+    long nextPanelId() { return panelIdCounter++; }
+    long nextSlabId() { return slabIdCounter++; }
+    long nextFoundationSlabId() { return foundationSlabIdCounter++; }
+}
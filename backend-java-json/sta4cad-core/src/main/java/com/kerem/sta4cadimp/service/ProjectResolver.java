@@ -0,0 +1,442 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.diagnostics.DiagnosticCode;
+import com.kerem.sta4cadimp.diagnostics.Diagnostics;
+import com.kerem.sta4cadimp.dtos.ColumnTypeDefinition;
+import com.kerem.sta4cadimp.dtos.RawColumnData;
+import com.kerem.sta4cadimp.entity.*;
+import com.kerem.sta4cadimp.metrics.ParseMetrics;
+import com.kerem.sta4cadimp.service.St4FileParser.RawBeamData;
+import com.kerem.sta4cadimp.service.St4FileParser.RawFoundationSlabData;
+import com.kerem.sta4cadimp.service.St4FileParser.RawSections;
+import com.kerem.sta4cadimp.service.St4FileParser.RawSlabData;
+import com.kerem.sta4cadimp.service.St4FileParser.Section;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Ham bölümlerden kolon, kiriş/panel, döşeme ve radye entity'lerini oluşturup kat ve proje listelerine
+ * bağlar. Her aşama iki adımdan oluşur: elemanların aks tablosu, kesit indeksi ve kat listesi okunarak
+ * hesaplandığı bir hesap adımı ve kimliklerin dağıtılıp elemanların listelere eklendiği birleştirme
+ * adımı.
+ *
+ * <p>Sıralı modda her şey çağıran iş parçacığında yürür. Paralel modda dört aşamanın hesap adımları
+ * birlikte çalışır; kolonlar kat başına, kiriş/panel, döşeme ve radyeler satır aralıklarına bölünerek
+ * ortak havuzda (veya çağıranın içinde çalıştığı ForkJoinPool'da) hesaplanır, kolon bağlantıları da kat
+ * başına paralel kurulur. Birleştirme her iki modda da dosya sırasıyla tek iş parçacığında yapıldığından
+ * kimlikler, liste sıraları ve tanılamalar aynıdır.</p>
+ */
+final class ProjectResolver {
+
+    private final RawSections sections;
+    private final Project project;
+    private final Map<Integer, Floor> floorMapBySt4Num;
+    private final AxisTable axisTable;
+    private final ColumnTypeIndex columnTypeIndex;
+    private final ParseContext context;
+    private final Diagnostics diagnostics;
+    private final SlabFootprints footprints;
+
+    // Hesap adımlarının sonuçları; kimliksizdir ve birleştirmede listelere eklenir.
+    private StructuralColumn[][] columnsByFloor;
+    private Object[] beamsAndPanels;
+    // Aksları çözülemeyen kiriş/panellerin 1 tabanlı alan numarası (0: çözüldü).
+    private int[] unresolvedAxisFields;
+    // Konumu hesaplanamayan kiriş/paneller; koordinatları 0 kaldığından kolonlara bağlanmaz.
+    private final Set<Object> unplaced = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Slab[] slabs;
+    private FoundationSlab[] foundationSlabs;
+
+    ProjectResolver(RawSections sections, Project project, Map<Integer, Floor> floorMapBySt4Num,
+                    AxisTable axisTable, ColumnTypeIndex columnTypeIndex, ParseContext context) {
+        this.sections = sections;
+        this.project = project;
+        this.floorMapBySt4Num = floorMapBySt4Num;
+        this.axisTable = axisTable;
+        this.columnTypeIndex = columnTypeIndex;
+        this.context = context;
+        this.diagnostics = sections.diagnostics;
+        this.footprints = new SlabFootprints(axisTable);
+    }
+
+    void resolveSequential(ParseMetrics metrics) {
+        long phaseStart = System.nanoTime();
+        computeColumns(false);
+        assembleColumns();
+        phaseStart = lap(metrics, "columns", phaseStart);
+        computeBeams(false);
+        assembleBeams();
+        phaseStart = lap(metrics, "beams", phaseStart);
+        computeSlabs(false);
+        assembleSlabs();
+        phaseStart = lap(metrics, "slabs", phaseStart);
+        computeFoundationSlabs(false);
+        assembleFoundationSlabs();
+        phaseStart = lap(metrics, "foundations", phaseStart);
+        linkColumns(false);
+        lap(metrics, "columnLinks", phaseStart);
+    }
+
+    /**
+     * Aşama süreleri her aşamanın kendi hesap + birleştirme süresidir; hesap adımları üst üste
+     * bindiğinden toplamları duvar saatinden uzun olabilir.
+     */
+    void resolveParallel(ParseMetrics metrics) {
+        long[] nanos = new long[4];
+        ForkJoinTask.invokeAll(
+                ForkJoinTask.adapt(() -> nanos[0] = timed(() -> computeColumns(true))),
+                ForkJoinTask.adapt(() -> nanos[1] = timed(() -> computeBeams(true))),
+                ForkJoinTask.adapt(() -> nanos[2] = timed(() -> computeSlabs(true))),
+                ForkJoinTask.adapt(() -> nanos[3] = timed(() -> computeFoundationSlabs(true))));
+        nanos[0] += timed(this::assembleColumns);
+        nanos[1] += timed(this::assembleBeams);
+        nanos[2] += timed(this::assembleSlabs);
+        nanos[3] += timed(this::assembleFoundationSlabs);
+        long links = timed(() -> linkColumns(true));
+        if (metrics != null) {
+            metrics.recordPhase("columns", nanos[0]);
+            metrics.recordPhase("beams", nanos[1]);
+            metrics.recordPhase("slabs", nanos[2]);
+            metrics.recordPhase("foundations", nanos[3]);
+            metrics.recordPhase("columnLinks", links);
+        }
+    }
+
+    /**
+     * Her kat için, ham kolon sırasıyla indekslenmiş bir dizi üretir (kolon o katta yoksa null). Kolonlar
+     * katın listesine burada eklenir; her kat yalnızca kendi görevinde değiştirilir.
+     */
+    private void computeColumns(boolean parallel) {
+        List<RawColumnData> rawColumns = sections.rawColumns;
+        List<ColumnTypeDefinition> columnTypeDefinitions = sections.columnTypeDefinitions;
+        int count = Math.min(rawColumns.size(), columnTypeDefinitions.size());
+        Axis[] xAxes = new Axis[count];
+        Axis[] yAxes = new Axis[count];
+        long[] baseSuffixes = new long[count];
+        for (int i = 0; i < count; i++) {
+            RawColumnData rawCol = rawColumns.get(i);
+            xAxes[i] = axisTable.resolve(rawCol.sId);
+            yAxes[i] = axisTable.resolve(rawCol.aId);
+            baseSuffixes[i] = ColumnTypeIndex.suffixOf(columnTypeDefinitions.get(i).typeLabel);
+        }
+
+        List<Floor> floors = project.getFloors();
+        columnsByFloor = new StructuralColumn[floors.size()][];
+        indices(floors.size(), parallel).forEach(f -> {
+            Floor floor = floors.get(f);
+            StructuralColumn[] columns = new StructuralColumn[count];
+            columnsByFloor[f] = columns;
+            if (floor.getOriginalNumber() == 0) return;
+            for (int i = 0; i < count; i++) {
+                if (xAxes[i] == null || yAxes[i] == null) continue;
+                ColumnTypeDefinition baseTypeDef = columnTypeDefinitions.get(i);
+                ColumnTypeDefinition targetTypeDef = columnTypeIndex.find(floor.getOriginalNumber(), baseTypeDef.typeLabel, baseSuffixes[i]);
+                if (targetTypeDef != null) {
+                    StructuralColumn column = createColumn(rawColumns.get(i), targetTypeDef, xAxes[i], yAxes[i]);
+                    floor.addStructuralColumn(column);
+                    columns[i] = column;
+                }
+            }
+        });
+    }
+
+    private static StructuralColumn createColumn(RawColumnData rawCol, ColumnTypeDefinition targetTypeDef, Axis xAxis, Axis yAxis) {
+        StructuralColumn column = new StructuralColumn();
+        column.setSt4Sid(rawCol.sId);
+        column.setSt4Aid(rawCol.aId);
+        column.setOffsetXmm(rawCol.offsetXmm);
+        column.setOffsetYmm(rawCol.offsetYmm);
+        column.setTypeLabel(targetTypeDef.typeLabel);
+        column.setDimensionWidthCm(targetTypeDef.widthCm);
+        column.setDimensionHeightCm(targetTypeDef.heightCm);
+        column.setSection(targetTypeDef);
+
+        double colWidthMeters = targetTypeDef.widthCm / 100.0;
+        double colHeightMeters = targetTypeDef.heightCm / 100.0;
+        double offsetX_mm = rawCol.offsetXmm;
+        double offsetY_mm = rawCol.offsetYmm;
+
+        double finalPositionX;
+        if (offsetX_mm == 1.0) { finalPositionX = xAxis.getCoordinate() - (colWidthMeters / 2.0); }
+        else if (offsetX_mm == -1.0) { finalPositionX = xAxis.getCoordinate() + (colWidthMeters / 2.0); }
+        else if (offsetX_mm == 0.0) { finalPositionX = xAxis.getCoordinate(); }
+        else {
+            double offsetX_m = offsetX_mm / 1000.0;
+            if (offsetX_m > 0) { finalPositionX = xAxis.getCoordinate() + offsetX_m - (colWidthMeters / 2.0); }
+            else { finalPositionX = xAxis.getCoordinate() + offsetX_m + (colWidthMeters / 2.0); }
+        }
+
+        double finalPositionY;
+        if (offsetY_mm == 1.0) { finalPositionY = yAxis.getCoordinate() - (colHeightMeters / 2.0); }
+        else if (offsetY_mm == -1.0) { finalPositionY = yAxis.getCoordinate() + (colHeightMeters / 2.0); }
+        else if (offsetY_mm == 0.0) { finalPositionY = yAxis.getCoordinate(); }
+        else {
+            double offsetY_m = offsetY_mm / 1000.0;
+            if (offsetY_m > 0) { finalPositionY = yAxis.getCoordinate() + offsetY_m - (colHeightMeters / 2.0); }
+            else { finalPositionY = yAxis.getCoordinate() + offsetY_m + (colHeightMeters / 2.0); }
+        }
+
+        column.setPositionXMetre(finalPositionX);
+        column.setPositionYMetre(finalPositionY);
+        return column;
+    }
+
+    /** Kimlikler ham kolon sırası, aynı kolonun katları da kat sırasıyla dağıtılır. */
+    private void assembleColumns() {
+        int count = columnsByFloor.length == 0 ? 0 : columnsByFloor[0].length;
+        for (int i = 0; i < count; i++) {
+            for (StructuralColumn[] columns : columnsByFloor) {
+                StructuralColumn column = columns[i];
+                if (column == null) continue;
+                column.setId(context.nextColumnId());
+                project.addStructuralColumn(column);
+            }
+        }
+        columnsByFloor = null;
+    }
+
+    private void computeBeams(boolean parallel) {
+        List<RawBeamData> rawBeams = sections.rawBeams;
+        beamsAndPanels = new Object[rawBeams.size()];
+        unresolvedAxisFields = new int[rawBeams.size()];
+        indices(rawBeams.size(), parallel).forEach(i -> {
+            RawBeamData rawData = rawBeams.get(i);
+            Axis planeAxis = axisTable.resolve(rawData.planeAxisRef);
+            Axis startSpanAxis = axisTable.resolve(rawData.startSpanAxisRef);
+            Axis endSpanAxis = axisTable.resolve(rawData.endSpanAxisRef);
+            // Alan numaraları BEAMS_DATA satırındaki sıradır (5: düzlem, 6-7: açıklık aksları).
+            unresolvedAxisFields[i] = planeAxis == null ? 5 : startSpanAxis == null ? 6 : endSpanAxis == null ? 7 : 0;
+            beamsAndPanels[i] = rawData.isPanelFlag == 1
+                    ? createPanel(rawData, planeAxis, startSpanAxis, endSpanAxis)
+                    : createBeam(rawData, planeAxis, startSpanAxis, endSpanAxis);
+        });
+    }
+
+    private static Panel createPanel(RawBeamData rawData, Axis planeAxis, Axis startSpanAxis, Axis endSpanAxis) {
+        Panel panel = new Panel();
+        panel.setLabel(rawData.label);
+        panel.setWidthCm(rawData.widthCm);
+        panel.setHeightCm(rawData.heightCm);
+        panel.setPropertyCode(rawData.propertyCode);
+        panel.setStartZOffsetCm(rawData.startZOffsetCm);
+        panel.setEndZOffsetCm(rawData.endZOffsetCm);
+
+        if (planeAxis != null && startSpanAxis != null && endSpanAxis != null) {
+            double panelThicknessMeters = panel.getWidthCm() / 100.0;
+            if (planeAxis.getType() == AxisType.Y) {
+                double finalY = calculateFinalCoordinate(planeAxis.getCoordinate(), panelThicknessMeters, rawData.eccentricityCode);
+                panel.setStartXMetre(startSpanAxis.getCoordinate());
+                panel.setStartYMetre(finalY);
+                panel.setEndXMetre(endSpanAxis.getCoordinate());
+                panel.setEndYMetre(finalY);
+            } else if (planeAxis.getType() == AxisType.X) {
+                double finalX = calculateFinalCoordinate(planeAxis.getCoordinate(), panelThicknessMeters, rawData.eccentricityCode);
+                panel.setStartXMetre(finalX);
+                panel.setStartYMetre(startSpanAxis.getCoordinate());
+                panel.setEndXMetre(finalX);
+                panel.setEndYMetre(endSpanAxis.getCoordinate());
+            }
+        }
+        return panel;
+    }
+
+    private static Beam createBeam(RawBeamData rawData, Axis planeAxis, Axis startSpanAxis, Axis endSpanAxis) {
+        Beam beam = new Beam();
+        beam.setLabel(rawData.label);
+        beam.setWidthCm(rawData.widthCm);
+        beam.setHeightCm(rawData.heightCm);
+        beam.setPropertyCode(rawData.propertyCode);
+        beam.setStartZOffsetCm(rawData.startZOffsetCm);
+        beam.setEndZOffsetCm(rawData.endZOffsetCm);
+
+        if (planeAxis != null && startSpanAxis != null && endSpanAxis != null) {
+            double beamWidthMeters = beam.getWidthCm() / 100.0;
+            if (planeAxis.getType() == AxisType.Y) {
+                double finalY = calculateFinalCoordinate(planeAxis.getCoordinate(), beamWidthMeters, rawData.eccentricityCode);
+                beam.setStartXMetre(startSpanAxis.getCoordinate());
+                beam.setStartYMetre(finalY);
+                beam.setEndXMetre(endSpanAxis.getCoordinate());
+                beam.setEndYMetre(finalY);
+            } else if (planeAxis.getType() == AxisType.X) {
+                double finalX = calculateFinalCoordinate(planeAxis.getCoordinate(), beamWidthMeters, rawData.eccentricityCode);
+                beam.setStartXMetre(finalX);
+                beam.setStartYMetre(startSpanAxis.getCoordinate());
+                beam.setEndXMetre(finalX);
+                beam.setEndYMetre(endSpanAxis.getCoordinate());
+            }
+        }
+        return beam;
+    }
+
+    private void assembleBeams() {
+        List<RawBeamData> rawBeams = sections.rawBeams;
+        for (int i = 0; i < beamsAndPanels.length; i++) {
+            RawBeamData rawData = rawBeams.get(i);
+            Floor targetFloor = floorOf(rawData.label, rawData.line, Section.BEAMS_DATA);
+            if (unresolvedAxisFields[i] != 0) {
+                diagnostics.record(rawData.line, Section.BEAMS_DATA.name(), DiagnosticCode.UNKNOWN_AXIS,
+                        unresolvedAxisFields[i], rawData.label);
+                unplaced.add(beamsAndPanels[i]);
+            }
+            if (beamsAndPanels[i] instanceof Panel panel) {
+                panel.setId(context.nextPanelId());
+                project.addPanel(panel);
+                if (targetFloor != null) {
+                    targetFloor.addPanel(panel);
+                }
+            } else {
+                Beam beam = (Beam) beamsAndPanels[i];
+                beam.setId(context.nextBeamId());
+                project.addBeam(beam);
+                if (targetFloor != null) {
+                    targetFloor.addBeam(beam);
+                }
+            }
+        }
+        beamsAndPanels = null;
+        unresolvedAxisFields = null;
+    }
+
+    private void computeSlabs(boolean parallel) {
+        List<RawSlabData> rawSlabs = sections.rawSlabs;
+        slabs = new Slab[rawSlabs.size()];
+        indices(rawSlabs.size(), parallel).forEach(i -> {
+            RawSlabData rawSlab = rawSlabs.get(i);
+            Slab slab = new Slab();
+            slab.setLabel(rawSlab.label);
+            slab.setThicknessCm(rawSlab.thicknessCm);
+            slab.setBoundaryAxisRefs(rawSlab.boundaryAxisRefs);
+            SlabFootprints.Footprint footprint = footprints.of(rawSlab.boundaryAxisRefs);
+            if (footprint != null) {
+                slab.setBoundary(footprint.boundary);
+                slab.setAreaSquareMetre(footprint.area);
+                slab.setCentroidXMetre(footprint.centroidX);
+                slab.setCentroidYMetre(footprint.centroidY);
+            }
+            slabs[i] = slab;
+        });
+    }
+
+    private void assembleSlabs() {
+        List<RawSlabData> rawSlabs = sections.rawSlabs;
+        for (int i = 0; i < slabs.length; i++) {
+            Slab slab = slabs[i];
+            slab.setId(context.nextSlabId());
+            RawSlabData rawSlab = rawSlabs.get(i);
+            Floor targetFloor = floorOf(rawSlab.label, rawSlab.line, Section.FLOORS_DATA);
+            if (targetFloor != null) {
+                targetFloor.addSlab(slab);
+            }
+        }
+        slabs = null;
+    }
+
+    private void computeFoundationSlabs(boolean parallel) {
+        List<RawFoundationSlabData> rawFoundations = sections.rawFoundationSlabs;
+        foundationSlabs = new FoundationSlab[rawFoundations.size()];
+        indices(rawFoundations.size(), parallel).forEach(i -> {
+            RawFoundationSlabData rawFoundation = rawFoundations.get(i);
+            FoundationSlab foundationSlab = new FoundationSlab();
+            foundationSlab.setLabel(rawFoundation.label);
+            foundationSlab.setThicknessCm(rawFoundation.thicknessCm);
+
+            double topElevation = rawFoundation.bottomElevationMetre + (rawFoundation.thicknessCm / 100.0);
+            foundationSlab.setElevationMetre(topElevation);
+
+            foundationSlab.setBoundaryAxisRefs(rawFoundation.boundaryAxisRefs);
+            SlabFootprints.Footprint footprint = footprints.of(rawFoundation.boundaryAxisRefs);
+            if (footprint != null) {
+                foundationSlab.setBoundary(footprint.boundary);
+                foundationSlab.setAreaSquareMetre(footprint.area);
+                foundationSlab.setCentroidXMetre(footprint.centroidX);
+                foundationSlab.setCentroidYMetre(footprint.centroidY);
+            }
+            foundationSlabs[i] = foundationSlab;
+        });
+    }
+
+    private void assembleFoundationSlabs() {
+        for (FoundationSlab foundationSlab : foundationSlabs) {
+            foundationSlab.setId(context.nextFoundationSlabId());
+            project.addFoundationSlab(foundationSlab);
+        }
+        foundationSlabs = null;
+    }
+
+    /**
+     * Her katta kolonlar için bir ızgara indeksi kurup kiriş ve panel uçlarını taşıyıcı kolonlara
+     * bağlar. Kata atanamamış elemanların aranacağı kolon kümesi, aksları çözülemeyenlerin de geçerli
+     * koordinatı olmadığından bunlar bağlantısız kalır.
+     */
+    private void linkColumns(boolean parallel) {
+        List<Floor> floors = project.getFloors();
+        indices(floors.size(), parallel).forEach(f -> {
+            Floor floor = floors.get(f);
+            ColumnGrid grid = ColumnGrid.of(floor.getColumns(), St4FileParser.COLUMN_SNAP_TOLERANCE_METRE);
+            if (grid == null) return;
+            for (Beam beam : floor.getBeams()) {
+                if (unplaced.contains(beam)) continue;
+                double halfWidth = beam.getWidthCm() / 200.0;
+                beam.setStartColumn(grid.find(beam.getStartXMetre(), beam.getStartYMetre(), halfWidth));
+                beam.setEndColumn(grid.find(beam.getEndXMetre(), beam.getEndYMetre(), halfWidth));
+            }
+            for (Panel panel : floor.getPanels()) {
+                if (unplaced.contains(panel)) continue;
+                double halfWidth = panel.getWidthCm() / 200.0;
+                panel.setStartColumn(grid.find(panel.getStartXMetre(), panel.getStartYMetre(), halfWidth));
+                panel.setEndColumn(grid.find(panel.getEndXMetre(), panel.getEndYMetre(), halfWidth));
+            }
+        });
+    }
+
+    /**
+     * Eleman etiketinin ilk hanesi ST4 kat numarasıdır ("1K12" → 1. kat). Hane rakam değilse
+     * INVALID_FLOOR_LABEL, karşılık gelen kat yoksa UNKNOWN_FLOOR kaydedilir ve null döner.
+     */
+    private Floor floorOf(String label, int line, Section section) {
+        if (label == null || label.isEmpty()) return null;
+        char first = label.charAt(0);
+        if (first < '0' || first > '9') {
+            diagnostics.record(line, section.name(), DiagnosticCode.INVALID_FLOOR_LABEL, 0, label);
+            return null;
+        }
+        Floor floor = floorMapBySt4Num.get(first - '0');
+        if (floor == null) {
+            diagnostics.record(line, section.name(), DiagnosticCode.UNKNOWN_FLOOR, 0, label);
+        }
+        return floor;
+    }
+
+    private static double calculateFinalCoordinate(double axisCoordinate, double widthInMeters, double eccentricityCode) {
+        if (eccentricityCode == 1.0) {
+            return axisCoordinate - (widthInMeters / 2.0);
+        } else if (eccentricityCode == -1.0) {
+            return axisCoordinate + (widthInMeters / 2.0);
+        }
+        return axisCoordinate;
+    }
+
+    private static IntStream indices(int count, boolean parallel) {
+        IntStream range = IntStream.range(0, count);
+        return parallel ? range.parallel() : range;
+    }
+
+    private static long timed(Runnable step) {
+        long start = System.nanoTime();
+        step.run();
+        return System.nanoTime() - start;
+    }
+
+    /** Aşama süresini kaydeder ve bir sonraki aşamanın başlangıcını döner. */
+    private static long lap(ParseMetrics metrics, String phase, long since) {
+        long now = System.nanoTime();
+        if (metrics != null) metrics.recordPhase(phase, now - since);
+        return now;
+    }
+}
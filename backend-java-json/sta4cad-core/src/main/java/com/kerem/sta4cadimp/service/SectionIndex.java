@@ -0,0 +1,126 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.service.St4FileParser.Section;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bellek eşlemeli .st4 içeriğinde "/…/" bölüm başlıklarını bayt düzeyinde tarayarak ofset dizini çıkarır.
+ * Her aralık bir başlık satırıyla (veya dosya başıyla) başlar ve bir sonraki başlığa kadar sürer.
+ * Satırları birbirinden bağımsız olan büyük bölümler ayrıca CHUNK_LINES satırlık parçalara bölünür;
+ * bu parçalar başlıksız başlar ve okuyucu ilgili bölümle başlatılır. Akış okuyucusu
+ * ({@link ByteLineReader}) gibi dosya başındaki UTF-8 BOM atlanır.
+ */
+final class SectionIndex {
+
+    static final int CHUNK_LINES = 4096;
+
+    static final class Range {
+        private final int start;
+        private int end;
+        private final int firstLine;
+        private final Section initialSection;
+
+        Range(int start, int firstLine, Section initialSection) {
+            this.start = start;
+            this.firstLine = firstLine;
+            this.initialSection = initialSection;
+        }
+
+        int getStart() { return start; }
+        int getEnd() { return end; }
+        int getFirstLine() { return firstLine; }
+        Section getInitialSection() { return initialSection; }
+    }
+
+    private final List<Range> ranges;
+
+    private SectionIndex(List<Range> ranges) {
+        this.ranges = ranges;
+    }
+
+    List<Range> getRanges() {
+        return ranges;
+    }
+
+    static SectionIndex scan(ByteBuffer buffer) {
+        int limit = buffer.limit();
+        int pos = bomLength(buffer, limit);
+        List<Range> all = new ArrayList<>();
+        Range current = new Range(pos, 1, Section.NONE);
+        all.add(current);
+        Section section = Section.NONE;
+        int linesInRange = 0;
+        int lineNumber = 1;
+
+        while (pos < limit) {
+            int lineStart = pos;
+            int firstNonBlank = pos;
+            while (firstNonBlank < limit && isBlank(buffer.get(firstNonBlank))) firstNonBlank++;
+            int lineEnd = firstNonBlank;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n' && buffer.get(lineEnd) != '\r') lineEnd++;
+
+            if (firstNonBlank < lineEnd && buffer.get(firstNonBlank) == '/') {
+                section = St4FileParser.sectionForHeader(decodeTrimmed(buffer, firstNonBlank, lineEnd));
+                current.end = lineStart;
+                current = new Range(lineStart, lineNumber, Section.NONE);
+                all.add(current);
+                linesInRange = 0;
+            } else if (section.isLineIndependent() && linesInRange >= CHUNK_LINES) {
+                current.end = lineStart;
+                current = new Range(lineStart, lineNumber, section);
+                all.add(current);
+                linesInRange = 0;
+            }
+
+            linesInRange++;
+            lineNumber++;
+            pos = skipLineTerminator(buffer, lineEnd, limit);
+        }
+        current.end = limit;
+
+        // Tanınmayan bölümler ayrıştırıcı tarafından zaten yok sayılır; yalnızca proje başlığını
+        // (3. satır) içerebilecek olanlar korunur.
+        List<Range> useful = new ArrayList<>(all.size());
+        for (Range range : all) {
+            if (range.start == range.end) continue;
+            if (range.firstLine > 3 && range.initialSection == Section.NONE && isOtherHeader(buffer, range)) continue;
+            useful.add(range);
+        }
+        return new SectionIndex(useful);
+    }
+
+    private static int bomLength(ByteBuffer buffer, int limit) {
+        boolean bom = limit >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF;
+        return bom ? 3 : 0;
+    }
+
+    /** BufferedReader.readLine ile aynı şekilde "\n", "\r" ve "\r\n" satır sonlarını atlar. */
+    static int skipLineTerminator(ByteBuffer buffer, int lineEnd, int limit) {
+        if (lineEnd >= limit) return limit;
+        if (buffer.get(lineEnd) == '\r' && lineEnd + 1 < limit && buffer.get(lineEnd + 1) == '\n') return lineEnd + 2;
+        return lineEnd + 1;
+    }
+
+    private static boolean isOtherHeader(ByteBuffer buffer, Range range) {
+        int pos = range.start;
+        while (pos < range.end && isBlank(buffer.get(pos))) pos++;
+        int lineEnd = pos;
+        while (lineEnd < range.end && buffer.get(lineEnd) != '\n' && buffer.get(lineEnd) != '\r') lineEnd++;
+        return St4FileParser.sectionForHeader(decodeTrimmed(buffer, pos, lineEnd)) == Section.OTHER;
+    }
+
+    private static String decodeTrimmed(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8).trim();
+    }
+
+    // String.trim() ile uyumlu: ' ' ve altındaki tüm kontrol karakterleri boşluk sayılır.
+    private static boolean isBlank(byte b) {
+        return b >= 0 && b <= ' ' && b != '\n' && b != '\r';
+    }
+}
@@ -0,0 +1,123 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.entity.Axis;
+import com.kerem.sta4cadimp.entity.PlanPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Döşeme ve radye sınır aks referanslarından ("105", "203", ...) plan poligonunu, alanı ve ağırlık
+ * merkezini hesaplar. X aksları düşey, Y aksları yatay doğrular olduğundan bir X ve bir Y aksının
+ * kesişimi (x, y) noktasıdır; bu noktalar aks çifti başına bir kez oluşturulur ve aynı ızgara
+ * gözünü paylaşan döşemeler aynı {@link PlanPoint} örneğini kullanır.
+ *
+ * <p>Önbellek küçük ızgaralarda yoğun bir dizi, çok büyük ızgaralarda ise yalnızca kullanılan
+ * kesişimleri tutan bir haritadır; her döşeme referans sayısıyla orantılı sürede çözülür. Paralel
+ * çözümlemede döşemeler ve radyeler aynı örneği eşzamanlı kullanır; bir hücre için yarışan
+ * iş parçacıklarının hepsi ilk yazılan noktayı alır.</p>
+ */
+final class SlabFootprints {
+
+    /** Yoğun dizinin en fazla hücre sayısı (~8 MB referans). */
+    private static final int DENSE_LIMIT = 1 << 20;
+
+    /** Hesaplanan sınır; poligon saat yönünün tersine sıralıdır. */
+    static final class Footprint {
+        final List<PlanPoint> boundary;
+        final double area;
+        final double centroidX;
+        final double centroidY;
+
+        Footprint(List<PlanPoint> boundary, double area, double centroidX, double centroidY) {
+            this.boundary = boundary;
+            this.area = area;
+            this.centroidX = centroidX;
+            this.centroidY = centroidY;
+        }
+    }
+
+    private final AxisTable axisTable;
+    private final int yCount;
+    private final AtomicReferenceArray<PlanPoint> dense;
+    private final Map<Long, PlanPoint> sparse;
+
+    SlabFootprints(AxisTable axisTable) {
+        this.axisTable = axisTable;
+        this.yCount = axisTable.yCount();
+        long cells = (long) axisTable.xCount() * yCount;
+        this.dense = cells <= DENSE_LIMIT ? new AtomicReferenceArray<>((int) cells) : null;
+        this.sparse = dense == null ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Referanslardaki en dış iki X ve iki Y aksının sınırladığı dikdörtgeni döner. En az iki farklı
+     * koordinatta X ve Y aksı çözülemezse (eksik/geçersiz referans) null döner.
+     */
+    Footprint of(List<String> boundaryAxisRefs) {
+        if (boundaryAxisRefs == null) return null;
+        int minXi = -1, maxXi = -1, minYi = -1, maxYi = -1;
+        for (String rawRef : boundaryAxisRefs) {
+            // Radye referansları ham (kırpılmamış) alanlardır; " 105" de 105 numaralı aksa çözülür.
+            if (rawRef == null) continue;
+            String ref = rawRef.trim();
+            int index = axisTable.indexOf(ref);
+            if (index < 0) continue;
+            if (ref.charAt(0) == '1') {
+                Axis axis = axisTable.x(index);
+                if (axis == null) continue;
+                if (minXi < 0 || axis.getCoordinate() < axisTable.x(minXi).getCoordinate()) minXi = index;
+                if (maxXi < 0 || axis.getCoordinate() > axisTable.x(maxXi).getCoordinate()) maxXi = index;
+            } else {
+                Axis axis = axisTable.y(index);
+                if (axis == null) continue;
+                if (minYi < 0 || axis.getCoordinate() < axisTable.y(minYi).getCoordinate()) minYi = index;
+                if (maxYi < 0 || axis.getCoordinate() > axisTable.y(maxYi).getCoordinate()) maxYi = index;
+            }
+        }
+        if (minXi < 0 || minYi < 0 || minXi == maxXi || minYi == maxYi) return null;
+
+        List<PlanPoint> boundary = new ArrayList<>(4);
+        boundary.add(intersection(minXi, minYi));
+        boundary.add(intersection(maxXi, minYi));
+        boundary.add(intersection(maxXi, maxYi));
+        boundary.add(intersection(minXi, maxYi));
+        return polygon(boundary);
+    }
+
+    private PlanPoint intersection(int xIndex, int yIndex) {
+        if (dense != null) {
+            int cell = xIndex * yCount + yIndex;
+            PlanPoint point = dense.getAcquire(cell);
+            if (point == null) {
+                PlanPoint created = new PlanPoint(axisTable.x(xIndex).getCoordinate(), axisTable.y(yIndex).getCoordinate());
+                point = dense.compareAndExchange(cell, null, created);
+                if (point == null) point = created;
+            }
+            return point;
+        }
+        return sparse.computeIfAbsent(((long) xIndex << 32) | yIndex,
+                k -> new PlanPoint(axisTable.x(xIndex).getCoordinate(), axisTable.y(yIndex).getCoordinate()));
+    }
+
+    /** Shoelace formülüyle alan ve ağırlık merkezi; kapalı poligonun son kenarı dahil edilir. */
+    static Footprint polygon(List<PlanPoint> boundary) {
+        double twiceArea = 0;
+        double cx = 0;
+        double cy = 0;
+        int n = boundary.size();
+        for (int i = 0; i < n; i++) {
+            PlanPoint a = boundary.get(i);
+            PlanPoint b = boundary.get((i + 1) % n);
+            double cross = a.getXMetre() * b.getYMetre() - b.getXMetre() * a.getYMetre();
+            twiceArea += cross;
+            cx += (a.getXMetre() + b.getXMetre()) * cross;
+            cy += (a.getYMetre() + b.getYMetre()) * cross;
+        }
+        if (twiceArea == 0) return null;
+        return new Footprint(boundary, Math.abs(twiceArea) / 2.0, cx / (3.0 * twiceArea), cy / (3.0 * twiceArea));
+    }
+}
@@ -0,0 +1,168 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.cache.ConversionCache;
+import com.kerem.sta4cadimp.diagnostics.DiagnosticsJsonWriter;
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.export.ProjectJsonWriter;
+import com.kerem.sta4cadimp.metrics.ParseMetrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tek bir .st4 dosyasını JSON'a dönüştürür. Parser ve yazıcı durumsuz olduğu için tek bir örnek tüm
+ * dosyalar (ve batch modundaki tüm iş parçacıkları) arasında paylaşılır. Önbellek verilmişse içeriği
+ * değişmemiş girdiler için ayrıştırma ve serileştirme atlanır.
+ */
+public class St4Converter {
+
+    private static final Logger logger = LoggerFactory.getLogger(St4Converter.class);
+
+    private final St4FileParser parser;
+    private final ProjectJsonWriter writer;
+    private final boolean memoryMapped;
+    private final ConversionCache cache;
+    private DiagnosticsJsonWriter diagnosticsWriter;
+
+    public St4Converter(St4FileParser parser, ProjectJsonWriter writer, boolean memoryMapped, ConversionCache cache) {
+        this.parser = parser;
+        this.writer = writer;
+        this.memoryMapped = memoryMapped;
+        this.cache = cache;
+    }
+
+    public St4Converter(St4FileParser parser, ProjectJsonWriter writer, boolean memoryMapped) {
+        this(parser, writer, memoryMapped, null);
+    }
+
+    public St4Converter(ProjectJsonWriter writer, boolean memoryMapped, ConversionCache cache) {
+        this(new St4FileParser(), writer, memoryMapped, cache);
+    }
+
+    public St4Converter(ProjectJsonWriter writer, boolean memoryMapped) {
+        this(new St4FileParser(), writer, memoryMapped);
+    }
+
+    public St4Converter(ProjectJsonWriter writer) {
+        this(writer, false);
+    }
+
+    /**
+     * Verilirse ayrıştırma sorunları çıktının yanına {@code <çıktı>.diagnostics.json} olarak yazılır;
+     * sorunsuz dosyalarda önceki çalışmadan kalan yan dosya silinir. Önbellek isabetlerinde dosya
+     * ayrıştırılmadığından yan dosyaya dokunulmaz.
+     */
+    public void setDiagnosticsWriter(DiagnosticsJsonWriter diagnosticsWriter) {
+        this.diagnosticsWriter = diagnosticsWriter;
+    }
+
+    /** Dönüştürülen projeyi döner; çıktı önbellekten kopyalandıysa proje ayrıştırılmaz ve null döner. */
+    public Project convert(Path inputFile, Path outputFile) throws IOException {
+        return convert(inputFile, outputFile, null);
+    }
+
+    /**
+     * {@code metrics} verilirse ayrıştırma ölçümleri, serileştirme süresi ve bayt sayıları ona yazılır.
+     * Önbellek varsa dosya bir kez belleğe okunur; anahtar ve çıktı aynı baytlardan üretilir.
+     */
+    public Project convert(Path inputFile, Path outputFile, ParseMetrics metrics) throws IOException {
+        if (cache != null) {
+            return convert(St4Input.read(inputFile), outputFile, metrics);
+        }
+        Project project = parse(inputFile, metrics);
+        write(project, inputFile, outputFile, metrics);
+        if (metrics != null) metrics.setBytesIn(Files.size(inputFile));
+        return project;
+    }
+
+    /** Önceden okunmuş girdiyi dönüştürür; önbellek isabetinde null döner. */
+    public Project convert(St4Input input, Path outputFile, ParseMetrics metrics) throws IOException {
+        String cacheKey = null;
+        if (cache != null) {
+            // Metin alanları karakter kümesine göre farklı çözüldüğünden küme de anahtarın parçasıdır.
+            cacheKey = cache.keyFor(input.getContentHash(), writer.variant() + "|" + parser.getCharsetName());
+            if (cache.copyTo(cacheKey, outputFile)) {
+                if (metrics != null) {
+                    metrics.setCached(true);
+                    metrics.setBytesIn(input.size());
+                    metrics.setBytesOut(Files.size(outputFile));
+                }
+                return null;
+            }
+        }
+
+        Project project = parse(input, metrics);
+        write(project, input.getFile(), outputFile, metrics);
+        if (cache != null) {
+            try {
+                cache.store(cacheKey, outputFile);
+            } catch (IOException e) {
+                logger.warn("Çıktı önbelleğe yazılamadı: {} ({})", outputFile, e.getMessage());
+            }
+        }
+        return project;
+    }
+
+    private void write(Project project, Path inputFile, Path outputFile, ParseMetrics metrics) throws IOException {
+        long serializeStart = System.nanoTime();
+        writer.write(project, outputFile);
+        if (metrics != null) {
+            metrics.setSerializeNanos(System.nanoTime() - serializeStart);
+            metrics.setBytesOut(Files.size(outputFile));
+        }
+        if (diagnosticsWriter != null) {
+            Path sidecar = DiagnosticsJsonWriter.sidecarFor(outputFile);
+            if (project.getDiagnostics().isEmpty()) {
+                Files.deleteIfExists(sidecar);
+            } else {
+                diagnosticsWriter.write(inputFile.getFileName().toString(), project.getDiagnostics(), sidecar);
+            }
+        }
+    }
+
+    /** Yazıcının biçimine göre çıktı dosyası uzantısı (".json", ".sml"). */
+    public String getOutputExtension() {
+        return writer.getFormat().getExtension();
+    }
+
+    /** Dosyayı yalnızca ayrıştırır (önbellek ve yazıcı kullanılmaz). */
+    public Project parse(Path inputFile) throws IOException {
+        return parse(inputFile, null);
+    }
+
+    public Project parse(Path inputFile, ParseMetrics metrics) throws IOException {
+        String fileName = inputFile.getFileName().toString();
+        Project project;
+        if (memoryMapped) {
+            project = parser.parseMapped(inputFile, fileName, metrics);
+        } else {
+            try (InputStream inputStream = Files.newInputStream(inputFile)) {
+                project = parser.parse(inputStream, fileName, metrics);
+            }
+        }
+        if (project == null) {
+            throw new IOException(".st4 dosyası ayrıştırılamadı: " + inputFile);
+        }
+        return project;
+    }
+
+    /** Bellek eşlemeli modda da içerik yeniden okunmaz; bölüm aralıkları aynı tampon üzerinden paralel okunur. */
+    private Project parse(St4Input input, ParseMetrics metrics) throws IOException {
+        String fileName = input.getFile().getFileName().toString();
+        if (metrics != null) metrics.setBytesIn(input.size());
+        Project project = memoryMapped
+                ? parser.parseBuffer(ByteBuffer.wrap(input.content()), fileName, metrics)
+                : parser.parse(new ByteArrayInputStream(input.content()), fileName, metrics);
+        if (project == null) {
+            throw new IOException(".st4 dosyası ayrıştırılamadı: " + input.getFile());
+        }
+        return project;
+    }
+}
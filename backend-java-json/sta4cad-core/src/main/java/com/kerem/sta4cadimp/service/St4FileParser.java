@@ -0,0 +1,553 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.dtos.ColumnTypeDefinition;
+import com.kerem.sta4cadimp.dtos.RawColumnData;
+import com.kerem.sta4cadimp.diagnostics.DiagnosticCode;
+import com.kerem.sta4cadimp.diagnostics.Diagnostics;
+import com.kerem.sta4cadimp.entity.*;
+import com.kerem.sta4cadimp.metrics.ParseMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+
+@Service
+public class St4FileParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(St4FileParser.class);
+
+    /** Kiriş/panel ucunun kolon kesitinin dışında kalabileceği en fazla mesafe (m). */
+    static final double COLUMN_SNAP_TOLERANCE_METRE = 0.05;
+
+    private final TextDecoder textDecoder;
+    // Null ise her ayrıştırma kendi tablosunu oluşturur.
+    private final InternTable sharedInternTable;
+    private final boolean parallelResolution;
+
+    /** Metin alanlarının karakter kümesini otomatik algılar (UTF-8, değilse windows-1254). */
+    public St4FileParser() {
+        this(null);
+    }
+
+    /** {@code charset} metin alanları (kat adları, başlık, etiketler) için kullanılır; null ise otomatik. */
+    public St4FileParser(Charset charset) {
+        this(TextDecoder.of(charset), null, false);
+    }
+
+    private St4FileParser(TextDecoder textDecoder, InternTable sharedInternTable, boolean parallelResolution) {
+        this.textDecoder = textDecoder;
+        this.sharedInternTable = sharedInternTable;
+        this.parallelResolution = parallelResolution;
+    }
+
+    /**
+     * Aynı karakter kümesiyle, tüm ayrıştırmalarında {@code table}'ı kullanan bir ayrıştırıcı döner.
+     * Çok sayıda projeyi birlikte bellekte tutan toplu işler tekrar eden metinleri ve kesit tanımlarını
+     * projeler arasında paylaşmak için kullanır.
+     */
+    public St4FileParser withInternTable(InternTable table) {
+        return new St4FileParser(textDecoder, table, parallelResolution);
+    }
+
+    /**
+     * Ham bölümler okunduktan sonra kolon, kiriş/panel, döşeme ve radye aşamalarını paralel çözen
+     * (true) veya sıralı çözen (false, varsayılan) bir ayrıştırıcı döner. İki yol aynı kimlikleri,
+     * sıraları ve tanılamaları üretir; paralel yol çağıranın ForkJoinPool'unu (yoksa ortak havuzu)
+     * kullanır.
+     */
+    public St4FileParser withParallelResolution(boolean parallel) {
+        return new St4FileParser(textDecoder, sharedInternTable, parallel);
+    }
+
+    private InternTable internTable() {
+        return sharedInternTable != null ? sharedInternTable : new InternTable();
+    }
+
+    /** "auto" (veya null) için null, aksi halde adı verilen karakter kümesini döner. */
+    public static Charset charsetFromName(String name) {
+        if (name == null || name.equalsIgnoreCase("auto")) return null;
+        try {
+            return Charset.forName(name.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Desteklenmeyen karakter kümesi: " + name);
+        }
+    }
+
+    /** Metin alanlarının karakter kümesi: "auto" ya da ayarlanan kümenin adı. */
+    public String getCharsetName() {
+        return textDecoder.name();
+    }
+
+    static class RawBeamData {
+        String label; double widthCm; double heightCm; String propertyCode; String planeAxisRef;
+        String startSpanAxisRef; String endSpanAxisRef; double eccentricityCode;
+        double startZOffsetCm; double endZOffsetCm;
+        int isPanelFlag;
+        int line;
+    }
+    static class RawSlabData {
+        int line;
+        String label;
+        double thicknessCm;
+        List<String> boundaryAxisRefs = new ArrayList<>(4);
+    }
+
+    static class RawFoundationSlabData {
+        String label;
+        double thicknessCm;
+        double bottomElevationMetre;
+        List<String> boundaryAxisRefs = new ArrayList<>(4);
+    }
+
+    enum Section {
+        NONE, HEADER, STORY, AXIS_DATA, COLUMN_AXIS_DATA, COLUMNS_DATA, BEAMS_DATA,
+        FLOORS_DATA,
+        SLAB_FOUNDATIONS,
+        OTHER;
+
+        // Satırları birbirinden bağımsız olan bölümler; bellek eşlemeli modda parçalara bölünerek okunabilir.
+        boolean isLineIndependent() {
+            return this == COLUMN_AXIS_DATA || this == COLUMNS_DATA || this == BEAMS_DATA || this == FLOORS_DATA;
+        }
+    }
+
+    static Section sectionForHeader(String trimmedLine) {
+        if (trimmedLine.equalsIgnoreCase("/Story/")) return Section.STORY;
+        if (trimmedLine.equalsIgnoreCase("/Axis data/")) return Section.AXIS_DATA;
+        if (trimmedLine.equalsIgnoreCase("/Column axis data/")) return Section.COLUMN_AXIS_DATA;
+        if (trimmedLine.equalsIgnoreCase("/Columns Data/")) return Section.COLUMNS_DATA;
+        if (trimmedLine.equalsIgnoreCase("/Beams Data/")) return Section.BEAMS_DATA;
+        if (trimmedLine.equalsIgnoreCase("/Floors Data/")) return Section.FLOORS_DATA;
+        if (trimmedLine.equalsIgnoreCase("/Slab foundations/")) return Section.SLAB_FOUNDATIONS;
+        return Section.OTHER;
+    }
+
+    /**
+     * Bölüm satırlarından okunan, henüz birbirine bağlanmamış ham veriler. Bellek eşlemeli modda her
+     * aralık kendi RawSections örneğini doldurur; sonuçlar dosya sırasıyla birleştirilir.
+     */
+    static final class RawSections {
+        String projectTitle;
+        final List<Floor> floors = new ArrayList<>();
+        final List<Axis> axes = new ArrayList<>();
+        final List<ColumnTypeDefinition> columnTypeDefinitions = new ArrayList<>();
+        final List<RawColumnData> rawColumns = new ArrayList<>();
+        final List<RawBeamData> rawBeams = new ArrayList<>();
+        final List<RawSlabData> rawSlabs = new ArrayList<>();
+        final List<RawFoundationSlabData> rawFoundationSlabs = new ArrayList<>();
+
+        // Bölüm başına sayaçlar (Section.ordinal() ile indekslenir).
+        final long[] lines = new long[Section.values().length];
+        final long[] accepted = new long[Section.values().length];
+        final long[] rejected = new long[Section.values().length];
+        final long[] nanos = new long[Section.values().length];
+        final Diagnostics diagnostics = new Diagnostics();
+
+        void append(RawSections other) {
+            if (other.projectTitle != null) projectTitle = other.projectTitle;
+            floors.addAll(other.floors);
+            axes.addAll(other.axes);
+            columnTypeDefinitions.addAll(other.columnTypeDefinitions);
+            rawColumns.addAll(other.rawColumns);
+            rawBeams.addAll(other.rawBeams);
+            rawSlabs.addAll(other.rawSlabs);
+            rawFoundationSlabs.addAll(other.rawFoundationSlabs);
+            for (int i = 0; i < lines.length; i++) {
+                lines[i] += other.lines[i];
+                accepted[i] += other.accepted[i];
+                rejected[i] += other.rejected[i];
+                nanos[i] += other.nanos[i];
+            }
+            diagnostics.append(other.diagnostics);
+        }
+
+        void exportTo(ParseMetrics metrics) {
+            for (Section section : Section.values()) {
+                int i = section.ordinal();
+                if (lines[i] == 0) continue;
+                metrics.recordSection(section.name(), lines[i], accepted[i], rejected[i], nanos[i]);
+            }
+        }
+    }
+
+    /**
+     * Satır satır bölüm ayrıştırıcısı. Aks bloğu durumu (potentialYAxisBlock, xAxesCount) ve kat
+     * bilgisinin 3 satırlık tamponu bu nesnede tutulur; böylece her aralık kendi durumuyla okunur.
+     */
+    static final class SectionReader {
+        final RawSections sections = new RawSections();
+
+        private Section currentSection;
+        private final List<String> storyBuffer = new ArrayList<>();
+        private final InternTable interns;
+        // Tip etiketleri dosya içinde zaten benzersizdir ve her tanım kendi kolonlarınca paylaşılır;
+        // etiketler ve kesit tanımları yalnızca projeler arası ortak tabloda tekilleştirilir.
+        private final boolean shareSections;
+        private final FieldCursor fields;
+        private int xAxesCount = 0;
+        private int yAxesCount = 0;
+        private boolean potentialYAxisBlock = false;
+        private String lastFoundationLabel = null;
+        // Süre yalnızca bölüm değişimlerinde ölçülür; satır başına saat okunmaz.
+        private long sectionStart = System.nanoTime();
+
+        SectionReader(Section initialSection, InternTable interns, boolean shareSections) {
+            this.currentSection = initialSection;
+            this.interns = interns;
+            this.shareSections = shareSections;
+            this.fields = new FieldCursor(new SymbolCache(interns));
+        }
+
+        /** Son bölümün süresini kapatır; okuma bittiğinde bir kez çağrılır. */
+        RawSections finish() {
+            sections.nanos[currentSection.ordinal()] += System.nanoTime() - sectionStart;
+            return sections;
+        }
+
+        private void accepted() {
+            sections.accepted[currentSection.ordinal()]++;
+        }
+
+        /** Kayıttaki bir alan okunamadıysa sorunu kaydeder ve true döner; kayıt eklenmeden atlanmalıdır. */
+        private boolean rejectIfFailed(CharSequence trimmedLine, int lineCount) {
+            if (!fields.failed()) return false;
+            reject(trimmedLine, lineCount, fields.error(), fields.errorField());
+            return true;
+        }
+
+        /** {@code split("\\s+")[0]} karşılığı; satır zaten kırpılmıştır. */
+        private static String firstToken(ByteLine line) {
+            int end = 0;
+            while (end < line.length()) {
+                char c = line.charAt(end);
+                if (c == ' ' || c == '\t' || c == '\u000B' || c == '\f') break;
+                end++;
+            }
+            return line.text(0, end);
+        }
+
+        private void reject(CharSequence trimmedLine, int lineCount, DiagnosticCode code, int field) {
+            sections.rejected[currentSection.ordinal()]++;
+            sections.diagnostics.record(lineCount, currentSection.name(), code, field, trimmedLine);
+        }
+
+        /** {@code line} kırpılmış satırdır; yalnızca bu çağrı süresince geçerlidir. */
+        void accept(ByteLine line, int lineCount) {
+            if (lineCount == 3 && line.indexOf('[') >= 0) {
+                sections.projectTitle = line.toString().split("\\[")[0].trim();
+            }
+
+            if (line.startsWith("/")) {
+                long now = System.nanoTime();
+                sections.nanos[currentSection.ordinal()] += now - sectionStart;
+                sectionStart = now;
+                currentSection = sectionForHeader(line.toString());
+                sections.lines[currentSection.ordinal()]++;
+                if (currentSection == Section.AXIS_DATA) {
+                    potentialYAxisBlock = false;
+                    xAxesCount = 0;
+                    yAxesCount = 0;
+                } else if (currentSection == Section.SLAB_FOUNDATIONS) {
+                    lastFoundationLabel = null;
+                }
+                return;
+            }
+
+            sections.lines[currentSection.ordinal()]++;
+            List<Axis> parsedAxes = sections.axes;
+            try {
+                switch (currentSection) {
+                    case STORY:
+                        storyBuffer.add(line.toString());
+                        if (storyBuffer.size() == 3) {
+                            Floor floor = new Floor();
+                            floor.setName(storyBuffer.get(0));
+                            String numberLine = storyBuffer.get(1);
+                            long number = FieldCursor.parseInt(numberLine, 0, numberLine.length());
+                            fields.reset(storyBuffer.get(2));
+                            floor.setElevation(fields.nextDouble());
+                            floor.setHeight(fields.skip(1).nextDouble());
+                            storyBuffer.clear();
+                            if (number == FieldCursor.INVALID_INT) {
+                                reject(numberLine, lineCount - 1, DiagnosticCode.INVALID_NUMBER, 1);
+                            } else if (!rejectIfFailed(line, lineCount)) {
+                                floor.setOriginalNumber((int) number);
+                                sections.floors.add(floor);
+                                accepted();
+                            }
+                        }
+                        break;
+                    case AXIS_DATA:
+                        if (line.isEmpty() || line.startsWith(".")) { return; }
+                        if (fields.reset(line).fieldCount() >= 2) {
+                            Axis axis = new Axis();
+                            double coord = fields.skip(1).nextDouble();
+                            if (rejectIfFailed(line, lineCount)) return;
+                            if (!potentialYAxisBlock && coord == 0 && xAxesCount > 0 && !parsedAxes.isEmpty() && parsedAxes.get(parsedAxes.size()-1).getCoordinate() != 0) {
+                                potentialYAxisBlock = true;
+                            }
+                            if (!potentialYAxisBlock) {
+                                axis.setType(AxisType.X);
+                                axis.setLabel("X" + xAxesCount++);
+                            } else {
+                                axis.setType(AxisType.Y);
+                                axis.setLabel("Y" + yAxesCount++);
+                            }
+                            axis.setCoordinate(coord);
+                            parsedAxes.add(axis);
+                            accepted();
+                        }
+                        break;
+                    case COLUMNS_DATA:
+                        if (!line.startsWith("0,")) {
+                            if (fields.reset(line).fieldCount() >= 3) {
+                                String typeLabel = shareSections ? fields.nextSymbol() : fields.nextString();
+                                double widthCm = fields.nextDouble();
+                                double heightCm = fields.nextDouble();
+                                if (rejectIfFailed(line, lineCount)) return;
+                                sections.columnTypeDefinitions.add(shareSections
+                                        ? interns.section(typeLabel, widthCm, heightCm)
+                                        : new ColumnTypeDefinition(typeLabel, widthCm, heightCm));
+                                accepted();
+                            }
+                        }
+                        break;
+                    case COLUMN_AXIS_DATA:
+                        if (fields.reset(line).fieldCount() >= 5) {
+                            RawColumnData rawColumn = new RawColumnData(
+                                    fields.nextInt(),
+                                    fields.nextSymbol(),
+                                    fields.nextSymbol(),
+                                    fields.nextDouble(),
+                                    fields.nextDouble()
+                            );
+                            if (rejectIfFailed(line, lineCount)) return;
+                            sections.rawColumns.add(rawColumn);
+                            accepted();
+                        }
+                        break;
+                    case BEAMS_DATA:
+                        if (!line.startsWith("0,")) {
+                            if (fields.reset(line).fieldCount() >= 15) {
+                                RawBeamData rawData = new RawBeamData();
+                                rawData.label = fields.nextString();
+                                rawData.widthCm = fields.nextDouble();
+                                rawData.heightCm = fields.nextDouble();
+                                rawData.propertyCode = fields.nextSymbol();
+                                rawData.planeAxisRef = fields.nextSymbol();
+                                rawData.startSpanAxisRef = fields.nextSymbol();
+                                rawData.endSpanAxisRef = fields.nextSymbol();
+                                rawData.eccentricityCode = fields.nextDouble();
+                                rawData.startZOffsetCm = fields.nextDouble();
+                                rawData.endZOffsetCm = fields.skip(3).nextDouble();
+                                rawData.isPanelFlag = fields.skip(1).nextTrimmedInt();
+                                if (rejectIfFailed(line, lineCount)) return;
+                                rawData.line = lineCount;
+                                sections.rawBeams.add(rawData);
+                                accepted();
+                            }
+                        }
+                        break;
+                    case FLOORS_DATA:
+                        if (!line.startsWith("0,")) {
+                            if (fields.reset(line).fieldCount() >= 12) {
+                                RawSlabData rawSlab = new RawSlabData();
+                                rawSlab.label = fields.nextString();
+                                rawSlab.thicknessCm = fields.nextDouble();
+                                fields.skip(6);
+                                rawSlab.boundaryAxisRefs.add(fields.nextSymbol());
+                                rawSlab.boundaryAxisRefs.add(fields.nextSymbol());
+                                rawSlab.boundaryAxisRefs.add(fields.nextSymbol());
+                                rawSlab.boundaryAxisRefs.add(fields.nextSymbol());
+                                if (rejectIfFailed(line, lineCount)) return;
+                                rawSlab.line = lineCount;
+                                sections.rawSlabs.add(rawSlab);
+                                accepted();
+                            }
+                        }
+                        break;
+                    case SLAB_FOUNDATIONS:
+                        if (line.isEmpty()) return;
+                        if (line.startsWith("PL")) {
+                            lastFoundationLabel = firstToken(line);
+                        }
+                        else if (lastFoundationLabel != null && line.indexOf(',') >= 0) {
+                            if (fields.reset(line).fieldCount() >= 6) {
+                                RawFoundationSlabData rawFoundation = new RawFoundationSlabData();
+                                rawFoundation.label = lastFoundationLabel;
+                                rawFoundation.thicknessCm = fields.nextDouble();
+                                rawFoundation.boundaryAxisRefs.addAll(Arrays.asList(fields.nextRawSymbol(), fields.nextRawSymbol(), fields.nextRawSymbol(), fields.nextRawSymbol()));
+                                rawFoundation.bottomElevationMetre = fields.nextDouble();
+                                if (!rejectIfFailed(line, lineCount)) {
+                                    sections.rawFoundationSlabs.add(rawFoundation);
+                                    accepted();
+                                }
+                            }
+                            lastFoundationLabel = null;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            } catch (RuntimeException e) {
+                // Alan okumaları istisna fırlatmaz; buraya yalnızca öngörülmemiş hatalar düşer.
+                reject(line, lineCount, DiagnosticCode.UNEXPECTED, 0);
+                logger.debug("Satır işlenirken beklenmeyen hata (L:{})", lineCount, e);
+            }
+        }
+    }
+
+    public Project parse(InputStream st4Stream, String originalFilename) throws IOException {
+        return parse(st4Stream, originalFilename, null);
+    }
+
+    /** {@code metrics} verilirse bölüm sayaçları ve aşama süreleri ona yazılır. */
+    public Project parse(InputStream st4Stream, String originalFilename, ParseMetrics metrics) throws IOException {
+        long start = System.nanoTime();
+        RawSections sections = readSections(st4Stream);
+        if (metrics != null) {
+            metrics.setReadNanos(System.nanoTime() - start);
+            sections.exportTo(metrics);
+        }
+        return buildProject(sections, originalFilename, metrics);
+    }
+
+    RawSections readSections(InputStream st4Stream) throws IOException {
+        SectionReader sectionReader = new SectionReader(Section.NONE, internTable(), sharedInternTable != null);
+        int lineCount = 0;
+
+        try (InputStream in = st4Stream) {
+            ByteLineReader reader = new ByteLineReader(in, textDecoder);
+            ByteLine line;
+            while ((line = reader.next()) != null) {
+                lineCount++;
+                sectionReader.accept(line, lineCount);
+            }
+        }
+        return sectionReader.finish();
+    }
+
+    /**
+     * Dosyayı belleğe eşler, bölüm başlıklarının bayt taramasıyla bir ofset dizini çıkarır ve her
+     * bölüm aralığını ayrı bir çekirdekte ayrıştırır. Sonuçlar dosya sırasıyla birleştirildiği için
+     * üretilen Project, {@link #parse(InputStream, String)} ile aynıdır.
+     */
+    public Project parseMapped(Path st4File, String originalFilename) throws IOException {
+        return parseMapped(st4File, originalFilename, null);
+    }
+
+    /**
+     * {@code metrics} verilirse bölüm sayaçları ve aşama süreleri ona yazılır. Aralıklar paralel
+     * okunduğundan bölüm süreleri iş parçacıklarının toplamıdır; okuma süresi ise duvar saatidir.
+     */
+    public Project parseMapped(Path st4File, String originalFilename, ParseMetrics metrics) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(st4File, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                logger.warn("Dosya bellek eşleme için çok büyük ({} bayt), akış modunda okunuyor.", size);
+                try (InputStream in = Files.newInputStream(st4File)) {
+                    return parse(in, originalFilename, metrics);
+                }
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return parseBuffer(buffer, originalFilename, metrics, start);
+        }
+    }
+
+    /** Bellekteki içeriği {@link #parseMapped} ile aynı şekilde, bölüm aralıklarını paralel okuyarak ayrıştırır. */
+    Project parseBuffer(ByteBuffer buffer, String originalFilename, ParseMetrics metrics) {
+        return parseBuffer(buffer, originalFilename, metrics, System.nanoTime());
+    }
+
+    private Project parseBuffer(ByteBuffer buffer, String originalFilename, ParseMetrics metrics, long start) {
+        SectionIndex index = SectionIndex.scan(buffer);
+
+        InternTable interns = internTable();
+        List<RawSections> parts = index.getRanges().parallelStream()
+                .map(range -> readRange(buffer, range, interns))
+                .toList();
+        RawSections merged = new RawSections();
+        for (RawSections part : parts) merged.append(part);
+        if (metrics != null) {
+            metrics.setReadNanos(System.nanoTime() - start);
+            merged.exportTo(metrics);
+        }
+        return buildProject(merged, originalFilename, metrics);
+    }
+
+    private RawSections readRange(ByteBuffer buffer, SectionIndex.Range range, InternTable interns) {
+        SectionReader sectionReader = new SectionReader(range.getInitialSection(), interns, sharedInternTable != null);
+        ByteLine line = new ByteLine(textDecoder);
+        byte[] lineBytes = new byte[256];
+        int lineNumber = range.getFirstLine();
+        int pos = range.getStart();
+        int end = range.getEnd();
+        while (pos < end) {
+            int lineEnd = pos;
+            while (lineEnd < end && buffer.get(lineEnd) != '\n' && buffer.get(lineEnd) != '\r') lineEnd++;
+            int length = lineEnd - pos;
+            if (length > lineBytes.length) lineBytes = new byte[Math.max(length, lineBytes.length * 2)];
+            buffer.get(pos, lineBytes, 0, length);
+            sectionReader.accept(line.set(lineBytes, 0, length), lineNumber++);
+            pos = SectionIndex.skipLineTerminator(buffer, lineEnd, end);
+        }
+        return sectionReader.finish();
+    }
+
+    Project buildProject(RawSections sections, String originalFilename) {
+        return buildProject(sections, originalFilename, null);
+    }
+
+    Project buildProject(RawSections sections, String originalFilename, ParseMetrics metrics) {
+        ParseContext context = new ParseContext();
+        Project project = new Project();
+        project.setId(1L);
+        project.setFileName(originalFilename);
+        project.setProjectTitle(sections.projectTitle != null ? sections.projectTitle : "");
+
+        List<Floor> parsedFloors = sections.floors;
+        Map<Integer, Floor> floorMapBySt4Num = new HashMap<>();
+        for (Floor floor : parsedFloors) {
+            floor.setId(context.nextFloorId());
+            floorMapBySt4Num.put(floor.getOriginalNumber(), floor);
+        }
+        List<Axis> parsedAxes = sections.axes;
+        for (Axis axis : parsedAxes) {
+            axis.setId(context.nextAxisId());
+        }
+        AxisTable axisTable = AxisTable.of(parsedAxes);
+        ColumnTypeIndex columnTypeIndex = new ColumnTypeIndex(sections.columnTypeDefinitions);
+
+        project.getFloors().addAll(parsedFloors);
+        for(Floor f : parsedFloors) f.setProject(project);
+
+        project.getAxes().addAll(parsedAxes);
+        for(Axis a : parsedAxes) a.setProject(project);
+
+        ProjectResolver resolver = new ProjectResolver(sections, project, floorMapBySt4Num, axisTable, columnTypeIndex, context);
+        if (parallelResolution) {
+            resolver.resolveParallel(metrics);
+        } else {
+            resolver.resolveSequential(metrics);
+        }
+
+        project.setDiagnostics(sections.diagnostics);
+        if (!sections.diagnostics.isEmpty()) {
+            logger.warn("'{}' ayrıştırılırken {} sorun bulundu: {}", originalFilename,
+                    sections.diagnostics.totalCount(), sections.diagnostics.summary());
+        }
+        return project;
+    }
+}
@@ -0,0 +1,46 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.cache.ContentHash;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Diskten tek seferde okunmuş bir .st4 girdisi. İçerik özeti ve ayrıştırma aynı baytlar üzerinden
+ * yapılır; dosya bu arada (örn. editör kaydı sürerken) değişse bile önbellek anahtarı ile üretilen
+ * çıktı aynı içeriğe aittir.
+ */
+public final class St4Input {
+
+    private final Path file;
+    private final byte[] content;
+    private String contentHash;
+
+    private St4Input(Path file, byte[] content) {
+        this.file = file;
+        this.content = content;
+    }
+
+    public static St4Input read(Path file) throws IOException {
+        return new St4Input(file, Files.readAllBytes(file));
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int size() {
+        return content.length;
+    }
+
+    byte[] content() {
+        return content;
+    }
+
+    /** {@link ContentHash} özeti; ilk çağrıda hesaplanır. */
+    public String getContentHash() {
+        if (contentHash == null) contentHash = ContentHash.of(content);
+        return contentHash;
+    }
+}
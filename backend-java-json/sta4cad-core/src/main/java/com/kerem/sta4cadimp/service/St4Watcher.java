@@ -0,0 +1,251 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.metrics.ParseMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Bir dizini (alt dizinleriyle birlikte) {@link WatchService} ile izler ve kaydedilen .st4 dosyalarını
+ * aynı, ısınmış JVM içinde yeniden dönüştürür. STA4CAD bir kaydı birden çok yazma ile tamamladığından
+ * her dosya için olaylar {@code debounceMillis} boyunca sessizlik olana kadar ertelenir; içerik özeti
+ * son dönüşümle aynıysa dosya yeniden dönüştürülmez. Dosya her olayda bir kez okunur ({@link St4Input});
+ * karşılaştırılan özet, önbellek anahtarı ve dönüştürülen içerik aynı baytlardan gelir. Çıktı
+ * {@link St4Converter} tarafından atomik olarak değiştirilir.
+ *
+ * <p>Farklı dosyalar {@code threads} boyutlu havuzda eşzamanlı dönüştürülür; aynı dosya için hiçbir
+ * zaman iki dönüşüm aynı anda çalışmaz, dönüşüm sürerken gelen değişiklik bittiğinde yeniden işlenir.</p>
+ */
+public class St4Watcher implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(St4Watcher.class);
+
+    /** Çıktı dosyası okuyucu tarafından kilitliyken (Windows) yapılacak en fazla yeniden deneme. */
+    private static final int MAX_RETRIES = 3;
+
+    private final St4Converter converter;
+    private final Path inputDir;
+    private final Path outputDir;
+    private final long debounceMillis;
+    private final PrintStream out;
+    private final WatchService watchService;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService pool;
+    private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+    private final Map<Path, FileState> files = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /** Dosya başına erteleme ve dönüşüm durumu; alanlar nesnenin kilidiyle korunur. */
+    private static final class FileState {
+        ScheduledFuture<?> pending;
+        boolean converting;
+        boolean dirty;
+        int retries;
+        String lastContentHash;
+    }
+
+    /** {@code outputDir} null ise çıktılar girdilerin yanına yazılır. */
+    public St4Watcher(St4Converter converter, Path inputDir, Path outputDir, long debounceMillis, int threads,
+                      PrintStream out) throws IOException {
+        this.converter = converter;
+        this.inputDir = inputDir.toAbsolutePath().normalize();
+        this.outputDir = outputDir != null ? outputDir.toAbsolutePath().normalize() : this.inputDir;
+        this.debounceMillis = Math.max(0, debounceMillis);
+        this.out = out;
+        this.watchService = this.inputDir.getFileSystem().newWatchService();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon("st4-watch-debounce"));
+        this.pool = Executors.newFixedThreadPool(Math.max(1, threads), daemon("st4-watch-convert"));
+    }
+
+    /**
+     * Dizinleri kaydeder, çıktısı eksik veya girdiden eski olan dosyaları dönüştürür ve {@link #close()}
+     * çağrılana kadar olayları işler.
+     */
+    public void run() throws IOException, InterruptedException {
+        if (!Files.isDirectory(inputDir)) {
+            throw new NoSuchFileException(inputDir.toString());
+        }
+        Files.createDirectories(outputDir);
+        registerTree(inputDir, true);
+        out.printf("İzleniyor: %s -> %s (bekleme %d ms)%n", inputDir, outputDir, debounceMillis);
+
+        while (!closed) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (ClosedWatchServiceException e) {
+                break;
+            }
+            Path dir = watchedDirs.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    // Olaylar kaçırıldı; içerik özeti değişmeyen dosyaları zaten atlayacağından tüm ağaç yeniden taranır.
+                    registerTree(inputDir, false);
+                    continue;
+                }
+                if (dir == null) continue;
+                Path path = dir.resolve((Path) event.context());
+                if (event.kind() == ENTRY_DELETE) {
+                    forget(path);
+                } else if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    if (event.kind() == ENTRY_CREATE) registerTree(path, false);
+                } else if (isSt4(path)) {
+                    schedule(path);
+                }
+            }
+            if (!key.reset()) {
+                watchedDirs.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        scheduler.shutdownNow();
+        pool.shutdown();
+        try {
+            // Süren dönüşümlerin çıktıyı yerine taşıması beklenir.
+            pool.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        watchService.close();
+    }
+
+    /**
+     * Ağacın tüm dizinlerini kaydeder ve içindeki .st4 dosyalarını sıraya alır. {@code onlyStale} ise
+     * (ilk açılış) yalnızca çıktısı eksik veya girdiden eski olanlar dönüştürülür.
+     */
+    private void registerTree(Path root, boolean onlyStale) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!watchedDirs.containsValue(dir)) {
+                    watchedDirs.put(dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (isSt4(file) && (!onlyStale || isStale(file, attrs))) schedule(file);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private boolean isStale(Path input, BasicFileAttributes attrs) throws IOException {
+        Path output = outputFor(input);
+        return !Files.exists(output) || Files.getLastModifiedTime(output).compareTo(attrs.lastModifiedTime()) < 0;
+    }
+
+    /** Dosyanın bekleyen dönüşümünü erteler (debounce); son olaydan {@code debounceMillis} sonra çalışır. */
+    private void schedule(Path input) {
+        if (closed) return;
+        FileState state = files.computeIfAbsent(input, p -> new FileState());
+        synchronized (state) {
+            if (state.pending != null) state.pending.cancel(false);
+            try {
+                state.pending = scheduler.schedule(() -> submit(input, state), debounceMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // Kapanış sırasında gelen olaylar yok sayılır.
+            }
+        }
+    }
+
+    private void submit(Path input, FileState state) {
+        synchronized (state) {
+            state.pending = null;
+            if (state.converting) {
+                state.dirty = true;
+                return;
+            }
+            state.converting = true;
+        }
+        try {
+            pool.execute(() -> convert(input, state));
+        } catch (RejectedExecutionException e) {
+            synchronized (state) {
+                state.converting = false;
+            }
+        }
+    }
+
+    private void convert(Path input, FileState state) {
+        Path output = outputFor(input);
+        long start = System.nanoTime();
+        boolean retry = false;
+        try {
+            St4Input content = St4Input.read(input);
+            String contentHash = content.getContentHash();
+            if (contentHash.equals(state.lastContentHash) && Files.exists(output)) {
+                logger.debug("İçerik değişmedi, atlanıyor: {}", input);
+                return;
+            }
+            Files.createDirectories(output.getParent());
+            ParseMetrics metrics = new ParseMetrics();
+            converter.convert(content, output, metrics);
+            state.lastContentHash = contentHash;
+            state.retries = 0;
+            out.printf("%-6s %9.1f ms  %s%n", metrics.isCached() ? "ÖNBLK" : "TAMAM", (System.nanoTime() - start) / 1e6,
+                    inputDir.relativize(input));
+        } catch (NoSuchFileException e) {
+            // Dosya bekleme süresi içinde silindi veya yeniden adlandırıldı.
+            logger.debug("Dosya artık yok: {}", input);
+        } catch (FileSystemException e) {
+            // Çıktı okuyucu tarafından açıkken Windows'ta yerine taşınamaz; kısa süre sonra yeniden denenir.
+            retry = state.retries++ < MAX_RETRIES;
+            out.printf("HATA   %9.1f ms  %s -> %s%s%n", (System.nanoTime() - start) / 1e6, inputDir.relativize(input),
+                    e.getMessage(), retry ? " (yeniden denenecek)" : "");
+        } catch (Exception e) {
+            // Yarım kaydedilmiş dosyalar da buraya düşer; bir sonraki kayıt olayı dönüşümü yeniler.
+            logger.error("Dosya dönüştürülemedi: {}", input, e);
+            out.printf("HATA   %9.1f ms  %s -> %s%n", (System.nanoTime() - start) / 1e6, inputDir.relativize(input),
+                    e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            boolean again;
+            synchronized (state) {
+                state.converting = false;
+                again = state.dirty || retry;
+                state.dirty = false;
+            }
+            if (again) schedule(input);
+        }
+    }
+
+    private void forget(Path path) {
+        FileState state = files.remove(path);
+        if (state != null) {
+            synchronized (state) {
+                if (state.pending != null) state.pending.cancel(false);
+            }
+        }
+    }
+
+    private Path outputFor(Path input) {
+        return BatchConverter.outputPathFor(inputDir, input, outputDir, converter.getOutputExtension());
+    }
+
+    private static boolean isSt4(Path path) {
+        return path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".st4");
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
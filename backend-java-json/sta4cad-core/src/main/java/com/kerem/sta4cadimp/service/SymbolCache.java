@@ -0,0 +1,66 @@
+package com.kerem.sta4cadimp.service;
+
+import java.util.Arrays;
+
+/**
+ * {@link InternTable}'ın önünde, tek bir okuyucuya ait bayt anahtarlı önbellek. Alan baytları daha önce
+ * görüldüyse kayıtlı String hiç kod çözülmeden ve nesne oluşturulmadan döner; yalnızca ilk görülen
+ * değerler çözülüp ortak tabloya sorulur. Eşzamanlı kullanıma uygun değildir: bellek eşlemeli modda
+ * her aralık okuyucusu kendi önbelleğini kullanır.
+ */
+final class SymbolCache {
+
+    // Beklenmedik ölçüde çeşitli girdilerde önbellek bu sınırdan sonra büyümez; değerler yine tablodan gelir.
+    private static final int MAX_ENTRIES = 1 << 14;
+
+    private final InternTable table;
+    private byte[][] keys = new byte[256][];
+    private String[] values = new String[256];
+    private int size;
+
+    SymbolCache(InternTable table) {
+        this.table = table;
+    }
+
+    InternTable table() {
+        return table;
+    }
+
+    String get(byte[] bytes, int from, int to, TextDecoder decoder) {
+        int mask = keys.length - 1;
+        int slot = hash(bytes, from, to) & mask;
+        for (byte[] key = keys[slot]; key != null; key = keys[slot]) {
+            if (Arrays.equals(key, 0, key.length, bytes, from, to)) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        String value = table.intern(decoder.decode(bytes, from, to));
+        if (size < MAX_ENTRIES) {
+            keys[slot] = Arrays.copyOfRange(bytes, from, to);
+            values[slot] = value;
+            if (++size * 2 > keys.length) grow();
+        }
+        return value;
+    }
+
+    private void grow() {
+        byte[][] oldKeys = keys;
+        String[] oldValues = values;
+        keys = new byte[oldKeys.length * 2][];
+        values = new String[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            byte[] key = oldKeys[i];
+            if (key == null) continue;
+            int slot = hash(key, 0, key.length) & mask;
+            while (keys[slot] != null) slot = (slot + 1) & mask;
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) h = 31 * h + bytes[i];
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,89 @@
+package com.kerem.sta4cadimp.service;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * .st4 satırlarındaki metin alanlarını (kat adları, proje başlığı, etiketler) bayttan String'e
+ * çevirir. Satırların geri kalanı baytlar üzerinde ayrıştırıldığı için dosyanın tamamı hiçbir zaman
+ * kod çözmeden geçmez.
+ *
+ * <p>Yalnızca ASCII içeren alanlar (neredeyse tamamı) karakter kümesinden bağımsız olarak doğrudan
+ * kopyalanır. Otomatik modda ASCII dışı bir alan geçerli UTF-8 ise UTF-8, değilse Türkçe
+ * kurulumların varsayılanı olan windows-1254 ile çözülür; windows-1254'teki Türkçe harfler (ı, ş, ğ,
+ * ...) geçerli bir UTF-8 dizisi oluşturmadığından bu ayrım alan başına güvenle yapılabilir.</p>
+ */
+final class TextDecoder {
+
+    static final Charset WINDOWS_1254 = Charset.forName("windows-1254");
+
+    private static final TextDecoder AUTO = new TextDecoder(null);
+
+    private final Charset charset;
+
+    private TextDecoder(Charset charset) {
+        this.charset = charset;
+    }
+
+    /** {@code charset} null ise otomatik algılama kullanılır. */
+    static TextDecoder of(Charset charset) {
+        return charset == null ? AUTO : new TextDecoder(charset);
+    }
+
+    /** Önbellek anahtarları ve loglar için: "auto" ya da karakter kümesinin adı. */
+    String name() {
+        return charset == null ? "auto" : charset.name();
+    }
+
+    String decode(byte[] bytes, int from, int to) {
+        if (isAscii(bytes, from, to)) {
+            return new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+        }
+        Charset target = charset != null ? charset
+                : isValidUtf8(bytes, from, to) ? StandardCharsets.UTF_8 : WINDOWS_1254;
+        return new String(bytes, from, to - from, target);
+    }
+
+    private static boolean isAscii(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] < 0) return false;
+        }
+        return true;
+    }
+
+    /** Aşırı uzun kodlamaları ve vekil (surrogate) aralığını da reddeden katı UTF-8 doğrulaması. */
+    static boolean isValidUtf8(byte[] bytes, int from, int to) {
+        int i = from;
+        while (i < to) {
+            int b = bytes[i] & 0xFF;
+            if (b < 0x80) {
+                i++;
+                continue;
+            }
+            int extra;
+            int min;
+            if (b >= 0xC2 && b <= 0xDF) {
+                extra = 1;
+                min = 0x80;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                extra = 2;
+                min = 0x800;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                extra = 3;
+                min = 0x10000;
+            } else {
+                return false;
+            }
+            if (i + extra >= to) return false;
+            int code = b & (0x3F >> extra);
+            for (int k = 1; k <= extra; k++) {
+                int c = bytes[i + k] & 0xFF;
+                if ((c & 0xC0) != 0x80) return false;
+                code = (code << 6) | (c & 0x3F);
+            }
+            if (code < min || code > 0x10FFFF || (code >= 0xD800 && code <= 0xDFFF)) return false;
+            i += extra + 1;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,166 @@
+package com.kerem.sta4cadimp.cache;
+
+import com.kerem.sta4cadimp.export.ProjectJsonWriter;
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+import com.kerem.sta4cadimp.service.St4Converter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diskteki dönüşüm önbelleği: sürüm değişikliğinde ıskalama, boyut sınırında en eski kayıtların
+ * tahliyesi, kilit tutulurken tahliyenin atlanması ve aynı anahtara eşzamanlı yazan dönüştürücüler.
+ */
+class ConversionCacheTest {
+
+    private static final String HASH = ContentHash.of(new byte[]{1, 2, 3});
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void converterVersionChangeMisses() throws IOException {
+        Path cacheDir = dir.resolve("cache");
+        ConversionCache v1 = new ConversionCache(cacheDir, 1 << 20, "1.0");
+        v1.store(v1.keyFor(HASH, "json"), file("out.json", 100));
+
+        ConversionCache sameVersion = new ConversionCache(cacheDir, 1 << 20, "1.0");
+        ConversionCache v2 = new ConversionCache(cacheDir, 1 << 20, "1.1");
+
+        assertTrue(sameVersion.copyTo(sameVersion.keyFor(HASH, "json"), dir.resolve("hit.json")));
+        assertArrayEquals(Files.readAllBytes(dir.resolve("out.json")), Files.readAllBytes(dir.resolve("hit.json")));
+        assertNotEquals(v1.keyFor(HASH, "json"), v2.keyFor(HASH, "json"));
+        assertFalse(v2.copyTo(v2.keyFor(HASH, "json"), dir.resolve("miss.json")));
+        assertFalse(Files.exists(dir.resolve("miss.json")));
+        assertFalse(sameVersion.copyTo(sameVersion.keyFor(HASH, "smile"), dir.resolve("miss.sml")));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesOverLimit() throws IOException {
+        Path cacheDir = dir.resolve("cache");
+        ConversionCache cache = new ConversionCache(cacheDir, 3_000, "1.0");
+        Path output = file("out.json", 1_000);
+        for (int i = 0; i < 3; i++) {
+            cache.store("k" + i, output);
+            age(cacheDir.resolve("k" + i + ".out"), 3 - i);
+        }
+        // En eski kayıt okununca en yeni olur; sınırı aşan dördüncü yazım k1 ve k2'yi siler.
+        assertTrue(cache.copyTo("k0", dir.resolve("read.json")));
+
+        cache.store("k3", output);
+
+        assertEquals(List.of("k0.out", "k3.out"), entries(cacheDir));
+    }
+
+    @Test
+    void skipsEvictionWhileAnotherProcessHoldsTheLock() throws IOException {
+        Path cacheDir = dir.resolve("cache");
+        ConversionCache cache = new ConversionCache(cacheDir, 2_500, "1.0");
+        Path output = file("out.json", 1_000);
+        cache.store("k0", output);
+        age(cacheDir.resolve("k0.out"), 2);
+        cache.store("k1", output);
+        age(cacheDir.resolve("k1.out"), 1);
+
+        try (FileChannel channel = FileChannel.open(cacheDir.resolve(".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = channel.lock()) {
+            cache.store("k2", output);
+            assertEquals(List.of("k0.out", "k1.out", "k2.out"), entries(cacheDir));
+        }
+
+        cache.store("k3", output);
+        assertEquals(List.of("k2.out", "k3.out"), entries(cacheDir));
+    }
+
+    @Test
+    void concurrentConvertersLeaveOneCompleteEntry() throws Exception {
+        Path cacheDir = dir.resolve("cache");
+        Path input = dir.resolve("model.st4");
+        Files.write(input, new St4ModelGenerator(GeneratorConfig.preset("medium")).toBytes());
+        Path expected = dir.resolve("expected.json");
+        new St4Converter(new ProjectJsonWriter(false)).convert(input, expected);
+
+        // Ayrı önbellek örnekleri ayrı süreçleri temsil eder; hepsi aynı anahtara yazar.
+        int writers = 4;
+        List<St4Converter> converters = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            converters.add(new St4Converter(new ProjectJsonWriter(false), false, new ConversionCache(cacheDir, 1L << 30)));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                St4Converter converter = converters.get(i);
+                Path output = dir.resolve("out-" + i + ".json");
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    converter.convert(input, output);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            pool.shutdown();
+        }
+
+        List<String> files = entries(cacheDir);
+        assertEquals(1, files.size(), files.toString());
+        assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(cacheDir.resolve(files.get(0))));
+        try (Stream<Path> all = Files.list(cacheDir)) {
+            assertTrue(all.noneMatch(p -> p.getFileName().toString().startsWith(".tmp-")), "geçici dosya kaldı");
+        }
+        for (int i = 0; i < writers; i++) {
+            assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(dir.resolve("out-" + i + ".json")));
+        }
+
+        // Sonraki çalıştırma ayrıştırmadan önbellekten kopyalar.
+        Path cached = dir.resolve("cached.json");
+        assertNull(converters.get(0).convert(input, cached));
+        assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(cached));
+        assertNotNull(new St4Converter(new ProjectJsonWriter(true), false, new ConversionCache(cacheDir, 1L << 30))
+                .convert(input, dir.resolve("pretty.json")));
+    }
+
+    private Path file(String name, int size) throws IOException {
+        byte[] content = new byte[size];
+        Arrays.fill(content, (byte) 'x');
+        return Files.write(dir.resolve(name), content);
+    }
+
+    private static void age(Path entry, int hoursAgo) throws IOException {
+        Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis() - hoursAgo * 3_600_000L));
+    }
+
+    private static List<String> entries(Path cacheDir) throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.map(p -> p.getFileName().toString()).filter(n -> n.endsWith(".out")).sorted().collect(Collectors.toList());
+        }
+    }
+}
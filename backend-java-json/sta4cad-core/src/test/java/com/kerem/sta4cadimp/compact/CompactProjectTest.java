@@ -0,0 +1,52 @@
+package com.kerem.sta4cadimp.compact;
+
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.export.ProjectJsonWriter;
+import com.kerem.sta4cadimp.export.ProjectReader;
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+import com.kerem.sta4cadimp.service.St4FileParser;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Kompakt kopyadan geri üretilen proje, özgün modelle bayt bayt aynı JSON'u yazmalıdır.
+ */
+class CompactProjectTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"small", "medium", "large"})
+    void toProjectWritesIdenticalJson(String preset) throws IOException {
+        Project project = parse(preset);
+
+        assertArrayEquals(write(project, false), write(CompactProject.of(project).toProject(), false));
+        assertArrayEquals(write(project, true), write(CompactProject.of(project).toProject(), true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"small", "medium"})
+    void projectWithIdsWritesIdenticalJson(String preset) throws IOException {
+        // ProjectReader kimlikleri ve kolon bağlantılarını JSON'dan geri yükler.
+        byte[] json = write(parse(preset), false);
+        Project read = new ProjectReader().read(new ByteArrayInputStream(json));
+
+        assertArrayEquals(json, write(CompactProject.of(read).toProject(), false));
+    }
+
+    private static Project parse(String preset) throws IOException {
+        byte[] st4 = new St4ModelGenerator(GeneratorConfig.preset(preset)).toBytes();
+        return new St4FileParser().parse(new ByteArrayInputStream(st4), preset + ".st4");
+    }
+
+    private static byte[] write(Project project, boolean pretty) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ProjectJsonWriter(pretty).write(project, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,94 @@
+package com.kerem.sta4cadimp.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sorun türü başına (100) ve toplam (1000) saklama sınırları: sınırı aşan kayıtlar saklanmaz ama
+ * sayaçlara her zaman eklenir.
+ */
+class DiagnosticsTest {
+
+    @Test
+    void keepsAtMostOneHundredPerCode() {
+        Diagnostics diagnostics = new Diagnostics();
+        record(diagnostics, DiagnosticCode.INVALID_NUMBER, 150);
+        record(diagnostics, DiagnosticCode.MISSING_FIELD, 3);
+
+        assertEquals(Diagnostics.DEFAULT_MAX_PER_CODE + 3, diagnostics.getEntries().size());
+        assertEquals(Map.of(DiagnosticCode.INVALID_NUMBER, 150L, DiagnosticCode.MISSING_FIELD, 3L), diagnostics.getCounts());
+        assertEquals(153, diagnostics.totalCount());
+        assertEquals(50, diagnostics.suppressedCount());
+        // Saklananlar ilk 100 kayıttır; sınırdan sonra gelen başka türden kayıtlar yine saklanır.
+        assertEquals(100, diagnostics.getEntries().get(99).getLine());
+        assertEquals(DiagnosticCode.MISSING_FIELD, diagnostics.getEntries().get(100).getCode());
+        assertEquals("MISSING_FIELD=3, INVALID_NUMBER=150", diagnostics.summary());
+    }
+
+    @Test
+    void keepsAtMostOneThousandInTotal() {
+        // Her türden 100 kayıtla altı tür varsayılan toplam sınırına ulaşamaz; tür sınırı yükseltilerek
+        // yalnızca toplam sınır denenir.
+        Diagnostics diagnostics = new Diagnostics(Integer.MAX_VALUE, Diagnostics.DEFAULT_MAX_TOTAL);
+        record(diagnostics, DiagnosticCode.INVALID_NUMBER, 700);
+        record(diagnostics, DiagnosticCode.UNKNOWN_AXIS, 700);
+
+        assertEquals(Diagnostics.DEFAULT_MAX_TOTAL, diagnostics.getEntries().size());
+        assertEquals(DiagnosticCode.UNKNOWN_AXIS, diagnostics.getEntries().get(999).getCode());
+        assertEquals(1400, diagnostics.totalCount());
+        assertEquals(400, diagnostics.suppressedCount());
+        assertEquals(700L, diagnostics.getCounts().get(DiagnosticCode.UNKNOWN_AXIS));
+    }
+
+    @Test
+    void everyCodeAtItsLimitStaysUnderTheTotal() {
+        Diagnostics diagnostics = new Diagnostics();
+        for (DiagnosticCode code : DiagnosticCode.values()) record(diagnostics, code, 250);
+
+        int codes = DiagnosticCode.values().length;
+        assertEquals(codes * Diagnostics.DEFAULT_MAX_PER_CODE, diagnostics.getEntries().size());
+        assertEquals(codes * 250L, diagnostics.totalCount());
+        assertEquals(codes, diagnostics.getCounts().size());
+    }
+
+    @Test
+    void appendKeepsLimitsAndAddsCounts() {
+        Diagnostics first = new Diagnostics();
+        record(first, DiagnosticCode.INVALID_NUMBER, 80);
+        Diagnostics second = new Diagnostics();
+        record(second, DiagnosticCode.INVALID_NUMBER, 60);
+        record(second, DiagnosticCode.UNKNOWN_FLOOR, 2);
+
+        first.append(second);
+
+        assertEquals(102, first.getEntries().size());
+        assertEquals(140L, first.getCounts().get(DiagnosticCode.INVALID_NUMBER));
+        assertEquals(2L, first.getCounts().get(DiagnosticCode.UNKNOWN_FLOOR));
+        assertEquals(142, first.totalCount());
+        assertEquals(40, first.suppressedCount());
+    }
+
+    @Test
+    void longTextIsTruncatedAndEmptyCollectionReportsNothing() {
+        Diagnostics diagnostics = new Diagnostics();
+        assertTrue(diagnostics.isEmpty());
+        assertEquals(0, diagnostics.totalCount());
+
+        diagnostics.record(7, "Beams", DiagnosticCode.MISSING_FIELD, 3, "x".repeat(500));
+        diagnostics.record(8, "Beams", DiagnosticCode.MISSING_FIELD, 3, null);
+
+        assertFalse(diagnostics.isEmpty());
+        assertEquals("x".repeat(160) + "...", diagnostics.getEntries().get(0).getText());
+        assertNull(diagnostics.getEntries().get(1).getText());
+    }
+
+    private static void record(Diagnostics diagnostics, DiagnosticCode code, int count) {
+        for (int i = 1; i <= count; i++) diagnostics.record(i, "Test", code, 1, "satır " + i);
+    }
+}
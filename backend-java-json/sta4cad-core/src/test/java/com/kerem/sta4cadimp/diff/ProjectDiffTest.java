@@ -0,0 +1,133 @@
+package com.kerem.sta4cadimp.diff;
+
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.service.St4FileParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * İki küçük revizyon arasındaki fark: eklenen, silinen ve değişen kirişler, yalnızca konumu değişen
+ * ("moved") elemanlar, aynı etiketli kirişlerin "#2" ekiyle eşleşmesi ve ondalık tolerans.
+ */
+class ProjectDiffTest {
+
+    // r2: üçüncü X aksı (X2) 10 -> 10,5; kat yüksekliği 1e-7 m farklı; 10003 genişliği ve ikinci 10006'nın
+    // yüksekliği değişti; 10004 silindi, 10005 eklendi.
+    private static final Project R1 = parse("r1.st4", "3", "10",
+            "10001,30,60,2,201,101,102,0,0,0,0,0,0,0,0",
+            "10002,30,60,2,201,102,103,0,0,0,0,0,0,0,0",
+            "10003,30,60,2,201,101,102,0,0,0,0,0,0,0,0",
+            "10004,30,60,2,201,103,104,0,0,0,0,0,0,0,0",
+            "10006,30,60,2,202,101,102,0,0,0,0,0,0,0,0",
+            "10006,30,60,2,202,101,102,0,0,0,0,0,0,0,0");
+    private static final Project R2 = parse("r2.st4", "3.0000001", "10.5",
+            "10001,30,60,2,201,101,102,0,0,0,0,0,0,0,0",
+            "10002,30,60,2,201,102,103,0,0,0,0,0,0,0,0",
+            "10003,35,60,2,201,101,102,0,0,0,0,0,0,0,0",
+            "10005,30,60,2,201,103,104,0,0,0,0,0,0,0,0",
+            "10006,30,60,2,202,101,102,0,0,0,0,0,0,0,0",
+            "10006,30,70,2,202,101,102,0,0,0,0,0,0,0,0");
+
+    @Test
+    void addedRemovedAndChangedBeams() {
+        ChangeSet.KindChanges beams = kind(new ProjectDiff().compare(R1, R2), "beams");
+
+        assertEquals(List.of("1/10005"), beams.getAdded().stream().map(ChangeSet.AddedElement::getKey).collect(Collectors.toList()));
+        assertEquals(30.0, beams.getAdded().get(0).getValues().get("widthCm"));
+        assertEquals(List.of("1/10004"), beams.getRemoved());
+        assertEquals(List.of("1/10002", "1/10003", "1/10006#2"),
+                beams.getChanged().stream().map(ChangeSet.ChangedElement::getKey).collect(Collectors.toList()));
+        assertEquals(2, beams.getUnchanged());
+
+        ChangeSet.ChangedElement widened = beams.getChanged().get(1);
+        assertEquals(List.of("widthCm"), fieldNames(widened));
+        assertEquals(30.0, widened.getFields().get(0).getOldValue());
+        assertEquals(35.0, widened.getFields().get(0).getNewValue());
+        assertFalse(widened.isMoved());
+    }
+
+    @Test
+    void geometryOnlyChangesAreMoved() {
+        ChangeSet changeSet = new ProjectDiff().compare(R1, R2);
+
+        ChangeSet.ChangedElement beam = kind(changeSet, "beams").getChanged().get(0);
+        assertEquals(List.of("endXMetre"), fieldNames(beam));
+        assertTrue(beam.isMoved());
+
+        ChangeSet.KindChanges axes = kind(changeSet, "axes");
+        assertEquals(1, axes.getChanged().size());
+        assertEquals("X2", axes.getChanged().get(0).getKey());
+        assertTrue(axes.getChanged().get(0).isMoved());
+        assertEquals(2, changeSet.movedCount());
+    }
+
+    @Test
+    void duplicateLabelsMatchInFileOrder() {
+        ChangeSet.ChangedElement second = kind(new ProjectDiff().compare(R1, R2), "beams").getChanged().get(2);
+
+        assertEquals("1/10006#2", second.getKey());
+        assertEquals(List.of("heightCm"), fieldNames(second));
+        assertEquals(60.0, second.getFields().get(0).getOldValue());
+        assertEquals(70.0, second.getFields().get(0).getNewValue());
+    }
+
+    @Test
+    void differencesWithinToleranceAreIgnored() {
+        assertEquals(0, kind(new ProjectDiff().compare(R1, R2), "floors").getChanged().size());
+
+        ChangeSet.KindChanges strict = kind(new ProjectDiff(0).compare(R1, R2), "floors");
+        assertEquals(1, strict.getChanged().size());
+        assertEquals(List.of("height"), fieldNames(strict.getChanged().get(0)));
+
+        ChangeSet.KindChanges loose = kind(new ProjectDiff(1.0).compare(R1, R2), "axes");
+        assertEquals(0, loose.getChanged().size());
+        assertEquals(6, loose.getUnchanged());
+    }
+
+    @Test
+    void identicalRevisionsAreEmpty() {
+        ChangeSet changeSet = new ProjectDiff().compare(R1, parse("r1.st4", "3", "10",
+                "10001,30,60,2,201,101,102,0,0,0,0,0,0,0,0",
+                "10002,30,60,2,201,102,103,0,0,0,0,0,0,0,0",
+                "10003,30,60,2,201,101,102,0,0,0,0,0,0,0,0",
+                "10004,30,60,2,201,103,104,0,0,0,0,0,0,0,0",
+                "10006,30,60,2,202,101,102,0,0,0,0,0,0,0,0",
+                "10006,30,60,2,202,101,102,0,0,0,0,0,0,0,0"));
+
+        assertTrue(changeSet.isEmpty());
+        assertEquals(6, kind(changeSet, "beams").getUnchanged());
+    }
+
+    private static ChangeSet.KindChanges kind(ChangeSet changeSet, String name) {
+        return changeSet.getKinds().stream().filter(k -> k.getKind().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static List<String> fieldNames(ChangeSet.ChangedElement element) {
+        return element.getFields().stream().map(ChangeSet.FieldChange::getName).collect(Collectors.toList());
+    }
+
+    private static Project parse(String fileName, String storyHeight, String thirdXAxis, String... beams) {
+        StringBuilder st4 = new StringBuilder();
+        for (String line : List.of("STA4CAD", "Test", "Revizyon", "/Story/", "Kat 1", "1", "0,0," + storyHeight,
+                "/Axis data/", "1,0", "2,5", "3," + thirdXAxis, "4,15", "1,0", "2,4",
+                "/Columns Data/", "0,0,0", "/Beams Data/")) {
+            st4.append(line).append("\r\n");
+        }
+        for (String beam : beams) st4.append(beam).append("\r\n");
+        st4.append("0,0,0\r\n");
+        try {
+            return new St4FileParser().parse(new ByteArrayInputStream(st4.toString().getBytes(StandardCharsets.UTF_8)), fileName);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
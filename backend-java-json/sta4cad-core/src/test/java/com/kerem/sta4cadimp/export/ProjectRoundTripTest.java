@@ -0,0 +1,70 @@
+package com.kerem.sta4cadimp.export;
+
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+import com.kerem.sta4cadimp.service.St4FileParser;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * {@link ProjectReader} ile geri okunan proje yeniden yazıldığında, üretilen modellerin tek dosyalı
+ * (JSON/Smile) ve parçalı çıktısı bayt bayt aynı olmalıdır.
+ */
+class ProjectRoundTripTest {
+
+    @TempDir
+    Path dir;
+
+    static Stream<Arguments> models() {
+        return Stream.of("small", "medium").flatMap(size ->
+                Stream.of(ExportFormat.JSON, ExportFormat.SMILE).map(format -> Arguments.of(size, format)));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("models")
+    void singleFileRoundTripIsByteIdentical(String size, ExportFormat format) throws IOException {
+        ProjectJsonWriter writer = new ProjectJsonWriter(format, false);
+        byte[] written = write(writer, parse(size));
+
+        Project read = new ProjectReader().read(new ByteArrayInputStream(written));
+
+        assertArrayEquals(written, write(writer, read));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("models")
+    void shardedRoundTripMatchesSingleFile(String size, ExportFormat format) throws IOException {
+        Project project = parse(size);
+        Path manifest = dir.resolve("model" + format.getExtension());
+        new ShardedProjectWriter(format, false).write(project, manifest);
+
+        Project read = new ProjectReader().readSharded(manifest);
+
+        assertFalse(read.getFloors().isEmpty());
+        ProjectJsonWriter writer = new ProjectJsonWriter(format, false);
+        assertArrayEquals(write(writer, project), write(writer, read));
+    }
+
+    private static Project parse(String size) throws IOException {
+        byte[] st4 = new St4ModelGenerator(GeneratorConfig.preset(size)).toBytes();
+        return new St4FileParser().parse(new ByteArrayInputStream(st4), size + ".st4");
+    }
+
+    private static byte[] write(ProjectJsonWriter writer, Project project) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(project, out);
+        return out.toByteArray();
+    }
+}
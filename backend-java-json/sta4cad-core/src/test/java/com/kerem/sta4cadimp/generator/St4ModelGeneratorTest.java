@@ -0,0 +1,54 @@
+package com.kerem.sta4cadimp.generator;
+
+import com.kerem.sta4cadimp.entity.Floor;
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.service.St4FileParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Üretilen model ayrıştırıldığında her kat kendi kolon, kiriş ve döşemelerini almalıdır; etiketlerdeki
+ * kat hanesi bir üst kata ait elemanları alt katlara kaydırmamalıdır.
+ */
+class St4ModelGeneratorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"small", "medium", "large"})
+    void everyFloorGetsItsOwnElements(String preset) throws IOException {
+        GeneratorConfig config = GeneratorConfig.preset(preset);
+        Project project = new St4FileParser().parse(
+                new ByteArrayInputStream(new St4ModelGenerator(config).toBytes()), preset + ".st4");
+
+        assertTrue(project.getDiagnostics().getEntries().isEmpty(), "üretilen model tanılama üretmemeli");
+        assertEquals(config.getFloorCount(), project.getFloors().size());
+        for (Floor floor : project.getFloors()) {
+            String name = "kat " + floor.getOriginalNumber();
+            assertFalse(floor.getColumns().isEmpty(), name + " kolon");
+            assertFalse(floor.getBeams().isEmpty(), name + " kiriş");
+            assertFalse(floor.getSlabs().isEmpty(), name + " döşeme");
+        }
+    }
+
+    @Test
+    void sameSeedProducesSameBytes() {
+        GeneratorConfig config = GeneratorConfig.preset("small");
+        assertArrayEquals(new St4ModelGenerator(config).toBytes(), new St4ModelGenerator(config).toBytes());
+    }
+
+    @Test
+    void rejectsMoreFloorsThanLabelsCanCarry() {
+        GeneratorConfig config = new GeneratorConfig();
+        config.setFloorCount(GeneratorConfig.MAX_FLOOR_COUNT + 1);
+        assertThrows(IllegalArgumentException.class, () -> new St4ModelGenerator(config));
+    }
+}
@@ -0,0 +1,171 @@
+package com.kerem.sta4cadimp.server;
+
+import com.kerem.sta4cadimp.export.ProjectJsonWriter;
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+import com.kerem.sta4cadimp.service.St4Converter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Servis 127.0.0.1 üzerinde, işletim sisteminin atadığı bir portta başlatılır; dönüşüm, boyut sınırı,
+ * eşzamanlılık sınırı ve durum uçları gerçek HTTP istekleriyle denenir.
+ */
+class ConversionServerTest {
+
+    private static final long MAX_REQUEST_BYTES = 256 * 1024;
+    private static final byte[] MODEL = new St4ModelGenerator(GeneratorConfig.preset("small")).toBytes();
+
+    @TempDir
+    Path dir;
+
+    private ConversionServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new ConversionServer(0, 1, MAX_REQUEST_BYTES, 200);
+        server.start();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop(0);
+    }
+
+    @Test
+    void convertReturnsSameJsonAsConverter() throws Exception {
+        Path input = dir.resolve("model.st4");
+        Path expected = dir.resolve("model.json");
+        Files.write(input, MODEL);
+        new St4Converter(new ProjectJsonWriter(false)).convert(input, expected);
+
+        HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(uri("/convert?name=model.st4"))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(MODEL)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("0", response.headers().firstValue("X-Sta4cad-Diagnostics").orElse(null));
+        assertArrayEquals(Files.readAllBytes(expected), response.body());
+    }
+
+    @Test
+    void bodyOverLimitIsRejectedWith413() throws Exception {
+        byte[] body = new byte[(int) MAX_REQUEST_BYTES + 1];
+
+        HttpResponse<String> declared = client.send(
+                HttpRequest.newBuilder(uri("/convert")).POST(HttpRequest.BodyPublishers.ofByteArray(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        // Content-Length olmadan (chunked) gönderilen gövde okunurken sınır aşılır.
+        HttpResponse<String> chunked = client.send(
+                HttpRequest.newBuilder(uri("/convert"))
+                        .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(body))).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(413, declared.statusCode());
+        assertEquals(413, chunked.statusCode());
+        assertTrue(health().contains("\"rejected\":2"), health());
+    }
+
+    @Test
+    void saturatedServerRejectsWith503() throws Exception {
+        // İlk istek izni alır ve gövdesinin kalanı gelene kadar bekler; ikincisi kuyruk süresi dolunca
+        // reddedilir.
+        try (Socket slow = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream out = slow.getOutputStream();
+            out.write(("POST /convert HTTP/1.1\r\nHost: 127.0.0.1\r\nConnection: close\r\nContent-Length: " + MODEL.length + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.write(MODEL, 0, MODEL.length / 2);
+            out.flush();
+            awaitHealth("\"inFlight\":1");
+
+            HttpResponse<String> second = client.send(
+                    HttpRequest.newBuilder(uri("/convert")).POST(HttpRequest.BodyPublishers.ofByteArray(MODEL)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(503, second.statusCode());
+
+            out.write(MODEL, MODEL.length / 2, MODEL.length - MODEL.length / 2);
+            out.flush();
+            String response = new String(slow.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(response.startsWith("HTTP/1.1 200 OK"), response);
+        }
+        // Sayaçlar yanıt gövdesi kapatıldıktan sonra güncellenir.
+        String health = awaitHealth("\"completed\":1");
+        assertTrue(health.contains("\"rejected\":1"), health);
+        assertTrue(health.contains("\"failures\":0"), health);
+    }
+
+    @Test
+    void healthAndMetricsRespond() throws Exception {
+        client.send(HttpRequest.newBuilder(uri("/convert")).POST(HttpRequest.BodyPublishers.ofByteArray(MODEL)).build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        String health = health();
+        assertTrue(health.contains("\"status\":\"UP\""), health);
+        assertTrue(health.contains("\"requests\":1"), health);
+
+        HttpResponse<String> metrics = client.send(HttpRequest.newBuilder(uri("/metrics")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, metrics.statusCode());
+        assertTrue(metrics.body().contains("sta4cad.parse"), metrics.body());
+    }
+
+    @Test
+    void unknownCharsetIsRejectedWith400() throws Exception {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(uri("/convert?charset=yok-boyle-kume"))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(MODEL)).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(400, response.statusCode());
+        assertTrue(health().contains("\"failures\":1"), health());
+    }
+
+    @Test
+    void charsetParsersAreReused() {
+        assertSame(server.parserFor(null), server.parserFor("auto"));
+        assertSame(server.parserFor("windows-1254"), server.parserFor("windows-1254"));
+        assertNotSame(server.parserFor("utf-8"), server.parserFor("windows-1254"));
+    }
+
+    private String health() throws Exception {
+        return client.send(HttpRequest.newBuilder(uri("/health")).build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private String awaitHealth(String fragment) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        String health;
+        while (!(health = health()).contains(fragment)) {
+            assertTrue(System.currentTimeMillis() < deadline, health);
+            Thread.sleep(10);
+        }
+        return health;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+}
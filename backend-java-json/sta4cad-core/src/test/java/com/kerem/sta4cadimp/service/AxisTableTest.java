@@ -0,0 +1,103 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.entity.Axis;
+import com.kerem.sta4cadimp.entity.AxisType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * .st4 aks referanslarının ("1nn" -> X(nn-1), "2nn" -> Y(nn-1)) doğrudan indekslenmesi; aralık dışı,
+ * bilinmeyen önekli ve bozuk referanslar istisnasız null çözülür.
+ */
+class AxisTableTest {
+
+    private static final Axis X0 = axis(AxisType.X, "X0", 0);
+    private static final Axis X1 = axis(AxisType.X, "X1", 5);
+    private static final Axis X2 = axis(AxisType.X, "X2", 10);
+    private static final Axis Y0 = axis(AxisType.Y, "Y0", 0);
+    private static final Axis Y1 = axis(AxisType.Y, "Y1", 4);
+
+    private static final AxisTable TABLE = AxisTable.of(List.of(X0, X1, X2, Y0, Y1));
+
+    @Test
+    void resolvesByOrdinal() {
+        assertSame(X0, TABLE.resolve("101"));
+        assertSame(X2, TABLE.resolve("103"));
+        assertSame(X2, TABLE.resolve("13"));
+        assertSame(Y1, TABLE.resolve("202"));
+        assertEquals(2, TABLE.indexOf("103"));
+        assertEquals(3, TABLE.xCount());
+        assertEquals(2, TABLE.yCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"100", "104", "1999", "203", "10", "12147483648"})
+    void outOfRangeRefsAreNull(String ref) {
+        assertNull(TABLE.resolve(ref));
+        assertEquals(-1, TABLE.indexOf(ref));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"301", "001", "X01", "Y01", " 101", "-101", "1", "2"})
+    void unknownPrefixAndShortRefsAreNull(String ref) {
+        assertNull(TABLE.resolve(ref));
+        assertEquals(-1, TABLE.indexOf(ref));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void missingRefsAreNull(String ref) {
+        assertNull(TABLE.resolve(ref));
+        assertEquals(-1, TABLE.indexOf(ref));
+    }
+
+    @Test
+    void signsFollowIntegerParseInt() {
+        assertSame(X1, TABLE.resolve("1+2"));
+        assertNull(TABLE.resolve("1-0"));
+        assertNull(TABLE.resolve("1-2"));
+        assertNull(TABLE.resolve("1+"));
+        assertNull(TABLE.resolve("10 1"));
+        assertNull(TABLE.resolve("101.0"));
+    }
+
+    @Test
+    void laterAxisWinsForRepeatedOrdinal() {
+        Axis replacement = axis(AxisType.X, "X1", 7.5);
+        AxisTable table = AxisTable.of(List.of(X0, X1, replacement, Y0));
+
+        assertSame(replacement, table.resolve("102"));
+        assertEquals(2, table.xCount());
+    }
+
+    @Test
+    void mislabelledAndGappedAxesAreSkipped() {
+        // Tipi etiketle uyuşmayan ve sırası okunamayan akslar tabloya girmez; boşluktaki sıra null kalır.
+        AxisTable table = AxisTable.of(List.of(X0, axis(AxisType.Y, "X1", 3), axis(AxisType.X, "Xa", 4),
+                axis(AxisType.X, "X", 5), axis(AxisType.X, null, 6), axis(AxisType.X, "X3", 9)));
+
+        assertEquals(4, table.xCount());
+        assertEquals(0, table.yCount());
+        assertSame(X0, table.resolve("101"));
+        assertNull(table.resolve("102"));
+        assertEquals(1, table.indexOf("102"));
+        assertEquals(9, table.resolve("104").getCoordinate());
+        assertNull(table.resolve("201"));
+    }
+
+    private static Axis axis(AxisType type, String label, double coordinate) {
+        Axis axis = new Axis();
+        axis.setType(type);
+        axis.setLabel(label);
+        axis.setCoordinate(coordinate);
+        return axis;
+    }
+}
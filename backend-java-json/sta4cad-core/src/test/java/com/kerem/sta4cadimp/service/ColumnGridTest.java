@@ -0,0 +1,179 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.diagnostics.Diagnostic;
+import com.kerem.sta4cadimp.diagnostics.DiagnosticCode;
+import com.kerem.sta4cadimp.entity.Beam;
+import com.kerem.sta4cadimp.entity.Floor;
+import com.kerem.sta4cadimp.entity.Panel;
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.entity.StructuralColumn;
+import com.kerem.sta4cadimp.export.ProjectJsonWriter;
+import com.kerem.sta4cadimp.export.ProjectReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Kiriş/panel uçlarının kolonlara bağlanması: uç, kolonun büyük kenarının yarısı + 5 cm tolerans +
+ * elemanın yarı genişliği içindeyse merkezi en yakın kolona bağlanır; aksı çözülemeyen elemanlar
+ * bağlanmaz.
+ */
+class ColumnGridTest {
+
+    // X aksları: 0, 5, 10, 20, 5.15 (105); Y aksı: 0.
+    // Kolonlar: 101 (0,0) 40x40, 102 (5,0) 40x60, 103 (10,0) 40x40, 104 (5.1,0) 40x40 (300 mm kaçık).
+    private static final String MODEL = String.join("\r\n",
+            "STA4CAD",
+            "Test",
+            "Kolon bağlantıları",
+            "/Story/",
+            "Kat 1",
+            "1",
+            "0,0,3",
+            "/Axis data/",
+            "1,0",
+            "2,5",
+            "3,10",
+            "4,20",
+            "5,5.15",
+            "1,0",
+            "/Columns Data/",
+            "101,40,40,0",
+            "102,40,60,0",
+            "103,40,40,0",
+            "104,40,40,0",
+            "0,0,0",
+            "/Column axis data/",
+            "1,101,201,0,0",
+            "1,102,201,0,0",
+            "1,103,201,0,0",
+            "1,102,201,300,0",
+            "/Beams Data/",
+            "10001,30,60,2,201,101,102,0,0,0,0,0,0,0,0",
+            "10002,100,60,2,201,101,102,1,0,0,0,0,0,0,0",
+            "10003,30,60,2,201,103,104,0,0,0,0,0,0,0,0",
+            "10004,30,60,2,299,101,102,0,0,0,0,0,0,0,0",
+            "10005,30,60,2,201,101,105,0,0,0,0,0,0,0,0",
+            "10006,25,300,2,201,102,103,0,0,0,0,0,0,0,1",
+            "0,0,0",
+            "");
+
+    @Test
+    void concentricBeamConnectsBothEnds() throws IOException {
+        Beam beam = beam(parse(), "10001");
+
+        assertEquals("101", beam.getStartColumn().getTypeLabel());
+        assertEquals("102", beam.getEndColumn().getTypeLabel());
+    }
+
+    @Test
+    void eccentricBeamConnectsThroughItsHalfWidth() throws IOException {
+        // 100 cm genişlikteki kiriş aksa yaslı: ekseni y = -0,5; 101'in erişimi 0,25 m + yarı genişlik 0,5 m.
+        Beam beam = beam(parse(), "10002");
+
+        assertEquals(-0.5, beam.getStartYMetre(), 1e-9);
+        assertEquals("101", beam.getStartColumn().getTypeLabel());
+        assertEquals("102", beam.getEndColumn().getTypeLabel());
+    }
+
+    @Test
+    void endOutOfReachStaysNull() throws IOException {
+        Beam beam = beam(parse(), "10003");
+
+        assertEquals("103", beam.getStartColumn().getTypeLabel());
+        assertNull(beam.getEndColumn());
+    }
+
+    @Test
+    void nearestColumnWinsWhenSeveralReach() throws IOException {
+        Project project = parse();
+
+        // x = 5: 102 (uzaklık 0) ve 104 (0,1 m) erişimde; x = 5,15: 104 (0,05 m) daha yakın.
+        assertEquals("102", beam(project, "10001").getEndColumn().getTypeLabel());
+        assertEquals("104", beam(project, "10005").getEndColumn().getTypeLabel());
+    }
+
+    @Test
+    void unresolvedAxisIsNotLinked() throws IOException {
+        Project project = parse();
+        Beam beam = beam(project, "10004");
+
+        assertNull(beam.getStartColumn());
+        assertNull(beam.getEndColumn());
+        List<Diagnostic> entries = project.getDiagnostics().getEntries();
+        assertEquals(1, entries.size());
+        assertEquals(DiagnosticCode.UNKNOWN_AXIS, entries.get(0).getCode());
+        assertEquals(5, entries.get(0).getField());
+    }
+
+    @Test
+    void panelsAreLinkedLikeBeams() throws IOException {
+        Panel panel = parse().getFloors().get(0).getPanels().get(0);
+
+        assertEquals("102", panel.getStartColumn().getTypeLabel());
+        assertEquals("103", panel.getEndColumn().getTypeLabel());
+    }
+
+    @Test
+    void columnIdsRoundTripThroughProjectReader() throws IOException {
+        Project project = parse();
+        byte[] json = write(project);
+
+        Project read = new ProjectReader().read(new ByteArrayInputStream(json));
+
+        Floor original = project.getFloors().get(0);
+        Floor restored = read.getFloors().get(0);
+        assertEquals(original.getBeams().size(), restored.getBeams().size());
+        for (int i = 0; i < original.getBeams().size(); i++) {
+            Beam before = original.getBeams().get(i);
+            Beam after = restored.getBeams().get(i);
+            assertEquals(before.getStartColumnId(), after.getStartColumnId(), before.getLabel());
+            assertEquals(before.getEndColumnId(), after.getEndColumnId(), before.getLabel());
+            if (after.getStartColumn() != null) assertSame(restored, after.getStartColumn().getFloor());
+        }
+        Panel panel = restored.getPanels().get(0);
+        assertEquals(original.getPanels().get(0).getStartColumnId(), panel.getStartColumnId());
+        assertEquals(original.getPanels().get(0).getEndColumnId(), panel.getEndColumnId());
+        assertArrayEquals(json, write(read));
+    }
+
+    @Test
+    void pointsOutsideTheGridMatchNothing() {
+        StructuralColumn column = new StructuralColumn();
+        column.setPositionXMetre(0);
+        column.setPositionYMetre(0);
+        column.setDimensionWidthCm(40);
+        column.setDimensionHeightCm(40);
+        ColumnGrid grid = ColumnGrid.of(List.of(column), St4FileParser.COLUMN_SNAP_TOLERANCE_METRE);
+
+        assertSame(column, grid.find(0.25, 0, 0));
+        assertNull(grid.find(0.26, 0, 0));
+        assertSame(column, grid.find(0.26, 0, 0.01));
+        assertNull(grid.find(-50, 30, 0.15));
+        assertNull(ColumnGrid.of(List.of(), St4FileParser.COLUMN_SNAP_TOLERANCE_METRE));
+    }
+
+    private static Beam beam(Project project, String label) {
+        return project.getFloors().get(0).getBeams().stream()
+                .filter(b -> b.getLabel().equals(label)).findFirst().orElseThrow();
+    }
+
+    private static byte[] write(Project project) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ProjectJsonWriter(false).write(project, out);
+        return out.toByteArray();
+    }
+
+    private static Project parse() throws IOException {
+        return new St4FileParser().parse(new ByteArrayInputStream(MODEL.getBytes(StandardCharsets.UTF_8)), "test.st4");
+    }
+}
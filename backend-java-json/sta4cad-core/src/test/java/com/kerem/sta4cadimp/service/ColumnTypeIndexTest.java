@@ -0,0 +1,119 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.dtos.ColumnTypeDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Paketlenmiş (değer << 5 | hane) anahtarla yapılan arama, eski
+ * {@code floorNumber + baseLabel.substring(1)} String anahtarlı HashMap aramasıyla her durumda aynı
+ * tanımı bulmalıdır.
+ */
+class ColumnTypeIndexTest {
+
+    private static final List<String> LABELS = List.of(
+            "1", "2", "12", "101", "102", "201", "1001", "1201", "12001", "120001",
+            "0101", "001", "01", "0", "00", "05", "1101", "11101", "9999",
+            "1A", "2A", "12A", "A01", "-101", "-1101", "+101", "",
+            "123456789012345678", "223456789012345678", "12345678901234567", "22345678901234567");
+
+    @Test
+    void matchesStringLookupForEveryFloorAndBase() {
+        List<ColumnTypeDefinition> definitions = new ArrayList<>();
+        for (String label : LABELS) definitions.add(new ColumnTypeDefinition(label, 30, 40));
+        ColumnTypeIndex index = new ColumnTypeIndex(definitions);
+        Map<String, ColumnTypeDefinition> byLabel = legacyMap(definitions);
+
+        for (String base : LABELS) {
+            if (base.isEmpty()) continue;
+            long suffix = ColumnTypeIndex.suffixOf(base);
+            for (int floor = -2; floor <= 130; floor++) {
+                assertSame(byLabel.get(floor + base.substring(1)), index.find(floor, base, suffix),
+                        "kat " + floor + ", taban " + base);
+            }
+        }
+    }
+
+    @Test
+    void multiDigitFloorsKeepLeadingZerosOfTheSuffix() {
+        ColumnTypeDefinition twelve = new ColumnTypeDefinition("1201", 50, 50);
+        ColumnTypeDefinition wrongWidth = new ColumnTypeDefinition("121", 60, 60);
+        ColumnTypeIndex index = new ColumnTypeIndex(List.of(twelve, wrongWidth));
+
+        assertSame(twelve, index.find(12, "101", ColumnTypeIndex.suffixOf("101")));
+        assertSame(wrongWidth, index.find(12, "11", ColumnTypeIndex.suffixOf("11")));
+        assertNull(index.find(1, "101", ColumnTypeIndex.suffixOf("101")));
+    }
+
+    @Test
+    void singleCharacterBaseMapsToTheFloorNumber() {
+        ColumnTypeDefinition floorSeven = new ColumnTypeDefinition("7", 40, 40);
+        ColumnTypeIndex index = new ColumnTypeIndex(List.of(floorSeven));
+
+        assertEquals(ColumnTypeIndex.suffixOf("1"), ColumnTypeIndex.suffixOf("9"));
+        assertSame(floorSeven, index.find(7, "1", ColumnTypeIndex.suffixOf("1")));
+        assertNull(index.find(17, "1", ColumnTypeIndex.suffixOf("1")));
+    }
+
+    @Test
+    void nonNumericAndOverlongLabelsUseTheFallback() {
+        ColumnTypeDefinition lettered = new ColumnTypeDefinition("3A", 40, 40);
+        ColumnTypeDefinition overlong = new ColumnTypeDefinition("323456789012345678", 40, 40);
+        ColumnTypeIndex index = new ColumnTypeIndex(List.of(lettered, overlong));
+
+        assertEquals(ColumnTypeIndex.NO_SUFFIX, ColumnTypeIndex.suffixOf("1A"));
+        assertEquals(ColumnTypeIndex.NO_SUFFIX, ColumnTypeIndex.suffixOf("1234567890123456789"));
+        assertEquals(ColumnTypeIndex.NO_SUFFIX, ColumnTypeIndex.suffixOf(""));
+        assertSame(lettered, index.find(3, "1A", ColumnTypeIndex.suffixOf("1A")));
+        // 17 haneli son ek paketlenir, ama kat hanesiyle 18 haneli etiket tabloya sığmaz.
+        assertSame(overlong, index.find(3, "123456789012345678", ColumnTypeIndex.suffixOf("123456789012345678")));
+        // 17 haneli taban + iki haneli kat 18 haneye çıkar; arama String anahtara düşer.
+        assertNull(index.find(32, "12345678901234567", ColumnTypeIndex.suffixOf("12345678901234567")));
+    }
+
+    @Test
+    void lastDuplicateWins() {
+        ColumnTypeDefinition first = new ColumnTypeDefinition("201", 30, 30);
+        ColumnTypeDefinition second = new ColumnTypeDefinition("201", 35, 35);
+        ColumnTypeDefinition firstLettered = new ColumnTypeDefinition("2B", 30, 30);
+        ColumnTypeDefinition secondLettered = new ColumnTypeDefinition("2B", 35, 35);
+        ColumnTypeIndex index = new ColumnTypeIndex(List.of(first, firstLettered, second, secondLettered));
+
+        assertSame(second, index.find(2, "101", ColumnTypeIndex.suffixOf("101")));
+        assertSame(secondLettered, index.find(2, "1B", ColumnTypeIndex.suffixOf("1B")));
+    }
+
+    @Test
+    void manyDefinitionsSurviveProbing() {
+        List<ColumnTypeDefinition> definitions = new ArrayList<>();
+        for (int floor = 1; floor <= 20; floor++) {
+            for (int column = 1; column <= 500; column++) {
+                definitions.add(new ColumnTypeDefinition(floor + String.format("%03d", column), 40, 40));
+            }
+        }
+        ColumnTypeIndex index = new ColumnTypeIndex(definitions);
+        Map<String, ColumnTypeDefinition> byLabel = legacyMap(definitions);
+
+        for (int column = 1; column <= 500; column++) {
+            String base = "1" + String.format("%03d", column);
+            long suffix = ColumnTypeIndex.suffixOf(base);
+            for (int floor = 0; floor <= 21; floor++) {
+                assertSame(byLabel.get(floor + base.substring(1)), index.find(floor, base, suffix), floor + "/" + base);
+            }
+        }
+    }
+
+    private static Map<String, ColumnTypeDefinition> legacyMap(List<ColumnTypeDefinition> definitions) {
+        Map<String, ColumnTypeDefinition> byLabel = new HashMap<>();
+        for (ColumnTypeDefinition definition : definitions) byLabel.put(definition.typeLabel, definition);
+        return byLabel;
+    }
+}
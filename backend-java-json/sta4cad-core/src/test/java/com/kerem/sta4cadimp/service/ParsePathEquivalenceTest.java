@@ -0,0 +1,165 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.diagnostics.Diagnostic;
+import com.kerem.sta4cadimp.diagnostics.Diagnostics;
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.export.ProjectJsonWriter;
+import com.kerem.sta4cadimp.generator.GeneratorConfig;
+import com.kerem.sta4cadimp.generator.St4ModelGenerator;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Akış, bellek eşlemeli ve bellekteki tampon okuması ile sıralı ve paralel çözümleme (ve ortak metin
+ * tablosu) aynı girdiden aynı JSON'u ve aynı tanılamaları üretmelidir. Üretilen modellerin yanında,
+ * hatalı kayıtlar, boş satırlar, tanınmayan bölüm, CRLF satır sonları ve BOM içeren bozuk girdiler de
+ * denenir.
+ */
+class ParsePathEquivalenceTest {
+
+    private static final String FILE_NAME = "model.st4";
+
+    @TempDir
+    Path dir;
+
+    private record Snapshot(String json, String diagnostics) {
+    }
+
+    static Stream<Arguments> inputs() {
+        byte[] small = generated("small");
+        return Stream.of(
+                Arguments.of("small", small, false),
+                Arguments.of("medium", generated("medium"), false),
+                // Büyük bölümler bellek eşlemeli okumada birden çok aralığa bölünür.
+                Arguments.of("large", generated("large"), false),
+                Arguments.of("messy-lf", messy(small, "\n", false), true),
+                Arguments.of("messy-crlf-bom", messy(small, "\r\n", true), true));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inputs")
+    void allParsePathsAgree(String name, byte[] content, boolean expectDiagnostics) throws Exception {
+        Path file = dir.resolve(name + ".st4");
+        Files.write(file, content);
+        St4FileParser sequential = new St4FileParser();
+        St4FileParser parallel = sequential.withParallelResolution(true);
+
+        Snapshot expected = snapshot(sequential.parse(new ByteArrayInputStream(content), FILE_NAME));
+        assertEquals(expectDiagnostics, !expected.diagnostics().isEmpty(), "tanılama beklentisi");
+
+        assertEquals(expected, snapshot(sequential.parseMapped(file, FILE_NAME)), "bellek eşlemeli");
+        assertEquals(expected, snapshot(sequential.parseBuffer(ByteBuffer.wrap(content), FILE_NAME, null)), "tampon");
+        assertEquals(expected, snapshot(sequential.withInternTable(new InternTable())
+                .parse(new ByteArrayInputStream(content), FILE_NAME)), "ortak metin tablosu");
+        assertEquals(expected, inPool(() -> parallel.parse(new ByteArrayInputStream(content), FILE_NAME)),
+                "paralel çözümleme");
+        assertEquals(expected, inPool(() -> parallel.parseMapped(file, FILE_NAME)),
+                "bellek eşlemeli + paralel çözümleme");
+    }
+
+    /** Tek çekirdekli makinelerde de görevlerin gerçekten eşzamanlı yürümesi için ayrı bir havuz. */
+    private static Snapshot inPool(Callable<Project> parse) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            return snapshot(pool.submit(parse).get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Snapshot snapshot(Project project) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        new ProjectJsonWriter(true).write(project, json);
+        Diagnostics diagnostics = project.getDiagnostics();
+        StringBuilder text = new StringBuilder();
+        diagnostics.getCounts().forEach((code, count) -> text.append(code).append('=').append(count).append('\n'));
+        for (Diagnostic d : diagnostics.getEntries()) {
+            text.append(d.getLine()).append(' ').append(d.getSection()).append(' ').append(d.getCode())
+                    .append(' ').append(d.getField()).append(' ').append(d.getText()).append('\n');
+        }
+        return new Snapshot(json.toString(StandardCharsets.UTF_8), text.toString());
+    }
+
+    private static byte[] generated(String preset) {
+        return new St4ModelGenerator(GeneratorConfig.preset(preset)).toBytes();
+    }
+
+    /**
+     * Üretilen modele bölüm başına birkaç bozuk kayıt ekler. Baytlar ISO-8859-1 ile taşınır, böylece
+     * metin alanlarının kodlaması değişmez.
+     */
+    private static byte[] messy(byte[] content, String newline, boolean bom) {
+        String[] lines = new String(content, StandardCharsets.ISO_8859_1).split("\r?\n", -1);
+        List<String> out = new ArrayList<>();
+        String section = "";
+        int index = 0;
+        for (String line : lines) {
+            if (line.startsWith("/")) {
+                if (line.equals("/Beams Data/")) {
+                    out.add("/Tanınmayan bölüm/");
+                    out.add("1,2,3");
+                }
+                section = line;
+                index = 0;
+                out.add(line);
+                continue;
+            }
+            index++;
+            switch (section) {
+                case "/Column axis data/" -> {
+                    if (index == 2) line = line.replaceFirst(",", " ,"); // boşluklu tamsayı alanı
+                    if (index == 3) line = line.substring(0, line.lastIndexOf(',')); // eksik alan
+                }
+                case "/Beams Data/" -> {
+                    if (index == 1) line = replaceField(line, 4, "299"); // bilinmeyen düzlem aksı
+                    if (index == 2) line = "X" + line.substring(1); // kat hanesi değil
+                    if (index == 3) line = "9" + line.substring(1); // olmayan kat
+                    if (index == 4) line = replaceField(line, 1, "3a0"); // geçersiz sayı
+                    if (index == 5) out.add("   ");
+                    if (index == 6) line = line + "  ";
+                }
+                case "/Floors Data/" -> {
+                    if (index == 1) line = "9" + line.substring(1);
+                    if (index == 2) out.add("");
+                }
+                case "/Slab foundations/" -> {
+                    if (index == 2) line = replaceField(line, 0, "8x0");
+                }
+                default -> {
+                }
+            }
+            out.add(line);
+        }
+        byte[] body = String.join(newline, out).getBytes(StandardCharsets.ISO_8859_1);
+        if (!bom) return body;
+        byte[] withBom = new byte[body.length + 3];
+        withBom[0] = (byte) 0xEF;
+        withBom[1] = (byte) 0xBB;
+        withBom[2] = (byte) 0xBF;
+        System.arraycopy(body, 0, withBom, 3, body.length);
+        return withBom;
+    }
+
+    private static String replaceField(String line, int field, String value) {
+        String[] parts = line.split(",", -1);
+        parts[field] = value;
+        return String.join(",", parts);
+    }
+}
@@ -0,0 +1,84 @@
+package com.kerem.sta4cadimp.service;
+
+import com.kerem.sta4cadimp.entity.FoundationSlab;
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.entity.Slab;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Döşeme ve radye sınır referanslarından plan poligonu, alan ve ağırlık merkezi. Radye satırındaki
+ * boşluklu referanslar da çözülmeli, {@code boundaryAxisRefs} ise dosyadaki gibi kalmalıdır.
+ */
+class SlabFootprintsTest {
+
+    private static final String MODEL = String.join("\r\n",
+            "STA4CAD",
+            "Test",
+            "Döşeme geometrisi",
+            "/Story/",
+            "Kat 1",
+            "1",
+            "0,0,3",
+            "/Axis data/",
+            "1,0",
+            "2,5",
+            "3,11",
+            "1,0",
+            "2,4",
+            "/Columns Data/",
+            "0,0,0",
+            "/Beams Data/",
+            "0,0,0",
+            "/Floors Data/",
+            "10001,12,0,0,0,0,0,0,102,101,202,201",
+            "10002,12,0,0,0,0,0,0,101,109,201,202",
+            "0,0",
+            "/Slab foundations/",
+            "PL1 radye",
+            "50, 101, 103, 201, 202,-1.5",
+            "");
+
+    @Test
+    void slabFootprintFromBoundaryAxes() throws IOException {
+        Slab slab = parse().getFloors().get(0).getSlabs().get(0);
+
+        assertEquals(20.0, slab.getAreaSquareMetre(), 1e-9);
+        assertEquals(2.5, slab.getCentroidXMetre(), 1e-9);
+        assertEquals(2.0, slab.getCentroidYMetre(), 1e-9);
+        assertEquals(4, slab.getBoundary().size());
+        assertEquals(0.0, slab.getBoundary().get(0).getXMetre());
+        assertEquals(0.0, slab.getBoundary().get(0).getYMetre());
+        assertEquals(5.0, slab.getBoundary().get(2).getXMetre());
+        assertEquals(4.0, slab.getBoundary().get(2).getYMetre());
+    }
+
+    @Test
+    void unresolvedBoundaryLeavesGeometryEmpty() throws IOException {
+        Slab slab = parse().getFloors().get(0).getSlabs().get(1);
+
+        assertNull(slab.getAreaSquareMetre());
+        assertEquals(List.of("101", "109", "201", "202"), slab.getBoundaryAxisRefs());
+    }
+
+    @Test
+    void foundationRefsWithSpacesAreResolved() throws IOException {
+        FoundationSlab foundation = parse().getFoundationSlabs().get(0);
+
+        assertEquals(44.0, foundation.getAreaSquareMetre(), 1e-9);
+        assertEquals(5.5, foundation.getCentroidXMetre(), 1e-9);
+        assertEquals(2.0, foundation.getCentroidYMetre(), 1e-9);
+        assertEquals(List.of(" 101", " 103", " 201", " 202"), foundation.getBoundaryAxisRefs());
+    }
+
+    private static Project parse() throws IOException {
+        return new St4FileParser().parse(new ByteArrayInputStream(MODEL.getBytes(StandardCharsets.UTF_8)), "test.st4");
+    }
+}
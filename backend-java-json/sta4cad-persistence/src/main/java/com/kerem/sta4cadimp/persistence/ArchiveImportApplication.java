@@ -0,0 +1,47 @@
+package com.kerem.sta4cadimp.persistence;
+
+import com.kerem.sta4cadimp.CliArguments;
+import com.kerem.sta4cadimp.service.BatchConverter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * .st4 arşivini gömülü H2 veritabanına (dosya modu) aktaran komut:
+ * {@code java -jar sta4cad-archive.jar import <girdi-dizini|glob> [--db ./sta4cad-archive] [--threads N]}
+ */
+@SpringBootApplication
+public class ArchiveImportApplication {
+
+    public static void main(String[] args) {
+        CliArguments cli = new CliArguments(args, Set.of());
+        if (cli.getPositional().size() < 2 || !cli.positional(0).equalsIgnoreCase("import")) {
+            System.err.println("Kullanım: java -jar sta4cad-archive.jar import <girdi-dizini|glob> [--db ./sta4cad-archive] [--threads N]");
+            System.exit(1);
+        }
+
+        SpringApplication application = new SpringApplication(ArchiveImportApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setDefaultProperties(Map.of("sta4cad.db", cli.get("db", "./sta4cad-archive")));
+
+        int exitCode;
+        try (ConfigurableApplicationContext context = application.run()) {
+            List<Path> files = BatchConverter.listInputs(cli.positional(1));
+            System.out.printf("%d dosya bulundu, veritabanına aktarılıyor.%n", files.size());
+            ArchiveImporter.Summary summary = context.getBean(ArchiveImporter.class)
+                    .importFiles(files, cli.getInt("threads", Runtime.getRuntime().availableProcessors()), System.out);
+            exitCode = summary.failures == 0 ? 0 : 2;
+        } catch (Exception e) {
+            System.err.println("İçe aktarma sırasında kritik bir hata oluştu: " + e.getMessage());
+            e.printStackTrace();
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+}
@@ -0,0 +1,188 @@
+package com.kerem.sta4cadimp.persistence;
+
+import com.kerem.sta4cadimp.entity.*;
+import com.kerem.sta4cadimp.export.ProjectJsonWriter;
+import com.kerem.sta4cadimp.service.InternTable;
+import com.kerem.sta4cadimp.service.St4Converter;
+import com.kerem.sta4cadimp.service.St4FileParser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Ayrıştırılan projeleri veritabanına toplu olarak yazar. Ayrıştırma bir iş parçacığı havuzunda
+ * paralel yürür; yazma tek iş parçacığında, proje başına bir transaction ile yapılır. Entity'ler
+ * sequence tabanlı id kullandığından Hibernate INSERT'leri tablo bazında sıralayıp JDBC batch'leri
+ * halinde gönderir (bkz. application.properties). Bir içe aktarma boyunca ayrıştırmalar tek bir
+ * {@link InternTable} paylaşır; bellekte bekleyen projeler tip etiketlerini, aks referanslarını ve
+ * kesit tanımlarını ortak örnekler olarak tutar.
+ */
+@Service
+public class ArchiveImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveImporter.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final St4FileParser parser;
+
+    public ArchiveImporter(TransactionTemplate transactionTemplate, St4FileParser parser) {
+        this.transactionTemplate = transactionTemplate;
+        this.parser = parser;
+    }
+
+    public static class Summary {
+        public final int files;
+        public final int failures;
+        public final long rows;
+        public final long wallNanos;
+        public final long persistNanos;
+
+        Summary(int files, int failures, long rows, long wallNanos, long persistNanos) {
+            this.files = files;
+            this.failures = failures;
+            this.rows = rows;
+            this.wallNanos = wallNanos;
+            this.persistNanos = persistNanos;
+        }
+    }
+
+    public Summary importFiles(List<Path> files, int threads, PrintStream out) throws InterruptedException {
+        St4Converter converter = new St4Converter(parser.withInternTable(new InternTable()),
+                new ProjectJsonWriter(false), false);
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+        // Yazma ayrıştırmadan yavaşsa bellekte bekleyen proje sayısını sınırlar.
+        Semaphore pending = new Semaphore(Math.max(1, threads) * 2);
+        CompletionService<ParsedFile> completion = new ExecutorCompletionService<>(pool);
+        long start = System.nanoTime();
+        long totalRows = 0;
+        long persistNanos = 0;
+        int failures = 0;
+        try {
+            List<Path> queue = new ArrayList<>(files);
+            int submitted = 0;
+            for (int done = 0; done < files.size(); done++) {
+                while (submitted < queue.size() && pending.tryAcquire()) {
+                    Path input = queue.get(submitted++);
+                    completion.submit(() -> parse(converter, input));
+                }
+                ParsedFile parsed = completion.take().get();
+                try {
+                    if (parsed.error != null) {
+                        failures++;
+                        out.printf("HATA   %s -> %s%n", parsed.input, parsed.error);
+                        continue;
+                    }
+                    long persistStart = System.nanoTime();
+                    long rows = persist(parsed.project);
+                    long elapsed = System.nanoTime() - persistStart;
+                    persistNanos += elapsed;
+                    totalRows += rows;
+                    out.printf("TAMAM  %8d satır  %9.1f ms  %10.0f satır/s  %s%n",
+                            rows, elapsed / 1e6, rows / (elapsed / 1e9), parsed.input);
+                } catch (RuntimeException e) {
+                    failures++;
+                    logger.error("Proje veritabanına yazılamadı: {}", parsed.input, e);
+                    out.printf("HATA   %s -> %s%n", parsed.input, e.getMessage());
+                } finally {
+                    pending.release();
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Beklenmeyen içe aktarma hatası", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Summary summary = new Summary(files.size(), failures, totalRows, System.nanoTime() - start, persistNanos);
+        out.println("---- İçe aktarma özeti ----");
+        out.printf("Dosya: %d, başarılı: %d, hatalı: %d%n", summary.files, summary.files - failures, failures);
+        out.printf("Satır: %d, toplam süre: %.2f s (%.0f satır/s), yazma süresi: %.2f s (%.0f satır/s)%n",
+                totalRows, summary.wallNanos / 1e9, totalRows / (summary.wallNanos / 1e9),
+                persistNanos / 1e9, persistNanos > 0 ? totalRows / (persistNanos / 1e9) : 0.0);
+        return summary;
+    }
+
+    private static ParsedFile parse(St4Converter converter, Path input) {
+        try {
+            return new ParsedFile(input, converter.parse(input), null);
+        } catch (Exception e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return new ParsedFile(input, null, message);
+        }
+    }
+
+    /** Projeyi tek transaction'da yazar ve eklenen satır sayısını döner. */
+    long persist(Project project) {
+        clearIds(project);
+        long rows = countRows(project);
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.persist(project);
+            // Kat dışı elemanlar (katı bulunamayan kiriş/panel) yalnızca proje listelerindedir; proje
+            // bu listelerden kademelendirmediği için ayrıca eklenir.
+            for (StructuralColumn column : project.getColumns()) if (column.getFloor() == null) entityManager.persist(column);
+            for (Beam beam : project.getBeams()) if (beam.getFloor() == null) entityManager.persist(beam);
+            for (Panel panel : project.getPanels()) if (panel.getFloor() == null) entityManager.persist(panel);
+            entityManager.flush();
+            entityManager.clear();
+        });
+        return rows;
+    }
+
+    /**
+     * Ayrıştırıcının dosya içi sıralı id'leri (1, 2, ...) projeler arasında çakışır; persist öncesi
+     * temizlenir, id'leri sequence'ler atar.
+     */
+    static void clearIds(Project project) {
+        project.setId(null);
+        for (Axis axis : project.getAxes()) axis.setId(null);
+        for (FoundationSlab foundationSlab : project.getFoundationSlabs()) foundationSlab.setId(null);
+        for (StructuralColumn column : project.getColumns()) column.setId(null);
+        for (Beam beam : project.getBeams()) beam.setId(null);
+        for (Panel panel : project.getPanels()) panel.setId(null);
+        for (Floor floor : project.getFloors()) {
+            floor.setId(null);
+            for (StructuralColumn column : floor.getColumns()) column.setId(null);
+            for (Beam beam : floor.getBeams()) beam.setId(null);
+            for (Panel panel : floor.getPanels()) panel.setId(null);
+            for (Slab slab : floor.getSlabs()) slab.setId(null);
+        }
+    }
+
+    /** Entity ve eleman koleksiyonu (sınır aks referansları ve sınır noktaları) satırları. */
+    static long countRows(Project project) {
+        long rows = 1 + project.getAxes().size() + project.getColumns().size() + project.getBeams().size()
+                + project.getPanels().size();
+        for (FoundationSlab foundationSlab : project.getFoundationSlabs()) {
+            rows += 1 + foundationSlab.getBoundaryAxisRefs().size() + foundationSlab.getBoundary().size();
+        }
+        for (Floor floor : project.getFloors()) {
+            rows++;
+            for (Slab slab : floor.getSlabs()) rows += 1 + slab.getBoundaryAxisRefs().size() + slab.getBoundary().size();
+        }
+        return rows;
+    }
+
+    private static final class ParsedFile {
+        final Path input;
+        final Project project;
+        final String error;
+
+        ParsedFile(Path input, Project project, String error) {
+            this.input = input;
+            this.project = project;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.kerem.sta4cadimp.persistence;
+
+import com.kerem.sta4cadimp.entity.Project;
+import com.kerem.sta4cadimp.service.St4FileParser;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Entity'ler ve ayrıştırıcı çekirdek modülde durur; kalıcılık modülünü kullanan bir Spring Boot
+ * uygulaması bu yapılandırmayı içe aktararak entity taramasını ve repository'leri etkinleştirir.
+ */
+@Configuration
+@EntityScan(basePackageClasses = Project.class)
+@EnableJpaRepositories(basePackageClasses = ProjectRepository.class)
+@ComponentScan(basePackageClasses = St4FileParser.class)
+public class PersistenceConfiguration {
+}
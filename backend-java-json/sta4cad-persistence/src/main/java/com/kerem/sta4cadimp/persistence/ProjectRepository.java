@@ -0,0 +1,11 @@
+package com.kerem.sta4cadimp.persistence;
+
+import com.kerem.sta4cadimp.entity.Project;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    List<Project> findByFileName(String fileName);
+}
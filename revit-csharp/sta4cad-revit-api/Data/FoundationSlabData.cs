@@ -20,5 +20,17 @@ namespace sta4cad_revit_api.Data
 
         [JsonProperty("boundaryAxisRefs")]
         public List<string> BoundaryAxisRefs { get; set; } = new List<string>();
+
+        [JsonProperty("boundary")]
+        public List<PlanPointData> Boundary { get; set; } = new List<PlanPointData>();
+
+        [JsonProperty("areaSquareMetre")]
+        public double? AreaSquareMetre { get; set; }
+
+        [JsonProperty("centroidXMetre")]
+        public double? CentroidXMetre { get; set; }
+
+        [JsonProperty("centroidYMetre")]
+        public double? CentroidYMetre { get; set; }
     }
 }
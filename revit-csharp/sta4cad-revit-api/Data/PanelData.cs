@@ -32,5 +32,11 @@ namespace sta4cad_revit_api.Data
 
         [JsonProperty("endZOffsetCm")]
         public double EndZOffsetCm { get; set; }
+
+        [JsonProperty("startColumnId")]
+        public long? StartColumnId { get; set; }
+
+        [JsonProperty("endColumnId")]
+        public long? EndColumnId { get; set; }
     }
 }
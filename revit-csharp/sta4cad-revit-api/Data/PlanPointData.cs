@@ -0,0 +1,13 @@
+﻿using Newtonsoft.Json;
+
+namespace sta4cad_revit_api.Data
+{
+    public class PlanPointData
+    {
+        [JsonProperty("xMetre")]
+        public double XMetre { get; set; }
+
+        [JsonProperty("yMetre")]
+        public double YMetre { get; set; }
+    }
+}
@@ -209,7 +209,7 @@ namespace v01.Services
             FloorType floorType = GetOrCreateFloorSlabType(slabData.ThicknessCm);
             if (floorType == null) return;
 
-            CurveLoop profile = CreateRectangularProfile(slabData.BoundaryAxisRefs, axisDict);
+            CurveLoop profile = CreatePolygonProfile(slabData.Boundary) ?? CreateRectangularProfile(slabData.BoundaryAxisRefs, axisDict);
             if (profile == null) return;
 
             Floor.Create(_doc, new List<CurveLoop> { profile }, floorType.Id, level.Id);
@@ -220,12 +220,29 @@ namespace v01.Services
             FloorType foundationType = GetOrCreateFoundationSlabType(foundationData.ThicknessCm);
             if (foundationType == null) return;
 
-            CurveLoop profile = CreateRectangularProfile(foundationData.BoundaryAxisRefs, axisDict);
+            CurveLoop profile = CreatePolygonProfile(foundationData.Boundary) ?? CreateRectangularProfile(foundationData.BoundaryAxisRefs, axisDict);
             if (profile == null) return;
 
             Floor.Create(_doc, new List<CurveLoop> { profile }, foundationType.Id, baseLevel.Id);
         }
 
+        // Dönüştürücünün hesapladığı sınır poligonu; eski JSON dosyalarında yoksa aks referanslarına dönülür.
+        private CurveLoop CreatePolygonProfile(List<PlanPointData> boundary)
+        {
+            if (boundary == null || boundary.Count < 3) return null;
+
+            var points = boundary
+                .Select(p => new XYZ(UnitConverter.MetersToFeet(p.XMetre), UnitConverter.MetersToFeet(-p.YMetre), 0))
+                .ToList();
+
+            CurveLoop profile = new CurveLoop();
+            for (int i = 0; i < points.Count; i++)
+            {
+                profile.Append(Line.CreateBound(points[i], points[(i + 1) % points.Count]));
+            }
+            return profile;
+        }
+
         private CurveLoop CreateRectangularProfile(List<string> boundaryAxisRefs, Dictionary<string, AxisData> axisDict)
         {
             if (boundaryAxisRefs.Count < 4) return null;
@@ -0,0 +1,54 @@
+﻿using Newtonsoft.Json;
+using Newtonsoft.Json.Linq;
+using sta4cad_revit_api.Data;
+using System.Collections.Generic;
+using System.IO;
+using System.Text;
+
+namespace v01.Services
+{
+    // Java tarafının --sharded çıktısını okur: küçük bir manifest + katların offset/size ile yer aldığı parça dosyası
+    public static class ShardedProjectReader
+    {
+        public const string ManifestFormat = "sta4cad-sharded";
+
+        public static bool IsManifest(JObject root)
+        {
+            return (string)root["format"] == ManifestFormat;
+        }
+
+        // Katlar parça dosyasından sırayla, birer birer okunur; hiçbir an tüm dosya bellekte tutulmaz
+        public static ProjectData Load(string manifestPath, JObject manifest)
+        {
+            var project = new ProjectData
+            {
+                Axes = manifest["axes"].ToObject<List<AxisData>>(),
+                FoundationSlabs = manifest["foundationSlabs"].ToObject<List<FoundationSlabData>>()
+            };
+
+            string shardPath = Path.Combine(Path.GetDirectoryName(manifestPath), (string)manifest["shardFile"]);
+            using (var shards = new FileStream(shardPath, FileMode.Open, FileAccess.Read, FileShare.Read | FileShare.Delete))
+            {
+                foreach (JToken floor in manifest["floors"])
+                {
+                    project.Levels.Add(ReadFloor(shards, (long)floor["offset"], (int)floor["size"]));
+                }
+            }
+            return project;
+        }
+
+        public static LevelData ReadFloor(FileStream shards, long offset, int size)
+        {
+            byte[] buffer = new byte[size];
+            shards.Seek(offset, SeekOrigin.Begin);
+            int read = 0;
+            while (read < size)
+            {
+                int n = shards.Read(buffer, read, size - read);
+                if (n == 0) throw new EndOfStreamException("Kat parçası eksik: " + shards.Name);
+                read += n;
+            }
+            return JsonConvert.DeserializeObject<LevelData>(Encoding.UTF8.GetString(buffer));
+        }
+    }
+}
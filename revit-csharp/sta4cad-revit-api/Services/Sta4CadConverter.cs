@@ -1,4 +1,5 @@
 ﻿using Newtonsoft.Json;
+using Newtonsoft.Json.Linq;
 using System;
 using System.Diagnostics;
 using System.IO;
@@ -11,6 +12,13 @@ namespace v01.Services
     {
         public ProjectData Convert(string st4FilePath)
         {
+            // "watch" modu çalışıyorsa model kaydedildiğinde JSON zaten dosyanın yanında hazırdır
+            ProjectData watched = TryReadWatchOutput(st4FilePath);
+            if (watched != null)
+            {
+                return watched;
+            }
+
             string addinPath = Path.GetDirectoryName(typeof(ImportCommand).Assembly.Location);
             string jarPath = Path.Combine(addinPath, "sta4cad-imp.jar");
 
@@ -66,11 +74,37 @@ namespace v01.Services
             }
         }
 
+        // .st4 ile aynı adlı .json, modelden daha yeniyse (izleme modunun çıktısı) doğrudan okunur; aksi halde null
+        private ProjectData TryReadWatchOutput(string st4FilePath)
+        {
+            string jsonPath = Path.ChangeExtension(st4FilePath, ".json");
+            try
+            {
+                if (!File.Exists(jsonPath) || File.GetLastWriteTimeUtc(jsonPath) < File.GetLastWriteTimeUtc(st4FilePath))
+                {
+                    return null;
+                }
+                JObject root = JObject.Parse(File.ReadAllText(jsonPath));
+                return ShardedProjectReader.IsManifest(root)
+                    ? ShardedProjectReader.Load(jsonPath, root)
+                    : root.ToObject<ProjectData>();
+            }
+            catch (Exception ex)
+            {
+                Debug.WriteLine("İzleme çıktısı okunamadı, .jar ile dönüştürülecek: " + ex.Message);
+                return null;
+            }
+        }
+
         private void ExecuteJarProcess(string jarPath, string inputFile, string outputFile)
         {
+            // Jar'ın yanında AppCDS arşivi (sta4cad-imp.jsa) varsa JVM açılışını hızlandırmak için kullanılır
+            string archivePath = Path.ChangeExtension(jarPath, ".jsa");
+            string cdsOption = File.Exists(archivePath) ? $"-XX:SharedArchiveFile=\"{archivePath}\" " : "";
+
             ProcessStartInfo startInfo = new ProcessStartInfo("java.exe")
             {
-                Arguments = $"-jar \"{jarPath}\" \"{inputFile}\" \"{outputFile}\"",
+                Arguments = $"{cdsOption}-jar \"{jarPath}\" \"{inputFile}\" \"{outputFile}\"",
                 UseShellExecute = false,
                 RedirectStandardOutput = true,
                 RedirectStandardError = true,